@@ -40,6 +40,16 @@ public interface DMNPathsHelper {
      */
     List<Path> getDMNModelsPaths(final WorkspaceProject workspaceProject);
 
+    /**
+     * This method returns the DMN paths of a given project indexed with a namespace. On standalone mode, where the
+     * models aren't indexed, all DMN paths are returned.
+     * @param workspaceProject represents the project that will be scanned.
+     * @param namespace the namespace of the DMN models.
+     * @return the paths that may have the namespace.
+     */
+    List<Path> getDMNModelsPathsByNamespace(final WorkspaceProject workspaceProject,
+                                            final String namespace);
+
     /**
      * This method returns all PMML paths for a given project.
      * @param workspaceProject represents the project that will be scanned.
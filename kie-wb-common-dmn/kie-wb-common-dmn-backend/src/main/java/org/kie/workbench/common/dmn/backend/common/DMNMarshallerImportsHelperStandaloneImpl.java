@@ -21,11 +21,15 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -75,8 +79,10 @@ public class DMNMarshallerImportsHelperStandaloneImpl implements DMNMarshallerIm
 
     private final PMMLIncludedDocumentFactory pmmlDocumentFactory;
 
+    private final DMNModelsCache modelsCache;
+
     public DMNMarshallerImportsHelperStandaloneImpl() {
-        this(null, null, null, null, null, null);
+        this(null, null, null, null, null, null, null);
     }
 
     @Inject
@@ -85,13 +91,15 @@ public class DMNMarshallerImportsHelperStandaloneImpl implements DMNMarshallerIm
                                                     final DMNMarshaller marshaller,
                                                     final DMNIOHelper dmnIOHelper,
                                                     final PMMLIncludedDocumentFactory pmmlDocumentFactory,
-                                                    final @Named("ioStrategy") IOService ioService) {
+                                                    final @Named("ioStrategy") IOService ioService,
+                                                    final DMNModelsCache modelsCache) {
         this.pathsHelper = pathsHelper;
         this.projectService = projectService;
         this.marshaller = marshaller;
         this.dmnIOHelper = dmnIOHelper;
         this.pmmlDocumentFactory = pmmlDocumentFactory;
         this.ioService = ioService;
+        this.modelsCache = modelsCache;
     }
 
     @Override
@@ -101,7 +109,7 @@ public class DMNMarshallerImportsHelperStandaloneImpl implements DMNMarshallerIm
         final Map<Import, Definitions> importDefinitions = new HashMap<>();
 
         if (!imports.isEmpty()) {
-            for (final Definitions definitions : getOtherDMNDiagramsDefinitions(metadata)) {
+            for (final Definitions definitions : getOtherDMNDiagramsDefinitions(metadata, getNamespaces(imports))) {
                 findImportByDefinitions(definitions, imports).ifPresent(anImport -> importDefinitions.put(anImport, definitions));
             }
         }
@@ -132,11 +140,15 @@ public class DMNMarshallerImportsHelperStandaloneImpl implements DMNMarshallerIm
         final Map<Import, String> importXML = new HashMap<>();
 
         if (!imports.isEmpty()) {
-            final List<String> othersXml = getOtherDMNDiagramsXML(metadata);
             final HashMap<Definitions, String> definitions = new HashMap<>();
-            for (final String xml : othersXml) {
+            for (final Path path : getImportedDMNDiagramsPaths(metadata, imports)) {
+                final String xml = loadPath(path).map(dmnIOHelper::isAsString).orElse(null);
+                if (xml == null) {
+                    continue;
+                }
                 try (final StringReader sr = toStringReader(xml)) {
                     final Definitions dmnModelDefinition = marshaller.unmarshal(sr);
+                    modelsCache.put(path, dmnModelDefinition);
                     definitions.put(dmnModelDefinition, xml);
                 }
             }
@@ -154,9 +166,9 @@ public class DMNMarshallerImportsHelperStandaloneImpl implements DMNMarshallerIm
 
         for (final Path dmnModelPath : getDMNDiagramPaths(metadata)) {
 
-            final Optional<Definitions> definitions = getDefinitionsByPath(dmnModelPath);
+            final Optional<DMNModelsCache.Model> model = getModel(dmnModelPath);
 
-            if (definitions.map(d -> Objects.equals(d.getNamespace(), modelNamespace) && Objects.equals(d.getName(), modelName)).orElse(false)) {
+            if (model.map(m -> m.is(modelNamespace, modelName)).orElse(false)) {
                 return dmnModelPath;
             }
         }
@@ -200,15 +212,59 @@ public class DMNMarshallerImportsHelperStandaloneImpl implements DMNMarshallerIm
 
     private Optional<Definitions> findDefinitionsByNamespace(final WorkspaceProject workspaceProject,
                                                              final String namespace) {
-        return pathsHelper
-                .getDMNModelsPaths(workspaceProject)
+        final Optional<Definitions> indexed = findDefinitionsByNamespace(pathsHelper.getDMNModelsPathsByNamespace(workspaceProject, namespace),
+                                                                         namespace);
+        if (indexed.isPresent()) {
+            return indexed;
+        }
+        // the model may not be indexed yet
+        return findDefinitionsByNamespace(pathsHelper.getDMNModelsPaths(workspaceProject),
+                                          namespace);
+    }
+
+    private Optional<Definitions> findDefinitionsByNamespace(final List<Path> paths,
+                                                             final String namespace) {
+        return paths
                 .stream()
-                .map(path -> getDefinitionsByPath(path).orElse(null))
+                .filter(path -> mayHaveNamespace(path, Collections.singleton(namespace)))
+                .map(path -> loadDefinitions(path).orElse(null))
                 .filter(Objects::nonNull)
                 .filter(definitions -> Objects.equals(definitions.getNamespace(), namespace))
                 .findAny();
     }
 
+    /**
+     * The model of a path, parsed only if the path isn't in the cache
+     */
+    private Optional<DMNModelsCache.Model> getModel(final Path path) {
+        final Optional<DMNModelsCache.Model> model = modelsCache.get(path);
+        if (model.isPresent()) {
+            return model;
+        }
+        return getDefinitionsByPath(path).map(definitions -> modelsCache.put(path, definitions));
+    }
+
+    private Optional<Definitions> loadDefinitions(final Path path) {
+        final Optional<Definitions> definitions = getDefinitionsByPath(path);
+        definitions.ifPresent(d -> modelsCache.put(path, d));
+        return definitions;
+    }
+
+    /**
+     * False only when the cache knows that the model of the path has another namespace
+     */
+    private boolean mayHaveNamespace(final Path path,
+                                     final Set<String> namespaces) {
+        return modelsCache.get(path).map(model -> namespaces.contains(model.getNamespace())).orElse(true);
+    }
+
+    private Set<String> getNamespaces(final List<Import> imports) {
+        return imports
+                .stream()
+                .map(Import::getNamespace)
+                .collect(Collectors.toSet());
+    }
+
     List<ItemDefinition> getItemDefinitionsWithNamespace(final Definitions definitions,
                                                          final Import anImport) {
 
@@ -308,13 +364,24 @@ public class DMNMarshallerImportsHelperStandaloneImpl implements DMNMarshallerIm
     }
 
     List<Definitions> getOtherDMNDiagramsDefinitions(final Metadata metadata) {
-        final List<Path> diagramPaths = getDMNDiagramPaths(metadata);
-        return diagramPaths
+        return loadOtherDMNDiagramsDefinitions(metadata, path -> true);
+    }
+
+    /**
+     * The other models of the project with one of the namespaces: the models already in the cache with another
+     * namespace aren't parsed
+     */
+    List<Definitions> getOtherDMNDiagramsDefinitions(final Metadata metadata,
+                                                     final Set<String> namespaces) {
+        return loadOtherDMNDiagramsDefinitions(metadata, path -> mayHaveNamespace(path, namespaces));
+    }
+
+    private List<Definitions> loadOtherDMNDiagramsDefinitions(final Metadata metadata,
+                                                              final Predicate<Path> filter) {
+        return getOtherDMNDiagramsPaths(metadata)
                 .stream()
-                .filter(path -> !Objects.equals(metadata.getPath(), path))
-                .map(path -> loadPath(path).orElse(null))
-                .filter(Objects::nonNull)
-                .map(this::toDefinitions)
+                .filter(filter)
+                .map(path -> loadDefinitions(path).orElse(null))
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
@@ -338,23 +405,53 @@ public class DMNMarshallerImportsHelperStandaloneImpl implements DMNMarshallerIm
     }
 
     Optional<Definitions> getDefinitionsByPath(final Path dmnModelPath) {
-        return loadPath(dmnModelPath).map(this::toInputStreamReader).map(marshaller::unmarshal);
+        return loadPath(dmnModelPath).map(this::toDefinitions);
     }
 
     StringReader toStringReader(final String xml) {
         return new StringReader(xml);
     }
 
-    private List<String> getOtherDMNDiagramsXML(final Metadata metadata) {
-
-        final List<Path> diagramPaths = getDMNDiagramPaths(metadata);
-        return diagramPaths
+    private List<Path> getOtherDMNDiagramsPaths(final Metadata metadata) {
+        return getDMNDiagramPaths(metadata)
                 .stream()
                 .filter(path -> !Objects.equals(metadata.getPath(), path))
-                .map(path -> loadPath(path).orElse(null))
-                .filter(Objects::nonNull)
-                .map(dmnIOHelper::isAsString)
-                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The other models of the project imported, directly or through other models, by the imports. All the other
+     * models are returned when one of them isn't in the cache yet.
+     */
+    List<Path> getImportedDMNDiagramsPaths(final Metadata metadata,
+                                           final List<Import> imports) {
+        final List<Path> others = getOtherDMNDiagramsPaths(metadata);
+        final Map<Path, DMNModelsCache.Model> models = new HashMap<>();
+        for (final Path path : others) {
+            final Optional<DMNModelsCache.Model> model = modelsCache.get(path);
+            if (!model.isPresent()) {
+                return others;
+            }
+            models.put(path, model.get());
+        }
+
+        final Set<String> namespaces = getNamespaces(imports);
+        final Set<Path> imported = new HashSet<>();
+        boolean added = true;
+        while (added) {
+            added = false;
+            for (final Map.Entry<Path, DMNModelsCache.Model> entry : models.entrySet()) {
+                if (!imported.contains(entry.getKey()) && namespaces.contains(entry.getValue().getNamespace())) {
+                    imported.add(entry.getKey());
+                    namespaces.addAll(entry.getValue().getImportedNamespaces());
+                    added = true;
+                }
+            }
+        }
+
+        return others
+                .stream()
+                .filter(imported::contains)
                 .collect(Collectors.toList());
     }
 
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.dmn.backend.common;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.kie.dmn.model.api.Definitions;
+import org.kie.dmn.model.api.Import;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceBatchChangesEvent;
+import org.uberfire.workbench.events.ResourceChange;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceRenamed;
+import org.uberfire.workbench.events.ResourceRenamedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+/**
+ * Cache of the namespace, the name and the imported namespaces of the DMN models already read, keyed by the path of
+ * the model. It lets the {@link DMNMarshallerImportsHelperStandaloneImpl} parse only the models imported by a diagram.
+ * The {@link Definitions} themselves aren't kept: the imported DRG elements are modified when they are added to the
+ * importing diagram. The entries are removed by the resource change events.
+ */
+@ApplicationScoped
+public class DMNModelsCache {
+
+    private final Map<String, Model> models = new ConcurrentHashMap<>();
+
+    public Optional<Model> get(final Path path) {
+        final String key = key(path);
+        return key == null ? Optional.empty() : Optional.ofNullable(models.get(key));
+    }
+
+    public Model put(final Path path,
+                     final Definitions definitions) {
+        final Model model = new Model(definitions);
+        final String key = key(path);
+        if (key != null) {
+            models.put(key,
+                       model);
+        }
+        return model;
+    }
+
+    public void invalidate(final Path path) {
+        final String key = key(path);
+        if (key != null) {
+            // a folder removes the models inside it
+            final String folder = key.endsWith("/") ? key : key + "/";
+            models.keySet().removeIf(uri -> uri.equals(key) || uri.startsWith(folder));
+        }
+    }
+
+    public void invalidateAll() {
+        models.clear();
+    }
+
+    public void onResourceAdded(@Observes final ResourceAddedEvent event) {
+        invalidate(event.getPath());
+    }
+
+    public void onResourceUpdated(@Observes final ResourceUpdatedEvent event) {
+        invalidate(event.getPath());
+    }
+
+    public void onResourceDeleted(@Observes final ResourceDeletedEvent event) {
+        invalidate(event.getPath());
+    }
+
+    public void onResourceRenamed(@Observes final ResourceRenamedEvent event) {
+        invalidate(event.getPath());
+        invalidate(event.getDestinationPath());
+    }
+
+    public void onBatchResourceChanges(@Observes final ResourceBatchChangesEvent event) {
+        for (final Map.Entry<Path, Collection<ResourceChange>> entry : event.getBatch().entrySet()) {
+            invalidate(entry.getKey());
+            for (final ResourceChange change : entry.getValue()) {
+                if (change instanceof ResourceRenamed) {
+                    invalidate(((ResourceRenamed) change).getDestinationPath());
+                }
+            }
+        }
+    }
+
+    int size() {
+        return models.size();
+    }
+
+    private static String key(final Path path) {
+        return path == null ? null : path.toURI();
+    }
+
+    /**
+     * What is known of a DMN model without parsing it again
+     */
+    public static class Model {
+
+        private final String namespace;
+        private final String name;
+        private final List<String> importedNamespaces;
+
+        Model(final Definitions definitions) {
+            this.namespace = definitions.getNamespace();
+            this.name = definitions.getName();
+            this.importedNamespaces = definitions.getImport() == null ?
+                    Collections.emptyList() :
+                    Collections.unmodifiableList(definitions.getImport()
+                                                         .stream()
+                                                         .map(Import::getNamespace)
+                                                         .collect(Collectors.toList()));
+        }
+
+        public String getNamespace() {
+            return namespace;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<String> getImportedNamespaces() {
+            return importedNamespaces;
+        }
+
+        public boolean is(final String namespace,
+                          final String name) {
+            return Objects.equals(this.namespace, namespace) && Objects.equals(this.name, name);
+        }
+    }
+}
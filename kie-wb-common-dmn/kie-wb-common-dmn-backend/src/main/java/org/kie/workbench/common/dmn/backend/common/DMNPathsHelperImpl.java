@@ -34,9 +34,13 @@ import org.kie.workbench.common.dmn.backend.editors.included.query.AllModelsValu
 import org.kie.workbench.common.dmn.backend.editors.included.query.PMMLValueFileExtensionIndexTerm;
 import org.kie.workbench.common.dmn.backend.editors.types.query.DMNValueFileExtensionIndexTerm;
 import org.kie.workbench.common.dmn.backend.editors.types.query.DMNValueRepositoryRootIndexTerm;
+import org.kie.workbench.common.dmn.backend.editors.types.query.FindDmnModelsByNamespaceQuery;
 import org.kie.workbench.common.services.refactoring.model.index.terms.valueterms.ValueIndexTerm;
+import org.kie.workbench.common.services.refactoring.model.index.terms.valueterms.ValueModuleRootPathIndexTerm;
+import org.kie.workbench.common.services.refactoring.model.index.terms.valueterms.ValueResourceIndexTerm;
 import org.kie.workbench.common.services.refactoring.model.query.RefactoringPageRequest;
 import org.kie.workbench.common.services.refactoring.service.RefactoringQueryService;
+import org.kie.workbench.common.services.refactoring.service.ResourceType;
 import org.uberfire.apache.commons.io.FilenameUtils;
 import org.uberfire.backend.server.util.Paths;
 import org.uberfire.backend.vfs.Path;
@@ -46,6 +50,7 @@ import org.uberfire.java.nio.file.DirectoryStream;
 
 import static java.lang.Boolean.TRUE;
 import static org.kie.workbench.common.dmn.backend.editors.types.query.FindAllDmnAssetsQuery.NAME;
+import static org.kie.workbench.common.services.refactoring.model.index.terms.valueterms.ValueIndexTerm.TermSearchType.PREFIX;
 
 @ApplicationScoped
 public class DMNPathsHelperImpl implements DMNPathsHelper {
@@ -91,6 +96,17 @@ public class DMNPathsHelperImpl implements DMNPathsHelper {
         }
     }
 
+    @Override
+    public List<Path> getDMNModelsPathsByNamespace(final WorkspaceProject workspaceProject,
+                                                   final String namespace) {
+        if (workspaceProject != null) {
+            return getPathsByWorkspaceProject(FindDmnModelsByNamespaceQuery.NAME,
+                                              namespaceQueryTerms(workspaceProject.getRootPath().toURI(), namespace));
+        } else {
+            return getStandalonePaths(dmnModelFilter());
+        }
+    }
+
     @Override
     public List<Path> getPMMLModelsPaths(final WorkspaceProject workspaceProject) {
         if (workspaceProject != null) {
@@ -129,7 +145,12 @@ public class DMNPathsHelperImpl implements DMNPathsHelper {
     //---------------------------
 
     private List<Path> getPathsByWorkspaceProject(final Set<ValueIndexTerm> queryTerms) {
-        final RefactoringPageRequest request = buildRequest(queryTerms);
+        return getPathsByWorkspaceProject(NAME, queryTerms);
+    }
+
+    private List<Path> getPathsByWorkspaceProject(final String queryName,
+                                                  final Set<ValueIndexTerm> queryTerms) {
+        final RefactoringPageRequest request = buildRequest(queryName, queryTerms);
         return refactoringQueryService
                 .query(request)
                 .getPageRowList()
@@ -138,8 +159,9 @@ public class DMNPathsHelperImpl implements DMNPathsHelper {
                 .collect(Collectors.toList());
     }
 
-    private RefactoringPageRequest buildRequest(final Set<ValueIndexTerm> queryTerms) {
-        return new RefactoringPageRequest(NAME, queryTerms, 0, 1000, TRUE);
+    private RefactoringPageRequest buildRequest(final String queryName,
+                                                final Set<ValueIndexTerm> queryTerms) {
+        return new RefactoringPageRequest(queryName, queryTerms, 0, 1000, TRUE);
     }
 
     private Set<ValueIndexTerm> modelsQueryTerms(final String rootPath) {
@@ -156,6 +178,14 @@ public class DMNPathsHelperImpl implements DMNPathsHelper {
         return queryTerms;
     }
 
+    private Set<ValueIndexTerm> namespaceQueryTerms(final String rootPath,
+                                                    final String namespace) {
+        final Set<ValueIndexTerm> queryTerms = new HashSet<>();
+        queryTerms.add(new ValueModuleRootPathIndexTerm(rootPath, PREFIX));
+        queryTerms.add(new ValueResourceIndexTerm(namespace, ResourceType.DMN_NAMESPACE));
+        return queryTerms;
+    }
+
     private Set<ValueIndexTerm> pmmlQueryTerms(final String rootPath) {
         final Set<ValueIndexTerm> queryTerms = new HashSet<>();
         queryTerms.add(new DMNValueRepositoryRootIndexTerm(rootPath));
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.dmn.backend.editors.types.query;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.apache.lucene.search.Query;
+import org.kie.workbench.common.services.refactoring.backend.server.query.NamedQuery;
+import org.kie.workbench.common.services.refactoring.backend.server.query.response.DefaultResponseBuilder;
+import org.kie.workbench.common.services.refactoring.backend.server.query.response.ResponseBuilder;
+import org.kie.workbench.common.services.refactoring.backend.server.query.standard.AbstractFindQuery;
+import org.kie.workbench.common.services.refactoring.model.index.terms.ModuleRootPathIndexTerm;
+import org.kie.workbench.common.services.refactoring.model.index.terms.valueterms.ValueIndexTerm;
+import org.kie.workbench.common.services.refactoring.model.index.terms.valueterms.ValueModuleRootPathIndexTerm;
+import org.kie.workbench.common.services.refactoring.model.index.terms.valueterms.ValueResourceIndexTerm;
+import org.kie.workbench.common.services.refactoring.service.ResourceType;
+
+/**
+ * Finds the paths of the DMN models of a project with a namespace, indexed by the DMNFileIndexer.
+ */
+@ApplicationScoped
+public class FindDmnModelsByNamespaceQuery extends AbstractFindQuery implements NamedQuery {
+
+    public static final String NAME = "FindDmnModelsByNamespaceQuery";
+
+    private final DefaultResponseBuilder responseBuilder;
+
+    @Inject
+    public FindDmnModelsByNamespaceQuery(final DefaultResponseBuilder responseBuilder) {
+        this.responseBuilder = responseBuilder;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Query toQuery(final Set<ValueIndexTerm> terms) {
+        checkNotNullAndNotEmpty(terms);
+        return buildFromMultipleTerms(terms);
+    }
+
+    @Override
+    public ResponseBuilder getResponseBuilder() {
+        return responseBuilder;
+    }
+
+    @Override
+    public void validateTerms(final Set<ValueIndexTerm> queryTerms) throws IllegalArgumentException {
+        checkInvalidAndRequiredTerms(queryTerms, NAME, requiredTermNames(), namespaceIndexTermPredicate(), moduleRootPathIndexTermPredicate());
+        checkTermsSize(2, queryTerms);
+    }
+
+    Predicate<ValueIndexTerm> namespaceIndexTermPredicate() {
+        return (t) -> (t instanceof ValueResourceIndexTerm) && ResourceType.DMN_NAMESPACE.toString().equals(((ValueResourceIndexTerm) t).getTerm());
+    }
+
+    Predicate<ValueIndexTerm> moduleRootPathIndexTermPredicate() {
+        return (t) -> (t instanceof ValueModuleRootPathIndexTerm);
+    }
+
+    String[] requiredTermNames() {
+        return new String[]{
+                ValueResourceIndexTerm.class.getSimpleName(),
+                ModuleRootPathIndexTerm.TERM
+        };
+    }
+}
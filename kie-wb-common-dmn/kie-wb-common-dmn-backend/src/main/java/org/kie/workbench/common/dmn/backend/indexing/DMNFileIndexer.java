@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.dmn.backend.indexing;
+
+import java.io.InputStream;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.kie.workbench.common.dmn.api.resource.DMNDefinitionSetResourceType;
+import org.kie.workbench.common.services.refactoring.Resource;
+import org.kie.workbench.common.services.refactoring.backend.server.indexing.AbstractFileIndexer;
+import org.kie.workbench.common.services.refactoring.backend.server.indexing.DefaultIndexBuilder;
+import org.kie.workbench.common.services.refactoring.backend.server.indexing.IndexBuilder;
+import org.kie.workbench.common.services.refactoring.service.ResourceType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uberfire.backend.server.util.Paths;
+import org.uberfire.java.nio.file.Path;
+
+/**
+ * Indexes the namespace of the DMN models as a {@link ResourceType#DMN_NAMESPACE} resource, so that the model of a
+ * namespace is found without reading the other models of the project.
+ * Only the root element of the model is read.
+ */
+@ApplicationScoped
+public class DMNFileIndexer extends AbstractFileIndexer {
+
+    private static final Logger logger = LoggerFactory.getLogger(DMNFileIndexer.class);
+
+    static final String NAMESPACE_ATTRIBUTE = "namespace";
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = newXMLInputFactory();
+
+    private DMNDefinitionSetResourceType dmnTypeDefinition;
+
+    public DMNFileIndexer() {
+        //CDI proxy
+    }
+
+    @Inject
+    public DMNFileIndexer(final DMNDefinitionSetResourceType dmnTypeDefinition) {
+        this.dmnTypeDefinition = dmnTypeDefinition;
+    }
+
+    @Override
+    public boolean supportsPath(final Path path) {
+        return dmnTypeDefinition.accept(Paths.convert(path));
+    }
+
+    @Override
+    protected IndexBuilder fillIndexBuilder(final Path path) throws Exception {
+        final DefaultIndexBuilder builder = getIndexBuilder(path);
+        if (builder == null) {
+            return null;
+        }
+
+        final String namespace = readNamespace(path);
+        if (namespace == null || namespace.isEmpty()) {
+            logger.warn("Unable to read the namespace of the DMN model " + path.toUri().toString() + ".");
+        } else {
+            builder.addGenerator(new Resource(namespace,
+                                              ResourceType.DMN_NAMESPACE));
+        }
+
+        return builder;
+    }
+
+    String readNamespace(final Path path) throws Exception {
+        try (final InputStream inputStream = ioService.newInputStream(path)) {
+            return readNamespace(inputStream);
+        }
+    }
+
+    static String readNamespace(final InputStream inputStream) throws XMLStreamException {
+        final XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                    return reader.getAttributeValue(null,
+                                                    NAMESPACE_ATTRIBUTE);
+                }
+            }
+            return null;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static XMLInputFactory newXMLInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD,
+                            false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES,
+                            false);
+        return factory;
+    }
+}
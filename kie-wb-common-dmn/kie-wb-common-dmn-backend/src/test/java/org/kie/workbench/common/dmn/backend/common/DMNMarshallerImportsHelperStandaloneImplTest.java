@@ -24,10 +24,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Scanner;
+import java.util.Set;
 
 import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
@@ -69,7 +71,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.uberfire.backend.vfs.PathFactory.PathImpl;
@@ -95,16 +99,20 @@ public class DMNMarshallerImportsHelperStandaloneImplTest {
     @Mock
     private PMMLIncludedDocumentFactory pmmlDocumentFactory;
 
+    private DMNModelsCache modelsCache;
+
     private DMNMarshallerImportsHelperStandaloneImpl helper;
 
     @Before
     public void setup() {
+        modelsCache = new DMNModelsCache();
         helper = spy(new DMNMarshallerImportsHelperStandaloneImpl(pathsHelper,
                                                                   projectService,
                                                                   marshaller,
                                                                   dmnIOHelper,
                                                                   pmmlDocumentFactory,
-                                                                  ioService));
+                                                                  ioService,
+                                                                  modelsCache));
     }
 
     @Test
@@ -126,7 +134,8 @@ public class DMNMarshallerImportsHelperStandaloneImplTest {
         when(import1.getNamespace()).thenReturn("://namespace1");
         when(import2.getNamespace()).thenReturn("://namespace2-diff");
         when(import3.getNamespace()).thenReturn("://namespace3");
-        doReturn(definitions).when(helper).getOtherDMNDiagramsDefinitions(metadata);
+        final Set<String> namespaces = new HashSet<>(asList("://namespace1", "://namespace2-diff", "://namespace3"));
+        doReturn(definitions).when(helper).getOtherDMNDiagramsDefinitions(metadata, namespaces);
 
         final Map<Import, Definitions> importDefinitions = helper.getImportDefinitions(metadata, imports);
 
@@ -135,6 +144,58 @@ public class DMNMarshallerImportsHelperStandaloneImplTest {
         assertEquals(definitions3, importDefinitions.get(import3));
     }
 
+    @Test
+    public void testGetImportDefinitionsLoadsOnlyTheImportedModelsOnceCached() {
+
+        final Metadata metadata = mock(Metadata.class);
+        final Import import1 = mock(Import.class);
+        final Path path1 = makePath("../file1.dmn");
+        final Path path2 = makePath("../file2.dmn");
+        final Definitions definitions1 = mock(Definitions.class);
+        final Definitions definitions2 = mock(Definitions.class);
+
+        when(import1.getNamespace()).thenReturn("://namespace1");
+        when(definitions1.getNamespace()).thenReturn("://namespace1");
+        when(definitions2.getNamespace()).thenReturn("://namespace2");
+        when(pathsHelper.getDMNModelsPaths(any())).thenReturn(asList(path1, path2));
+        doReturn(Optional.of(definitions1)).when(helper).getDefinitionsByPath(path1);
+        doReturn(Optional.of(definitions2)).when(helper).getDefinitionsByPath(path2);
+
+        helper.getImportDefinitions(metadata, singletonList(import1));
+        final Map<Import, Definitions> importDefinitions = helper.getImportDefinitions(metadata, singletonList(import1));
+
+        assertEquals(1, importDefinitions.size());
+        assertEquals(definitions1, importDefinitions.get(import1));
+        verify(helper, times(2)).getDefinitionsByPath(path1);
+        verify(helper, times(1)).getDefinitionsByPath(path2);
+    }
+
+    @Test
+    public void testGetImportedDMNDiagramsPathsFollowsTheImportChain() {
+
+        final Metadata metadata = mock(Metadata.class);
+        final Path path1 = makePath("../file1.dmn");
+        final Path path2 = makePath("../file2.dmn");
+        final Path path3 = makePath("../file3.dmn");
+        final Import import1 = mock(Import.class);
+        final Import import2 = mock(Import.class);
+
+        when(import1.getNamespace()).thenReturn("://namespace1");
+        when(import2.getNamespace()).thenReturn("://namespace2");
+        when(pathsHelper.getDMNModelsPaths(any())).thenReturn(asList(path1, path2, path3));
+
+        // Model 1 imports Model 2, Model 3 isn't imported
+        modelsCache.put(path1, makeDefinitions("://namespace1", import2));
+        modelsCache.put(path2, makeDefinitions("://namespace2"));
+
+        // Model 3 has never been read: all the models are candidates
+        assertEquals(asList(path1, path2, path3), helper.getImportedDMNDiagramsPaths(metadata, singletonList(import1)));
+
+        modelsCache.put(path3, makeDefinitions("://namespace3"));
+
+        assertEquals(asList(path1, path2), helper.getImportedDMNDiagramsPaths(metadata, singletonList(import1)));
+    }
+
     @Test
     public void testGetPMMLDocuments() {
         final Path dmnModelPath = mock(Path.class);
@@ -536,6 +597,26 @@ public class DMNMarshallerImportsHelperStandaloneImplTest {
         assertEquals(expectedItemDefinitions, actualItemDefinitions);
     }
 
+    @Test
+    public void testGetImportedItemDefinitionsByNamespaceWhenTheModelIsIndexed() {
+
+        final WorkspaceProject workspaceProject = mock(WorkspaceProject.class);
+        final String namespace = "://namespace1";
+        final Path path1 = makePath("../file1.dmn");
+        final Definitions definitions1 = mock(Definitions.class);
+        final ItemDefinition itemDefinition1 = mock(ItemDefinition.class);
+
+        when(pathsHelper.getDMNModelsPathsByNamespace(workspaceProject, namespace)).thenReturn(singletonList(path1));
+        doReturn(Optional.of(definitions1)).when(helper).getDefinitionsByPath(path1);
+        when(definitions1.getNamespace()).thenReturn(namespace);
+        when(definitions1.getItemDefinition()).thenReturn(singletonList(itemDefinition1));
+
+        final List<ItemDefinition> actualItemDefinitions = helper.getImportedItemDefinitionsByNamespace(workspaceProject, "model1", namespace);
+
+        assertEquals(singletonList(itemDefinition1), actualItemDefinitions);
+        verify(pathsHelper, never()).getDMNModelsPaths(any());
+    }
+
     @Test
     public void testGetModelPath() {
 
@@ -763,6 +844,17 @@ public class DMNMarshallerImportsHelperStandaloneImplTest {
         assertFalse(result.containsKey(def3));
     }
 
+    private Definitions makeDefinitions(final String namespace,
+                                        final Import... imports) {
+
+        final Definitions definitions = mock(Definitions.class);
+
+        when(definitions.getNamespace()).thenReturn(namespace);
+        when(definitions.getImport()).thenReturn(asList(imports));
+
+        return definitions;
+    }
+
     private Path makePath(final String uri) {
 
         final PathImpl path = spy(new PathImpl());
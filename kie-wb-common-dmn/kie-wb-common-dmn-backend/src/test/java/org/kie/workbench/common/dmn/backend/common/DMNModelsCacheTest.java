@@ -0,0 +1,114 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.dmn.backend.common;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.dmn.model.api.Definitions;
+import org.kie.dmn.model.api.Import;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.backend.vfs.PathFactory;
+import org.uberfire.workbench.events.ResourceBatchChangesEvent;
+import org.uberfire.workbench.events.ResourceChange;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DMNModelsCacheTest {
+
+    private DMNModelsCache cache;
+
+    private Path path1;
+
+    private Path path2;
+
+    @Before
+    public void setup() {
+        cache = new DMNModelsCache();
+        path1 = PathFactory.newPath("model1.dmn", "default://master@repo/project/src/main/resources/model1.dmn");
+        path2 = PathFactory.newPath("model2.dmn", "default://master@repo/project/src/main/resources/model2.dmn");
+    }
+
+    @Test
+    public void testPut() {
+
+        final Import anImport = mock(Import.class);
+        final Definitions definitions = mock(Definitions.class);
+
+        when(anImport.getNamespace()).thenReturn("://namespace2");
+        when(definitions.getNamespace()).thenReturn("://namespace1");
+        when(definitions.getName()).thenReturn("model1");
+        when(definitions.getImport()).thenReturn(singletonList(anImport));
+
+        cache.put(path1, definitions);
+
+        final DMNModelsCache.Model model = cache.get(path1).get();
+        assertEquals("://namespace1", model.getNamespace());
+        assertEquals("model1", model.getName());
+        assertEquals(singletonList("://namespace2"), model.getImportedNamespaces());
+        assertTrue(model.is("://namespace1", "model1"));
+        assertFalse(cache.get(path2).isPresent());
+    }
+
+    @Test
+    public void testUpdatedModelIsRemoved() {
+
+        cache.put(path1, mock(Definitions.class));
+        cache.put(path2, mock(Definitions.class));
+
+        cache.onResourceUpdated(new ResourceUpdatedEvent(path1, "message", null));
+
+        assertFalse(cache.get(path1).isPresent());
+        assertTrue(cache.get(path2).isPresent());
+    }
+
+    @Test
+    public void testDeletedFolderRemovesItsModels() {
+
+        cache.put(path1, mock(Definitions.class));
+        cache.put(path2, mock(Definitions.class));
+
+        cache.onResourceDeleted(new ResourceDeletedEvent(PathFactory.newPath("resources", "default://master@repo/project/src/main/resources"), "message", null));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testBatchChanges() {
+
+        cache.put(path1, mock(Definitions.class));
+        cache.put(path2, mock(Definitions.class));
+
+        final Map<Path, Collection<ResourceChange>> batch = new HashMap<>();
+        batch.put(path2, singletonList(mock(ResourceChange.class)));
+
+        cache.onBatchResourceChanges(new ResourceBatchChangesEvent(batch, "message", null));
+
+        assertTrue(cache.get(path1).isPresent());
+        assertFalse(cache.get(path2).isPresent());
+    }
+}
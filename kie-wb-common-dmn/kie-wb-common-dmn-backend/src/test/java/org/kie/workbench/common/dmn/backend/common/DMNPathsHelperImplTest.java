@@ -85,6 +85,11 @@ public class DMNPathsHelperImplTest {
         doTestGetPathsWhenWorkspaceProjectIsNull(workspaceProject1 -> pathsHelper.getDMNModelsPaths(null));
     }
 
+    @Test
+    public void testGetDMNModelsPathsByNamespaceWhenWorkspaceProjectIsNull() {
+        doTestGetPathsWhenWorkspaceProjectIsNull(workspaceProject1 -> pathsHelper.getDMNModelsPathsByNamespace(null, "://namespace"));
+    }
+
     @Test
     public void testGetPMMLDocumentsPathsWhenWorkspaceProjectIsNull() {
         doTestGetPathsWhenWorkspaceProjectIsNull(workspaceProject1 -> pathsHelper.getPMMLModelsPaths(null));
@@ -118,6 +123,11 @@ public class DMNPathsHelperImplTest {
         doTestGetPathsWhenWorkspaceProjectIsNotNull(workspaceProject -> pathsHelper.getDMNModelsPaths(workspaceProject));
     }
 
+    @Test
+    public void testGetDMNModelsPathsByNamespaceWhenWorkspaceProjectIsNotNull() {
+        doTestGetPathsWhenWorkspaceProjectIsNotNull(workspaceProject -> pathsHelper.getDMNModelsPathsByNamespace(workspaceProject, "://namespace"));
+    }
+
     @Test
     public void testGetPMMLDocumentsPathsWhenWorkspaceProjectIsNotNull() {
         doTestGetPathsWhenWorkspaceProjectIsNotNull(workspaceProject -> pathsHelper.getPMMLModelsPaths(workspaceProject));
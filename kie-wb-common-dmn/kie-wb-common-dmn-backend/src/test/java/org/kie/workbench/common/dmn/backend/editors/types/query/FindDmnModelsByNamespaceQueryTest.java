@@ -0,0 +1,90 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.dmn.backend.editors.types.query;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.services.refactoring.backend.server.query.response.DefaultResponseBuilder;
+import org.kie.workbench.common.services.refactoring.model.index.terms.valueterms.ValueIndexTerm;
+import org.kie.workbench.common.services.refactoring.model.index.terms.valueterms.ValueModuleRootPathIndexTerm;
+import org.kie.workbench.common.services.refactoring.model.index.terms.valueterms.ValueResourceIndexTerm;
+import org.kie.workbench.common.services.refactoring.service.ResourceType;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.kie.workbench.common.dmn.backend.editors.types.query.FindDmnModelsByNamespaceQuery.NAME;
+import static org.kie.workbench.common.services.refactoring.model.index.terms.valueterms.ValueIndexTerm.TermSearchType.PREFIX;
+import static org.mockito.Mockito.mock;
+
+public class FindDmnModelsByNamespaceQueryTest {
+
+    private DefaultResponseBuilder responseBuilder;
+
+    private FindDmnModelsByNamespaceQuery query;
+
+    @Before
+    public void setup() {
+        responseBuilder = mock(DefaultResponseBuilder.class);
+        query = new FindDmnModelsByNamespaceQuery(responseBuilder);
+    }
+
+    @Test
+    public void testGetName() {
+        assertEquals(NAME, query.getName());
+    }
+
+    @Test
+    public void testGetResponseBuilder() {
+        assertEquals(responseBuilder, query.getResponseBuilder());
+    }
+
+    @Test
+    public void testValidateTerms() {
+
+        final Set<ValueIndexTerm> queryTerms = new HashSet<>();
+        queryTerms.add(new ValueResourceIndexTerm("://namespace", ResourceType.DMN_NAMESPACE));
+        queryTerms.add(new ValueModuleRootPathIndexTerm("default://master@repo/project", PREFIX));
+
+        query.validateTerms(queryTerms);
+    }
+
+    @Test
+    public void testValidateTermsWhenTheNamespaceIsMissing() {
+
+        final Set<ValueIndexTerm> queryTerms = new HashSet<>();
+        queryTerms.add(new ValueModuleRootPathIndexTerm("default://master@repo/project", PREFIX));
+
+        assertThatThrownBy(() -> query.validateTerms(queryTerms)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testNamespaceIndexTermPredicate() {
+        assertTrue(query.namespaceIndexTermPredicate().test(new ValueResourceIndexTerm("://namespace", ResourceType.DMN_NAMESPACE)));
+        assertFalse(query.namespaceIndexTermPredicate().test(new ValueResourceIndexTerm("process", ResourceType.BPMN2)));
+        assertFalse(query.namespaceIndexTermPredicate().test(new DMNValueFileExtensionIndexTerm()));
+    }
+
+    @Test
+    public void testModuleRootPathIndexTermPredicate() {
+        assertTrue(query.moduleRootPathIndexTermPredicate().test(new ValueModuleRootPathIndexTerm("default://master@repo/project")));
+        assertFalse(query.moduleRootPathIndexTermPredicate().test(new DMNValueRepositoryRootIndexTerm("default://master@repo/project")));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.dmn.backend.indexing;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class DMNFileIndexerTest {
+
+    @Test
+    public void testReadNamespace() throws Exception {
+
+        final String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<dmn:definitions xmlns:dmn=\"http://www.omg.org/spec/DMN/20180521/MODEL/\" " +
+                "id=\"_1\" name=\"model1\" namespace=\"https://kiegroup.org/dmn/_1\">\n" +
+                "  <dmn:inputData id=\"_2\" name=\"input\" namespace=\"not the model\"/>\n" +
+                "</dmn:definitions>";
+
+        assertEquals("https://kiegroup.org/dmn/_1", DMNFileIndexer.readNamespace(toInputStream(xml)));
+    }
+
+    @Test
+    public void testReadNamespaceWhenThereIsNoNamespace() throws Exception {
+
+        final String xml = "<dmn:definitions xmlns:dmn=\"http://www.omg.org/spec/DMN/20180521/MODEL/\" name=\"model1\"/>";
+
+        assertNull(DMNFileIndexer.readNamespace(toInputStream(xml)));
+    }
+
+    private InputStream toInputStream(final String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+}
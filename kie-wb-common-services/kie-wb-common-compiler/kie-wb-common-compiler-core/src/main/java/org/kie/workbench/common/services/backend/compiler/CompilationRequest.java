@@ -90,4 +90,11 @@ public interface CompilationRequest {
      * @return
      */
     Properties getBannedEnvVars();
+
+    /**
+     * Degree of parallelism of the Maven reactor, like the -T option of Maven ("4" for four threads,
+     * "1C" for one thread per core), the independent modules are built on separate threads
+     * @return the degree of parallelism, null for a single threaded build
+     */
+    String getThreads();
 }
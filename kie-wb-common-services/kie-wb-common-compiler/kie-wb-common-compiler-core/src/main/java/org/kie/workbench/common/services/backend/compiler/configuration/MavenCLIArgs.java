@@ -53,4 +53,6 @@ public class MavenCLIArgs {
     public static final String FAIL_NEVER = "-fn";
 
     public static final String DEPENDENCY_RESOLVE = "dependency:resolve";
+
+    public static final String THREADS = "-T";
 }
@@ -31,6 +31,7 @@ import org.kie.workbench.common.services.backend.compiler.configuration.MavenCon
 import org.kie.workbench.common.services.backend.compiler.impl.external339.ReusableAFMavenCli;
 import org.kie.workbench.common.services.backend.compiler.impl.incrementalenabler.DefaultIncrementalCompilerEnabler;
 import org.kie.workbench.common.services.backend.compiler.impl.incrementalenabler.IncrementalCompilerEnabler;
+import org.kie.workbench.common.services.backend.logback.appender.CompilationThreadGroup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
@@ -102,7 +103,12 @@ public class BaseMavenCompiler<T extends CompilationResponse> implements AFCompi
         ClassLoader original = Thread.currentThread().getContextClassLoader();
         ClassWorld kieClassWorld = new ClassWorld("plexus.core", getClass().getClassLoader());
 
-        int exitCode = cli.doMain(req.getKieCliRequest(), kieClassWorld);
+        int exitCode;
+        if (req.getThreads() != null && !skipLog) {
+            exitCode = doMainInCompilationThreadGroup(req, kieClassWorld);
+        } else {
+            exitCode = cli.doMain(req.getKieCliRequest(), kieClassWorld);
+        }
 
         Thread.currentThread().setContextClassLoader(original);
         if (exitCode == 0) {
@@ -112,6 +118,55 @@ public class BaseMavenCompiler<T extends CompilationResponse> implements AFCompi
         }
     }
 
+    /**
+     * With a parallel reactor the modules are built by threads created by Maven, without the MDC of this thread.
+     * Maven is run by a thread of a CompilationThreadGroup, the builder threads inherit its group
+     * and the KieSiftingAppender reads the compilation id from the group.
+     * The build thread is awaited even if this thread is interrupted, what it throws is rethrown to the caller
+     * as if Maven was run by this thread.
+     */
+    private int doMainInCompilationThreadGroup(CompilationRequest req,
+                                               ClassWorld kieClassWorld) {
+        final int[] exitCode = {1};
+        final Throwable[] failure = {null};
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        final Thread buildThread = new Thread(new CompilationThreadGroup(req.getRequestUUID()), () -> {
+            MDC.put(MavenConfig.COMPILATION_ID, req.getRequestUUID());
+            try {
+                exitCode[0] = cli.doMain(req.getKieCliRequest(), kieClassWorld);
+            } catch (Throwable t) {
+                failure[0] = t;
+            } finally {
+                MDC.clear();
+            }
+        }, req.getRequestUUID());
+        buildThread.setContextClassLoader(contextClassLoader);
+        buildThread.start();
+        boolean interrupted = false;
+        while (buildThread.isAlive()) {
+            try {
+                buildThread.join();
+            } catch (InterruptedException e) {
+                if (!interrupted) {
+                    logger.error("Build {} interrupted, waiting for Maven to stop", req.getRequestUUID());
+                    buildThread.interrupt();
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure[0] instanceof RuntimeException) {
+            throw (RuntimeException) failure[0];
+        } else if (failure[0] instanceof Error) {
+            throw (Error) failure[0];
+        } else if (failure[0] != null) {
+            throw new RuntimeException(failure[0]);
+        }
+        return exitCode[0];
+    }
+
     @Override
     public T compile(final CompilationRequest req,
                      final Map<Path, InputStream> override) {
@@ -15,20 +15,28 @@
  */
 package org.kie.workbench.common.services.backend.compiler.impl;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
 
 import org.kie.workbench.common.services.backend.compiler.CompilationRequest;
+import org.kie.workbench.common.services.backend.compiler.configuration.MavenCLIArgs;
 import org.kie.workbench.common.services.backend.compiler.configuration.MavenConfig;
 import org.kie.workbench.common.services.backend.compiler.impl.external339.AFCliRequest;
 
 /***
  * Implementation of CompilationRequest, holds the information for the AFMavenCli
+ * <p>The degree of parallelism of the reactor is taken from the property {@value #THREADS} when it isn't set on the
+ * request, without the property the build is single threaded.</p>
  */
 public class DefaultCompilationRequest implements CompilationRequest {
 
+    public static final String THREADS = "org.kie.workbench.compiler.threads";
+    private static final String THREADS_LONG = "--threads";
+
     private AFCliRequest req;
     private WorkspaceCompilationInfo info;
     private String requestUUID;
@@ -37,6 +45,7 @@ public class DefaultCompilationRequest implements CompilationRequest {
     private Boolean skipPrjDependenciesCreationList;
     private Boolean restoreOverride;
     private Properties bannedEnvVars;
+    private String threads;
 
     /***
      * @param mavenRepoPath a string representation of the Path
@@ -93,6 +102,24 @@ public class DefaultCompilationRequest implements CompilationRequest {
                                      String[] args,
                                      Boolean skipPrjDependenciesCreationList,
                                      boolean restoreOverride, String uuid) {
+        this(mavenRepoPath, info, args, skipPrjDependenciesCreationList, restoreOverride, uuid, System.getProperty(THREADS));
+    }
+
+    /***
+     * @param mavenRepoPath a string representation of the Path
+     * @param info
+     * @param args param for maven, can be used {@link org.kie.workbench.common.services.backend.compiler.configuration.MavenCLIArgs}
+     * @param skipPrjDependenciesCreationList if false a List with all dependencies of the project will be available in the response
+     * @param restoreOverride if true the overrided files are restored after the build
+     * @param uuid a unique uuid identifier
+     * @param threads degree of parallelism of the reactor like the -T option of Maven ("4", "1C"), null for a single threaded build
+     */
+    public DefaultCompilationRequest(String mavenRepoPath,
+                                     WorkspaceCompilationInfo info,
+                                     String[] args,
+                                     Boolean skipPrjDependenciesCreationList,
+                                     boolean restoreOverride, String uuid,
+                                     String threads) {
         this.mavenRepoPath = mavenRepoPath;
         this.info = info;
         this.skipPrjDependenciesCreationList = skipPrjDependenciesCreationList;
@@ -100,10 +127,12 @@ public class DefaultCompilationRequest implements CompilationRequest {
         this.restoreOverride = restoreOverride;
         this.originalArgs = args;
         this.bannedEnvVars = info.getBennedEnvVars();
-        Map internalMap = new HashMap();
+        this.threads = threads == null || threads.trim().isEmpty() ? null : threads.trim();
+        // with a parallel reactor the plugins of the modules write in the map from different threads
+        Map internalMap = Collections.synchronizedMap(new HashMap());
         internalMap.put(MavenConfig.COMPILATION_ID, this.requestUUID);
         this.req = new AFCliRequest(this.info.getPrjPath().toAbsolutePath().toString(),
-                                    args,
+                                    addThreads(args, this.threads),
                                     internalMap,
                                     this.requestUUID,
                                     this.bannedEnvVars);
@@ -117,6 +146,23 @@ public class DefaultCompilationRequest implements CompilationRequest {
         this(mavenRepoPath, info, args, skipPrjDependenciesCreationList, restoreOverride, UUID.randomUUID().toString());
     }
 
+    private static String[] addThreads(String[] args,
+                                       String threads) {
+        if (threads == null || args == null) {
+            return args;
+        }
+        for (String arg : args) {
+            // the threads set in the args win
+            if (arg.startsWith(MavenCLIArgs.THREADS) || arg.startsWith(THREADS_LONG)) {
+                return args;
+            }
+        }
+        String[] argsWithThreads = Arrays.copyOf(args, args.length + 2);
+        argsWithThreads[args.length] = MavenCLIArgs.THREADS;
+        argsWithThreads[args.length + 1] = threads;
+        return argsWithThreads;
+    }
+
     @Override
     public String getRequestUUID() {
         return requestUUID;
@@ -171,4 +217,9 @@ public class DefaultCompilationRequest implements CompilationRequest {
         return bannedEnvVars;
     }
 
+    @Override
+    public String getThreads() {
+        return threads;
+    }
+
 }
\ No newline at end of file
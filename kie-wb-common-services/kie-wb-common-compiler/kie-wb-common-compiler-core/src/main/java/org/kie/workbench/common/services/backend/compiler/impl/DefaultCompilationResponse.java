@@ -15,6 +15,8 @@
  */
 package org.kie.workbench.common.services.backend.compiler.impl;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.net.URI;
 import java.net.URL;
@@ -22,6 +24,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.kie.workbench.common.services.backend.compiler.CompilationResponse;
 import org.kie.workbench.common.services.backend.compiler.impl.classloader.CompilerClassloaderUtils;
@@ -48,6 +51,8 @@ public class DefaultCompilationResponse implements CompilationResponse,
     private List<URI> targetContentAsURI = Collections.emptyList();
     private List<URL> targetContentAsURL = Collections.emptyList();
 
+    private transient Supplier<List<String>> mavenOutputLoader;
+
     public DefaultCompilationResponse(final Boolean successful,
                                       final List<String> mavenOutput,
                                       final Path workingDir,
@@ -79,6 +84,20 @@ public class DefaultCompilationResponse implements CompilationResponse,
         this.requestUUID = requestUUID;
     }
 
+    /***
+     * The maven output is loaded through the mavenOutputLoader at the first request
+     */
+    public DefaultCompilationResponse(final Boolean successful,
+                                      final Supplier<List<String>> mavenOutputLoader,
+                                      final Path workingDir,
+                                      final List<String> targetContent,
+                                      final List<String> projectDependencies,
+                                      final String requestUUID) {
+        this(successful, (List<String>) null, workingDir, targetContent, projectDependencies, requestUUID);
+        this.mavenOutput = null;
+        this.mavenOutputLoader = mavenOutputLoader;
+    }
+
     private <T> List<T> nullToEmpty(List<T> list) {
         if (list == null) {
             return Collections.emptyList();
@@ -91,6 +110,9 @@ public class DefaultCompilationResponse implements CompilationResponse,
     }
 
     public List<String> getMavenOutput() {
+        if (mavenOutput == null) {
+            mavenOutput = nullToEmpty(mavenOutputLoader != null ? mavenOutputLoader.get() : null);
+        }
         return mavenOutput;
     }
 
@@ -172,11 +194,16 @@ public class DefaultCompilationResponse implements CompilationResponse,
         return Collections.emptyList();
     }
 
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        getMavenOutput();
+        out.defaultWriteObject();
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("DefaultCompilationResponse{");
         sb.append("successful=").append(successful);
-        sb.append(", mavenOutput=").append(mavenOutput);
+        sb.append(", mavenOutput=").append(getMavenOutput());
         sb.append(", workingDir=").append(workingDir);
         sb.append(", requestUUID='").append(requestUUID).append('\'');
         sb.append(", projectDependencies=").append(projectDependencies);
@@ -109,12 +109,21 @@ public class DefaultKieCompilationResponse implements KieCompilationResponse,
     }
 
     public DefaultKieCompilationResponse(DefaultKieCompilationResponseOffProcess res) {
-        this.defaultResponse = new DefaultCompilationResponse(res.isSuccessful(),
-                                                              res.getMavenOutput(),
-                                                              getWorkingDir(res.getWorkingDir()),
-                                                              res.getTargetContent(),
-                                                              res.getDependencies(),
-                                                              res.getRequestUUID());
+        if (res.getMavenOutputLoader() != null) {
+            this.defaultResponse = new DefaultCompilationResponse(res.isSuccessful(),
+                                                                  res.getMavenOutputLoader(),
+                                                                  getWorkingDir(res.getWorkingDir()),
+                                                                  res.getTargetContent(),
+                                                                  res.getDependencies(),
+                                                                  res.getRequestUUID());
+        } else {
+            this.defaultResponse = new DefaultCompilationResponse(res.isSuccessful(),
+                                                                  res.getMavenOutput(),
+                                                                  getWorkingDir(res.getWorkingDir()),
+                                                                  res.getTargetContent(),
+                                                                  res.getDependencies(),
+                                                                  res.getRequestUUID());
+        }
 
         this.kieModuleMetaInfo = res.getKieModuleMetaInfo().orElse(null);
         this.kieModule = res.getKieModule().orElse(null);
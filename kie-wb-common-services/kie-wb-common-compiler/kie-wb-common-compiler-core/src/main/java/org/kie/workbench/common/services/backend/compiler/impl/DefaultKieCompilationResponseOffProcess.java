@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.drools.core.rule.KieModuleMetaInfo;
 import org.kie.api.builder.KieModule;
@@ -51,6 +52,8 @@ public class DefaultKieCompilationResponseOffProcess implements Serializable {
     private List<URI> targetContentAsURI = Collections.emptyList();
     private List<URL> targetContentAsURL = Collections.emptyList();
 
+    private transient Supplier<List<String>> mavenOutputLoader;
+
     public DefaultKieCompilationResponseOffProcess(boolean successful, String requestUUID) {
         this.successful = successful;
         this.requestUUID = requestUUID;
@@ -74,6 +77,32 @@ public class DefaultKieCompilationResponseOffProcess implements Serializable {
         this.workingDir = res.getWorkingDir().map(Object::toString).orElse("");
     }
 
+    /***
+     * Used by the readers of the off process responses, the maven output is loaded through the mavenOutputLoader
+     * only when requested
+     */
+    public DefaultKieCompilationResponseOffProcess(boolean successful,
+                                                   String requestUUID,
+                                                   String workingDir,
+                                                   KieModuleMetaInfo kieModuleMetaInfo,
+                                                   KieModule kieModule,
+                                                   Map<String, byte[]> projectClassLoaderStore,
+                                                   Set<String> eventsTypeClasses,
+                                                   List<String> projectDependencies,
+                                                   List<String> targetContent,
+                                                   Supplier<List<String>> mavenOutputLoader) {
+        this.successful = successful;
+        this.requestUUID = requestUUID;
+        this.workingDir = workingDir;
+        this.kieModuleMetaInfo = kieModuleMetaInfo;
+        this.kieModule = kieModule;
+        this.projectClassLoaderStore = projectClassLoaderStore;
+        this.eventsTypeClasses = eventsTypeClasses;
+        this.projectDependencies = projectDependencies;
+        this.targetContent = targetContent;
+        this.mavenOutputLoader = mavenOutputLoader;
+    }
+
     public Optional<KieModuleMetaInfo> getKieModuleMetaInfo() {
         return Optional.ofNullable(kieModuleMetaInfo);
     }
@@ -95,7 +124,17 @@ public class DefaultKieCompilationResponseOffProcess implements Serializable {
     }
 
     public List<String> getMavenOutput() {
-        return new ArrayList<>(mavenOutput);
+        if (mavenOutput == null && mavenOutputLoader != null) {
+            mavenOutput = mavenOutputLoader.get();
+        }
+        return new ArrayList<>(Optional.ofNullable(mavenOutput).orElse(Collections.emptyList()));
+    }
+
+    /***
+     * Loader of the maven output when it is read lazily, null when the maven output is already loaded
+     */
+    public Supplier<List<String>> getMavenOutputLoader() {
+        return mavenOutput == null ? mavenOutputLoader : null;
     }
 
     public String getWorkingDir() {
@@ -65,6 +65,8 @@ public class CompilerClassloaderUtils {
 
     protected static final Logger logger = LoggerFactory.getLogger(CompilerClassloaderUtils.class);
 
+    private static final DependenciesClasspathCache classpathCache = new DependenciesClasspathCache();
+
     private CompilerClassloaderUtils() {
     }
 
@@ -78,6 +80,16 @@ public class CompilerClassloaderUtils {
                                                                           String localRepo,
                                                                           String settingsXmlPath) {
 
+        List<String> poms = MavenUtils.searchPoms(Paths.get(URI.create(CommonConstants.FILE_URI + prjPath)));
+        String key = DependenciesClasspathCache.key(poms,
+                                                    MavenConfig.DEPS_IN_MEMORY_BUILD_CLASSPATH,
+                                                    localRepo,
+                                                    settingsXmlPath);
+        Optional<List<String>> cached = classpathCache.get(key);
+        if (cached.isPresent()) {
+            return classpathCache.getClassLoader(readAllDepsAsUrls(cached.get()));
+        }
+
         AFCompiler compiler = KieMavenCompilerFactory.getCompiler(EnumSet.of(KieDecorator.STORE_BUILD_CLASSPATH));
         WorkspaceCompilationInfo info = new WorkspaceCompilationInfo(Paths.get(URI.create(CommonConstants.FILE_URI + prjPath)));
         CompilationRequest req;
@@ -99,6 +111,8 @@ public class CompilerClassloaderUtils {
              for this reason we use a relative path and then we read each file present in each module to build a unique classpath file
              * */
             if (!res.getDependencies().isEmpty()) {
+                classpathCache.put(key,
+                                   res.getDependencies());
                 Optional<ClassLoader> urlClassLoader = CompilerClassloaderUtils.createClassloaderFromStringDeps(res.getDependencies());
                 if (urlClassLoader.isPresent()) {
                     return urlClassLoader;
@@ -143,14 +157,14 @@ public class CompilerClassloaderUtils {
                 MavenUtils.searchPoms(Paths.get(URI.create(CommonConstants.FILE_URI + prjPath)));
         List<URL> urls = getDependenciesURL(poms,
                                             localRepo);
-        return buildResult(urls);
+        return classpathCache.getClassLoader(urls);
     }
 
     public static Optional<ClassLoader> loadDependenciesClassloaderFromProject(List<String> poms,
                                                                                String localRepo) {
         List<URL> urls = getDependenciesURL(poms,
                                             localRepo);
-        return buildResult(urls);
+        return classpathCache.getClassLoader(urls);
     }
 
     public static Optional<ClassLoader> getClassloaderFromProjectTargets(List<String> pomsPaths) {
@@ -174,11 +188,23 @@ public class CompilerClassloaderUtils {
 
     public static List<URL> getDependenciesURL(List<String> poms,
                                                String localRepo) {
+        String key = DependenciesClasspathCache.key(poms,
+                                                    localRepo);
+        Optional<List<String>> cached = classpathCache.get(key);
+        if (cached.isPresent()) {
+            return readAllDepsAsUrls(cached.get());
+        }
         List<Artifact> artifacts = MavenUtils.resolveDependenciesFromMultimodulePrj(poms);
         List<URL> urls = Collections.emptyList();
         try {
             urls = buildUrlsFromArtifacts(localRepo,
                                           artifacts);
+            List<String> classpath = new ArrayList<>(urls.size());
+            for (URL url : urls) {
+                classpath.add(url.toExternalForm());
+            }
+            classpathCache.put(key,
+                               classpath);
         } catch (MalformedURLException ex) {
             logger.error(ex.getMessage());
         }
@@ -216,12 +242,7 @@ public class CompilerClassloaderUtils {
 
     public static Optional<ClassLoader> createClassloaderFromStringDeps(List<String> depsProject) {
         List<URL> deps = readAllDepsAsUrls(depsProject);
-        if (deps.isEmpty()) {
-            return Optional.empty();
-        } else {
-            URLClassLoader urlClassLoader = new URLClassLoader(deps.toArray(new URL[deps.size()]));
-            return Optional.of(urlClassLoader);
-        }
+        return classpathCache.getClassLoader(deps);
     }
 
     public static List<URL> readAllDepsAsUrls(List<String> prjDeps) {
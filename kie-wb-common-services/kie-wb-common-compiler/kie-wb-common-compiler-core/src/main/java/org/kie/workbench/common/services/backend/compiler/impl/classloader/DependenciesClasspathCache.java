@@ -0,0 +1,229 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.impl.classloader;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.kie.workbench.common.services.backend.compiler.impl.CommonConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.kie.workbench.common.services.backend.compiler.impl.utils.CacheUtils.getPositiveNumberProperty;
+import static org.kie.workbench.common.services.backend.compiler.impl.utils.CacheUtils.newSha256Digest;
+import static org.kie.workbench.common.services.backend.compiler.impl.utils.CacheUtils.toHex;
+
+/***
+ * Cache of the resolved dependencies classpath of the projects, keyed by a hash of the content of the poms and of the
+ * other inputs of the resolution (maven repo, settings).
+ * <p>The classpaths are kept in memory (at most {@value #DEFAULT_CACHE_SIZE} entries, property {@value #CACHE_SIZE})
+ * and written on the folder of the property {@value #CACHE_DIR} (default java.io.tmpdir/kie-compiler-classpath-cache),
+ * to be available after a restart.</p>
+ * <p>The projects with the same classpath share the same dependencies URLClassLoader. An evicted classloader is only
+ * dropped from the cache, not closed, as projects can still use it: it's collected with its jars once no project
+ * references it anymore.</p>
+ */
+public class DependenciesClasspathCache {
+
+    public static final String CACHE_SIZE = "org.kie.workbench.compiler.classpath.cache.size";
+    public static final String CACHE_DIR = "org.kie.workbench.compiler.classpath.cache.dir";
+    protected static final String DEFAULT_CACHE_SIZE = "100";
+    private static final String CLASSPATH_EXT = ".classpath";
+
+    private static final Logger logger = LoggerFactory.getLogger(DependenciesClasspathCache.class);
+
+    private final Map<String, List<String>> classpaths;
+    private final Map<List<String>, URLClassLoader> classLoaders;
+    private final Path cacheDir;
+
+    public DependenciesClasspathCache() {
+        this(Integer.parseInt(getPositiveNumberProperty(CACHE_SIZE, DEFAULT_CACHE_SIZE)),
+             System.getProperty(CACHE_DIR, getDefaultCacheDir()));
+    }
+
+    public DependenciesClasspathCache(final int maxEntries,
+                                      final String cacheDir) {
+        this.cacheDir = cacheDir != null && !cacheDir.isEmpty() ? Paths.get(cacheDir) : null;
+        this.classpaths = new LinkedHashMap<String, List<String>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, List<String>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.classLoaders = new LinkedHashMap<List<String>, URLClassLoader>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<List<String>, URLClassLoader> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    private static String getDefaultCacheDir() {
+        return Paths.get(System.getProperty("java.io.tmpdir"), "kie-compiler-classpath-cache").toString();
+    }
+
+    /***
+     * Hash of the content of the poms and of the inputs, null if a pom can't be read
+     */
+    public static String key(final List<String> pomsPaths,
+                             final String... inputs) {
+        try {
+            final MessageDigest digest = newSha256Digest();
+            for (String input : inputs) {
+                digest.update(String.valueOf(input).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            final List<String> poms = new ArrayList<>(pomsPaths);
+            Collections.sort(poms);
+            for (String pom : poms) {
+                digest.update(Files.readAllBytes(Paths.get(pom)));
+                digest.update((byte) 0);
+            }
+            return toHex(digest);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Unable to compute the classpath cache key: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /***
+     * The cached classpath of the key, empty if it isn't cached or if some of its files were removed since
+     */
+    public synchronized Optional<List<String>> get(final String key) {
+        if (key == null) {
+            return Optional.empty();
+        }
+        List<String> classpath = classpaths.get(key);
+        if (classpath == null) {
+            classpath = read(key);
+        }
+        if (classpath == null) {
+            return Optional.empty();
+        }
+        if (!isAvailable(classpath)) {
+            invalidate(key);
+            return Optional.empty();
+        }
+        classpaths.put(key, classpath);
+        return Optional.of(classpath);
+    }
+
+    public synchronized void put(final String key,
+                                 final List<String> classpath) {
+        if (key == null || classpath == null || classpath.isEmpty()) {
+            return;
+        }
+        final List<String> entry = Collections.unmodifiableList(new ArrayList<>(classpath));
+        classpaths.put(key, entry);
+        write(key, entry);
+    }
+
+    public synchronized void invalidate(final String key) {
+        classpaths.remove(key);
+        if (cacheDir != null) {
+            try {
+                Files.deleteIfExists(cacheDir.resolve(key + CLASSPATH_EXT));
+            } catch (IOException e) {
+                logger.warn("Unable to delete the cached classpath {}: {}", key, e.getMessage());
+            }
+        }
+    }
+
+    /***
+     * The URLClassLoader of the urls, shared with all the projects with the same dependencies.
+     * The classloader is shared, the callers must not close it.
+     */
+    public synchronized Optional<ClassLoader> getClassLoader(final List<URL> urls) {
+        if (urls.isEmpty()) {
+            return Optional.empty();
+        }
+        final List<String> key = new ArrayList<>(urls.size());
+        for (URL url : urls) {
+            key.add(url.toExternalForm());
+        }
+        URLClassLoader classLoader = classLoaders.get(key);
+        if (classLoader == null) {
+            classLoader = new URLClassLoader(urls.toArray(new URL[urls.size()]));
+            classLoaders.put(key, classLoader);
+        }
+        return Optional.of(classLoader);
+    }
+
+    /***
+     * True if all the files of the classpath are still present, a persisted classpath could refer to jars removed
+     * from the maven repo
+     */
+    public static boolean isAvailable(final List<String> classpath) {
+        for (String item : classpath) {
+            final String file = item.startsWith(CommonConstants.FILE) ? item.substring(CommonConstants.FILE.length()) : item;
+            if (!Files.exists(Paths.get(file.replaceFirst("^//", "")))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    synchronized int size() {
+        return classpaths.size();
+    }
+
+    synchronized int classLoadersSize() {
+        return classLoaders.size();
+    }
+
+    private void write(final String key,
+                       final List<String> classpath) {
+        if (cacheDir == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(cacheDir);
+            final Path tmp = Files.createTempFile(cacheDir, key, ".tmp");
+            Files.write(tmp, classpath, StandardCharsets.UTF_8);
+            Files.move(tmp, cacheDir.resolve(key + CLASSPATH_EXT), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Unable to write the cached classpath {}: {}", key, e.getMessage());
+        }
+    }
+
+    private List<String> read(final String key) {
+        if (cacheDir == null) {
+            return null;
+        }
+        final Path file = cacheDir.resolve(key + CLASSPATH_EXT);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            return Collections.unmodifiableList(Files.readAllLines(file, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            logger.warn("Unable to read the cached classpath {}: {}", key, e.getMessage());
+            return null;
+        }
+    }}
@@ -16,35 +16,54 @@
 
 package org.kie.workbench.common.services.backend.compiler.impl.decorators;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.ResetCommand;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.diff.DiffEntry;
+import org.eclipse.jgit.lib.ObjectId;
 import org.kie.workbench.common.services.backend.compiler.AFCompiler;
 import org.kie.workbench.common.services.backend.compiler.CompilationRequest;
 import org.kie.workbench.common.services.backend.compiler.CompilationResponse;
 import org.kie.workbench.common.services.backend.compiler.impl.DefaultCompilationRequest;
 import org.kie.workbench.common.services.backend.compiler.impl.WorkspaceCompilationInfo;
+import org.kie.workbench.common.services.backend.compiler.impl.utils.ClassDependencyGraph;
 import org.kie.workbench.common.services.backend.compiler.impl.utils.JGitUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.uberfire.java.nio.file.Path;
 import org.uberfire.java.nio.file.Paths;
 import org.uberfire.java.nio.fs.jgit.JGitFileSystem;
 
 /***
- * Before decorator to update a git repo before the build
+ * Before decorator to update a git repo before the build.
+ * The changes pulled in the temp clone are compared with the classes compiled by the previous build: the sources
+ * depending on a changed source are marked as changed, so the incremental compiler recompiles only the changed
+ * sources and their dependents and keeps the rest of target/classes.
  */
 public class JGITCompilerBeforeDecorator<T extends CompilationResponse, C extends AFCompiler<T>> implements CompilerDecorator<T> {
 
+    private static final Logger logger = LoggerFactory.getLogger(JGITCompilerBeforeDecorator.class);
+
     private Map<JGitFileSystem, Git> gitMap;
+    private Map<Git, ClassDependencyGraph> graphMap;
     private C compiler;
 
     public JGITCompilerBeforeDecorator(C compiler) {
         this.compiler = compiler;
         this.gitMap = new HashMap<>();
+        this.graphMap = new HashMap<>();
     }
 
     //for test
@@ -99,13 +118,21 @@ public class JGITCompilerBeforeDecorator<T extends CompilationResponse, C extend
                                             final CompilationRequest req) {
         try {
             if (req.getInfo().getPrjPath().getFileSystem() instanceof JGitFileSystem) {
+                final ObjectId before = JGitUtils.getHead(git);
                 JGitUtils.pullAndRebase(git);
+                final ObjectId after = JGitUtils.getHead(git);
+                if (before != null && after != null && !before.equals(after)) {
+                    markDependentSources(git,
+                                         JGitUtils.getChangedFiles(git, before, after));
+                }
 
                 return new DefaultCompilationRequest(req.getMavenRepo(),
                                                      new WorkspaceCompilationInfo(Paths.get(git.getRepository().getDirectory().getParentFile().getCanonicalFile().toPath().toUri())),
                                                      req.getOriginalArgs(),
                                                      req.skipProjectDependenciesCreationList(),
-                                                     false);
+                                                     false,
+                                                     UUID.randomUUID().toString(),
+                                                     req.getThreads());
             }
 
             return req;
@@ -114,6 +141,49 @@ public class JGITCompilerBeforeDecorator<T extends CompilationResponse, C extend
         }
     }
 
+    /***
+     * The incremental compiler recompiles the sources newer than their classes, the dependents of the changed sources
+     * are touched to be recompiled with them. The classes of the deleted sources are removed from target/classes.
+     */
+    private void markDependentSources(final Git git,
+                                      final List<DiffEntry> changes) {
+        final ClassDependencyGraph graph = graphMap.computeIfAbsent(git, g -> new ClassDependencyGraph());
+        graph.refresh(git.getRepository().getWorkTree().toPath());
+        final Set<String> changed = new HashSet<>();
+        for (DiffEntry change : changes) {
+            ClassDependencyGraph.getClassName(change.getNewPath()).ifPresent(changed::add);
+            final Optional<String> oldClass = ClassDependencyGraph.getClassName(change.getOldPath());
+            oldClass.ifPresent(changed::add);
+            if (oldClass.isPresent() && (change.getChangeType() == DiffEntry.ChangeType.DELETE || change.getChangeType() == DiffEntry.ChangeType.RENAME)) {
+                for (java.nio.file.Path classFile : graph.getClassFiles(oldClass.get())) {
+                    try {
+                        Files.deleteIfExists(classFile);
+                    } catch (IOException e) {
+                        logger.warn("Unable to delete the class {}: {}", classFile, e.getMessage());
+                    }
+                }
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        final Set<String> dependents = graph.getDependents(changed);
+        final FileTime now = FileTime.fromMillis(System.currentTimeMillis());
+        for (String dependent : dependents) {
+            final Optional<java.nio.file.Path> source = graph.getSource(dependent);
+            if (source.isPresent()) {
+                try {
+                    Files.setLastModifiedTime(source.get(), now);
+                } catch (IOException e) {
+                    logger.warn("Unable to mark the source {} as changed: {}", source.get(), e.getMessage());
+                }
+            }
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Changed sources:{} dependent sources:{}", changed.size(), dependents.size());
+        }
+    }
+
     private Optional<Git> getGit(final CompilationRequest req) {
         final Path projectPath = req.getInfo().getPrjPath();
         if (projectPath.getFileSystem() instanceof JGitFileSystem) {
@@ -25,7 +25,9 @@ import org.kie.workbench.common.services.backend.logback.OutputSharedMap;
 import org.slf4j.MDC;
 
 /***
- * After decorator to read and store the maven output as a List<String> in the CompilationResponse
+ * After decorator to read and store the maven output as a List<String> in the CompilationResponse.
+ * The response contains only the last lines of the output, the whole output can be read with
+ * OutputSharedMap.streamLog using the request UUID of the response.
  */
 public class OutputLogAfterDecorator<T extends CompilationResponse, C extends AFCompiler<T>> implements CompilerDecorator {
 
@@ -54,7 +56,7 @@ public class OutputLogAfterDecorator<T extends CompilationResponse, C extends AF
 
     private T handleMavenOutput(CompilationRequest req, T res) {
         T t = (T) new DefaultCompilationResponse(res.isSuccessful(),
-                                                 OutputSharedMap.getLog(req.getKieCliRequest().getRequestUUID()),
+                                                 OutputSharedMap.getTail(req.getKieCliRequest().getRequestUUID()),
                                                  req.getInfo().getPrjPath(),
                                                  res.getDependencies(),
                                                  req.getRequestUUID());
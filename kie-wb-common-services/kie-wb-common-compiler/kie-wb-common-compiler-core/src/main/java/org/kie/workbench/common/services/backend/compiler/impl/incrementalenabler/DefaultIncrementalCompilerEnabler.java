@@ -17,13 +17,13 @@ package org.kie.workbench.common.services.backend.compiler.impl.incrementalenabl
 
 import java.net.URI;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import org.kie.workbench.common.services.backend.compiler.CompilationRequest;
 import org.kie.workbench.common.services.backend.compiler.configuration.ConfigurationContextProvider;
 import org.kie.workbench.common.services.backend.compiler.impl.pomprocessor.DefaultPomEditor;
+import org.kie.workbench.common.services.backend.compiler.impl.pomprocessor.PomFingerprints;
 import org.kie.workbench.common.services.backend.compiler.impl.pomprocessor.PomPlaceHolder;
 import org.kie.workbench.common.services.backend.compiler.impl.pomprocessor.ProcessedPoms;
 import org.kie.workbench.common.services.backend.compiler.impl.utils.MavenUtils;
@@ -32,7 +32,8 @@ import org.uberfire.java.nio.file.Path;
 import org.uberfire.java.nio.file.Paths;
 
 /***
- * It process all the poms found into a prj changing the build tag accordingly to the internal algo
+ * It process all the poms found into a prj changing the build tag accordingly to the internal algo.
+ * The poms already processed are recognized by their fingerprint and skipped.
  */
 public class DefaultIncrementalCompilerEnabler implements IncrementalCompilerEnabler {
 
@@ -45,7 +46,9 @@ public class DefaultIncrementalCompilerEnabler implements IncrementalCompilerEna
         ConfigurationContextProvider confProvider = new ConfigurationContextProvider();
         isValidConfiguration = confProvider.isValid();
         if (isValidConfiguration) {
-            editor = new DefaultPomEditor(new HashSet<>(), confProvider);
+            editor = new DefaultPomEditor(DefaultPomEditor.newHistory(),
+                                          confProvider,
+                                          new PomFingerprints());
         }
     }
 
@@ -60,21 +63,18 @@ public class DefaultIncrementalCompilerEnabler implements IncrementalCompilerEna
             return new ProcessedPoms(Boolean.FALSE, Collections.emptyList());
         }
 
-        PomPlaceHolder placeHolder = editor.readSingle(mainPom);
-        Boolean isPresent = isPresent(placeHolder);   // check if the main pom is already scanned and edited
-        if (placeHolder.isValid() && !isPresent) {
-            List<String> pomsList = MavenUtils.searchPoms(mainPom.getParent()); // recursive NIO search in all subfolders
-            boolean result = false;
-            if (pomsList.size() > 0) {
-                result = processFoundPoms(pomsList,
-                                          req);
-            }
-            return new ProcessedPoms(result,
-                                     pomsList);
-        } else {
+        if (!editor.isProcessed(mainPom) && !editor.readSingle(mainPom).isValid()) {
             return new ProcessedPoms(Boolean.FALSE,
                                      Collections.emptyList());
         }
+        List<String> pomsList = MavenUtils.searchPoms(mainPom.getParent()); // recursive NIO search in all subfolders
+        boolean result = false;
+        if (pomsList.size() > 0) {
+            result = processFoundPoms(pomsList,
+                                      req);
+        }
+        return new ProcessedPoms(result,
+                                 pomsList);
     }
 
     private boolean processFoundPoms(List<String> poms,
@@ -83,21 +83,11 @@ public class DefaultIncrementalCompilerEnabler implements IncrementalCompilerEna
         boolean result = true;
         for (String pom : poms) {
             Path tmpPom = Paths.get(URI.create(FILE_URI + pom));
-            PomPlaceHolder tmpPlaceHolder = editor.readSingle(tmpPom);
-            if (!isPresent(tmpPlaceHolder)) {
-                result = result && editor.write(tmpPom, request);
-            }
+            result = result && editor.write(tmpPom, request);
         }
         return result;
     }
 
-    /**
-     * Check if the artifact is in the hisotry
-     */
-    private Boolean isPresent(PomPlaceHolder placeholder) {
-        return editor.getHistory().contains(placeholder);
-    }
-
     /***
      * Return a unmodifiable history
      * @return
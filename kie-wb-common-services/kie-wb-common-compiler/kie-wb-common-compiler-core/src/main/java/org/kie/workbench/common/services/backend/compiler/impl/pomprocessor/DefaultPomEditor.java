@@ -25,6 +25,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import org.apache.maven.model.Build;
 import org.apache.maven.model.Model;
@@ -35,6 +36,7 @@ import org.guvnor.common.services.project.backend.server.utils.configuration.Con
 import org.kie.workbench.common.services.backend.compiler.CompilationRequest;
 import org.kie.workbench.common.services.backend.compiler.configuration.ConfigurationProvider;
 import org.kie.workbench.common.services.backend.compiler.configuration.MavenConfig;
+import org.kie.workbench.common.services.backend.compiler.impl.utils.CacheUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.uberfire.java.nio.file.Files;
@@ -43,10 +45,15 @@ import org.uberfire.java.nio.file.Paths;
 import org.uberfire.java.nio.file.StandardOpenOption;
 
 /***
- * IS the main actor in the changes to the build tag in the poms
+ * IS the main actor in the changes to the build tag in the poms.
+ * The poms already processed are recognized by their fingerprint and not parsed or written again,
+ * the history keeps at most {@value #DEFAULT_HISTORY_SIZE} poms (property {@value #HISTORY_SIZE}).
  */
 public class DefaultPomEditor implements PomEditor {
 
+    public static final String HISTORY_SIZE = "org.kie.workbench.compiler.pom.history.size";
+    protected static final String DEFAULT_HISTORY_SIZE = "1000";
+
     public final String POM = "pom";
     public final String TRUE = "true";
     public final String POM_NAME = "pom.xml";
@@ -57,13 +64,32 @@ public class DefaultPomEditor implements PomEditor {
     protected MavenXpp3Reader reader;
     protected MavenXpp3Writer writer;
     protected Set<PomPlaceHolder> history;
+    protected PomFingerprints fingerprints;
+    protected String confFingerprint;
 
     public DefaultPomEditor(Set<PomPlaceHolder> history,
                             ConfigurationProvider config) {
+        this(history,
+             config,
+             new PomFingerprints(Integer.parseInt(PomFingerprints.DEFAULT_SIZE), null));
+    }
+
+    public DefaultPomEditor(Set<PomPlaceHolder> history,
+                            ConfigurationProvider config,
+                            PomFingerprints fingerprints) {
         conf = config.loadConfiguration();
         reader = new MavenXpp3Reader();
         writer = new MavenXpp3Writer();
         this.history = history;
+        this.fingerprints = fingerprints;
+        this.confFingerprint = new TreeMap<>(conf).toString();
+    }
+
+    /***
+     * A bounded and thread safe history
+     */
+    public static Set<PomPlaceHolder> newHistory() {
+        return PomFingerprints.newBoundedSet(Integer.parseInt(CacheUtils.getPositiveNumberProperty(HISTORY_SIZE, DEFAULT_HISTORY_SIZE)));
     }
 
     public Set<PomPlaceHolder> getHistory() {
@@ -73,9 +99,29 @@ public class DefaultPomEditor implements PomEditor {
     @Override
     public Boolean cleanHistory() {
         history.clear();
+        fingerprints.clear();
         return Boolean.TRUE;
     }
 
+    /***
+     * True if the pom is already in the form required by the incremental build
+     */
+    public boolean isProcessed(Path pom) {
+        try {
+            return fingerprints.get(fingerprint(pom, Files.readAllBytes(pom))) != null;
+        } catch (Exception e) {
+            logger.error(e.getMessage());
+            return false;
+        }
+    }
+
+    private String fingerprint(Path pom,
+                               byte[] content) {
+        return PomFingerprints.fingerprint(pom.toAbsolutePath().toString(),
+                                           confFingerprint,
+                                           content);
+    }
+
     public PomPlaceHolder readSingle(Path pom) {
         PomPlaceHolder holder = new PomPlaceHolder();
         try {
@@ -95,7 +141,15 @@ public class DefaultPomEditor implements PomEditor {
                          CompilationRequest request) {
 
         try {
-            Model model = reader.read(new ByteArrayInputStream(Files.readAllBytes(pom)));
+            byte[] content = Files.readAllBytes(pom);
+            Boolean kiePluginPresent = fingerprints.get(fingerprint(pom, content));
+            if (kiePluginPresent != null) {
+                // already processed, the pom isn't parsed or written again
+                updateRequest(request, kiePluginPresent);
+                return true;
+            }
+
+            Model model = reader.read(new ByteArrayInputStream(content));
             if (model == null) {
                 logger.error("Model null from pom file:",
                              pom.toString());
@@ -107,40 +161,36 @@ public class DefaultPomEditor implements PomEditor {
                                                       model.getGroupId(),
                                                       model.getVersion(),
                                                       model.getPackaging(),
-                                                      Files.readAllBytes(pom));
-
-            if (!history.contains(pomPH)) {
-
-                PluginPresents plugs = updatePom(model);
-                request.getInfo().lateAdditionKiePluginPresent(plugs.isKiePluginPresent());
-                if (!request.skipProjectDependenciesCreationList()) {
-                    // we add the mvn cli args to run the dependency:build-classpath
-                    String args[] = addCreateClasspathMavenArgs(request.getKieCliRequest().getArgs(), request);
-                    request.getKieCliRequest().setArgs(args);
-                }
-                if (plugs.pomOverwriteRequired()) {
-                    ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                    writer.write(baos,
-                                 model);
-                    if (logger.isDebugEnabled()) {
-                        logger.debug("Pom changed:{}",
-                                     new String(baos.toByteArray(),
-                                                StandardCharsets.UTF_8));
-                    }
-
-                    Path pomParent = Paths.get(URI.create(
-                            new StringBuffer().
-                                    append(FILE_URI).
-                                    append(pom.getParent().toAbsolutePath().toString()).
-                                    append("/").
-                                    append(POM_NAME).toString()));
-                    Files.delete(pomParent);
-                    Files.write(pomParent,
-                                baos.toByteArray(),
-                                StandardOpenOption.CREATE_NEW);//enhanced pom
+                                                      content);
+
+            PluginPresents plugs = updatePom(model);
+            updateRequest(request, plugs.isKiePluginPresent());
+            byte[] processedContent = content;
+            if (plugs.pomOverwriteRequired()) {
+                ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                writer.write(baos,
+                             model);
+                processedContent = baos.toByteArray();
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Pom changed:{}",
+                                 new String(processedContent,
+                                            StandardCharsets.UTF_8));
                 }
-                history.add(pomPH);
+
+                Path pomParent = Paths.get(URI.create(
+                        new StringBuffer().
+                                append(FILE_URI).
+                                append(pom.getParent().toAbsolutePath().toString()).
+                                append("/").
+                                append(POM_NAME).toString()));
+                Files.delete(pomParent);
+                Files.write(pomParent,
+                            processedContent,
+                            StandardOpenOption.CREATE_NEW);//enhanced pom
             }
+            fingerprints.put(fingerprint(pom, processedContent),
+                             plugs.isKiePluginPresent());
+            history.add(pomPH);
             return true;
         } catch (Exception e) {
             logger.error(e.getMessage());
@@ -148,7 +198,15 @@ public class DefaultPomEditor implements PomEditor {
         }
     }
 
-
+    private void updateRequest(CompilationRequest request,
+                               Boolean kiePluginPresent) {
+        request.getInfo().lateAdditionKiePluginPresent(kiePluginPresent);
+        if (!request.skipProjectDependenciesCreationList()) {
+            // we add the mvn cli args to run the dependency:build-classpath
+            String args[] = addCreateClasspathMavenArgs(request.getKieCliRequest().getArgs(), request);
+            request.getKieCliRequest().setArgs(args);
+        }
+    }
 
     /* Pom's Plugin manipulation methods*/
 
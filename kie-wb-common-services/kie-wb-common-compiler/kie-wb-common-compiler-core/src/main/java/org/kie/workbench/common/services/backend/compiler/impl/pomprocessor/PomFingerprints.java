@@ -0,0 +1,155 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.impl.pomprocessor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.kie.workbench.common.services.backend.compiler.impl.utils.CacheUtils.getPositiveNumberProperty;
+import static org.kie.workbench.common.services.backend.compiler.impl.utils.CacheUtils.newSha256Digest;
+import static org.kie.workbench.common.services.backend.compiler.impl.utils.CacheUtils.toHex;
+
+/***
+ * Fingerprints of the poms already processed by the DefaultPomEditor: a hash of the path, of the content and of the
+ * plugins configuration, with the kie plugin state found in the pom.
+ * <p>A pom with a known fingerprint is already in the form required by the incremental build, it isn't parsed or
+ * written again. At most {@value #DEFAULT_SIZE} fingerprints are kept (property {@value #SIZE}), stored in the folder
+ * of the property {@value #DIR} (default java.io.tmpdir/kie-compiler-pom-fingerprints) to be available after a
+ * restart.</p>
+ */
+public class PomFingerprints {
+
+    public static final String SIZE = "org.kie.workbench.compiler.pom.fingerprints.size";
+    public static final String DIR = "org.kie.workbench.compiler.pom.fingerprints.dir";
+    protected static final String DEFAULT_SIZE = "1000";
+    private static final String FILE_NAME = "fingerprints";
+
+    private static final Logger logger = LoggerFactory.getLogger(PomFingerprints.class);
+
+    private final Map<String, Boolean> fingerprints;
+    private final Path file;
+
+    public PomFingerprints() {
+        this(Integer.parseInt(getPositiveNumberProperty(SIZE, DEFAULT_SIZE)),
+             System.getProperty(DIR, Paths.get(System.getProperty("java.io.tmpdir"), "kie-compiler-pom-fingerprints").toString()));
+    }
+
+    public PomFingerprints(final int maxEntries,
+                           final String dir) {
+        this.fingerprints = newBoundedMap(maxEntries);
+        this.file = dir != null && !dir.isEmpty() ? Paths.get(dir, FILE_NAME) : null;
+        load();
+    }
+
+    /***
+     * A thread safe set keeping the most recent maxEntries elements
+     */
+    public static <T> Set<T> newBoundedSet(final int maxEntries) {
+        return Collections.synchronizedSet(Collections.newSetFromMap(newBoundedMap(maxEntries)));
+    }
+
+    private static <K, V> Map<K, V> newBoundedMap(final int maxEntries) {
+        return new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public static String fingerprint(final String pomPath,
+                                     final String configuration,
+                                     final byte[] content) {
+        final MessageDigest digest = newSha256Digest();
+        digest.update(pomPath.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(configuration.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(content);
+        return toHex(digest);
+    }
+
+    /***
+     * The kie plugin state of the pom with this fingerprint, null if the fingerprint is unknown
+     */
+    public synchronized Boolean get(final String fingerprint) {
+        return fingerprints.get(fingerprint);
+    }
+
+    public synchronized void put(final String fingerprint,
+                                 final Boolean kiePluginPresent) {
+        if (!kiePluginPresent.equals(fingerprints.put(fingerprint, kiePluginPresent))) {
+            store();
+        }
+    }
+
+    public synchronized void clear() {
+        fingerprints.clear();
+        store();
+    }
+
+    synchronized int size() {
+        return fingerprints.size();
+    }
+
+    private void load() {
+        if (file == null || !Files.exists(file)) {
+            return;
+        }
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                final String[] items = line.split(" ");
+                if (items.length == 2) {
+                    fingerprints.put(items[0], Boolean.valueOf(items[1]));
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Unable to read the pom fingerprints {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void store() {
+        if (file == null) {
+            return;
+        }
+        final List<String> lines = new ArrayList<>(fingerprints.size());
+        for (Map.Entry<String, Boolean> entry : fingerprints.entrySet()) {
+            lines.add(entry.getKey() + " " + entry.getValue());
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            final Path tmp = Files.createTempFile(file.getParent(), FILE_NAME, ".tmp");
+            Files.write(tmp, lines, StandardCharsets.UTF_8);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Unable to write the pom fingerprints {}: {}", file, e.getMessage());
+        }
+    }
+}
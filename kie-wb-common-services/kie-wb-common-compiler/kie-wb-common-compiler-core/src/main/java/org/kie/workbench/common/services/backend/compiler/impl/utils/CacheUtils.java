@@ -0,0 +1,62 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.impl.utils;
+
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/***
+ * Helpers of the compiler caches: the system properties sizing them and the SHA-256 keys of their entries.
+ */
+public class CacheUtils {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheUtils.class);
+
+    private CacheUtils() {
+    }
+
+    /***
+     * The value of a system property that should be a positive integer, the default value if it isn't
+     */
+    public static String getPositiveNumberProperty(final String key,
+                                                   final String defaultValue) {
+        final String value = System.getProperty(key, defaultValue);
+        if (value == null || value.length() == 0 || !value.matches("^[0-9]*$")) {
+            logger.error("Illegal Argument : Property {} should be a positive integer", key);
+            return defaultValue;
+        }
+        return value;
+    }
+
+    public static MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /***
+     * The hexadecimal form of the hash of a digest, the digest is reset
+     */
+    public static String toHex(final MessageDigest digest) {
+        return String.format("%064x", new BigInteger(1, digest.digest()));
+    }
+}
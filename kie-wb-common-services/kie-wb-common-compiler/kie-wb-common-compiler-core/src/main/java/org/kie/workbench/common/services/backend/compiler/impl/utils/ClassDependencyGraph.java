@@ -0,0 +1,294 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.impl.utils;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.kie.workbench.common.services.backend.compiler.impl.CommonConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/***
+ * Graph of the dependencies between the compiled classes of a project, read from the constant pool of the class files
+ * in the target/classes folders.
+ * <p>The nodes are the top level classes (inner classes are merged with their top level class, they are compiled from
+ * the same source). The graph is refreshed incrementally, only the class files changed since the previous refresh
+ * are read again.</p>
+ */
+public class ClassDependencyGraph {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClassDependencyGraph.class);
+    private static final String TARGET = "target";
+    private static final String CLASSES = "classes";
+    private static final String SOURCES = "src" + CommonConstants.SEPARATOR + "main" + CommonConstants.SEPARATOR + "java";
+    private static final String JAVA_EXT = ".java";
+    private static final Pattern DESCRIPTOR_TYPE = Pattern.compile("L([\\w/$]+)[;<]");
+
+    private final Map<Path, ClassEntry> entries = new HashMap<>();
+
+    /***
+     * Read the class files of all the target/classes folders under the root changed since the last refresh
+     */
+    public synchronized void refresh(final Path root) {
+        final Set<Path> found = new HashSet<>();
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(final Path dir,
+                                                         final BasicFileAttributes attrs) {
+                    return String.valueOf(dir.getFileName()).startsWith(CommonConstants.DOT) ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(final Path file,
+                                                 final BasicFileAttributes attrs) {
+                    if (file.toString().endsWith(CommonConstants.JAVA_CLASS_EXT) && getClassesDir(file) != null) {
+                        found.add(file);
+                        final long lastModified = attrs.lastModifiedTime().toMillis();
+                        final ClassEntry entry = entries.get(file);
+                        if (entry == null || entry.lastModified != lastModified) {
+                            read(file, lastModified);
+                        }
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            logger.error(e.getMessage(), e);
+        }
+        entries.keySet().retainAll(found);
+    }
+
+    /***
+     * The top level classes depending directly or transitively on the classes, the classes excluded
+     */
+    public synchronized Set<String> getDependents(final Collection<String> classNames) {
+        final Map<String, Set<String>> reverse = new HashMap<>();
+        for (ClassEntry entry : entries.values()) {
+            for (String reference : entry.references) {
+                reverse.computeIfAbsent(reference, r -> new HashSet<>()).add(entry.name);
+            }
+        }
+        final Set<String> visited = new HashSet<>();
+        final Deque<String> toVisit = new ArrayDeque<>();
+        for (String name : classNames) {
+            toVisit.add(getTopLevelName(name));
+        }
+        final Set<String> roots = new HashSet<>(toVisit);
+        while (!toVisit.isEmpty()) {
+            final String name = toVisit.poll();
+            for (String dependent : reverse.getOrDefault(name, new HashSet<>())) {
+                if (visited.add(dependent)) {
+                    toVisit.add(dependent);
+                }
+            }
+        }
+        visited.removeAll(roots);
+        return visited;
+    }
+
+    /***
+     * The source file of a top level class, in the src/main/java folder of the module of its class file
+     */
+    public synchronized Optional<Path> getSource(final String className) {
+        for (ClassEntry entry : entries.values()) {
+            if (entry.name.equals(className)) {
+                final Path module = entry.classesDir.getParent().getParent();
+                final Path source = module.resolve(SOURCES).resolve(className.replace('.', '/') + JAVA_EXT);
+                if (Files.exists(source)) {
+                    return Optional.of(source);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /***
+     * The class files compiled from a top level class, inner classes included
+     */
+    public synchronized List<Path> getClassFiles(final String className) {
+        final List<Path> classFiles = new ArrayList<>();
+        for (Map.Entry<Path, ClassEntry> entry : entries.entrySet()) {
+            if (entry.getValue().name.equals(className)) {
+                classFiles.add(entry.getKey());
+            }
+        }
+        return classFiles;
+    }
+
+    /***
+     * The name of the class compiled from a path relative to the repo, empty if the path isn't a java source
+     */
+    public static Optional<String> getClassName(final String sourcePath) {
+        final int index = sourcePath.indexOf(SOURCES + CommonConstants.SEPARATOR);
+        if (index < 0 || !sourcePath.endsWith(JAVA_EXT)) {
+            return Optional.empty();
+        }
+        final String name = sourcePath.substring(index + SOURCES.length() + 1, sourcePath.length() - JAVA_EXT.length());
+        return Optional.of(name.replace('/', '.'));
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private void read(final Path classFile,
+                      final long lastModified) {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(classFile))) {
+            final ClassEntry entry = readClass(in);
+            entry.classesDir = getClassesDir(classFile);
+            entry.lastModified = lastModified;
+            entries.put(classFile, entry);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Unable to read the class file {}: {}", classFile, e.getMessage());
+            entries.remove(classFile);
+        }
+    }
+
+    private static Path getClassesDir(final Path classFile) {
+        Path current = classFile.getParent();
+        while (current != null && current.getParent() != null) {
+            if (CLASSES.equals(String.valueOf(current.getFileName())) &&
+                    TARGET.equals(String.valueOf(current.getParent().getFileName()))) {
+                return current;
+            }
+            current = current.getParent();
+        }
+        return null;
+    }
+
+    private static String getTopLevelName(final String name) {
+        final int index = name.indexOf('$');
+        return index < 0 ? name : name.substring(0, index);
+    }
+
+    static ClassEntry readClass(final InputStream in) throws IOException {
+        final DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != 0xCAFEBABE) {
+            throw new IOException("Not a class file");
+        }
+        data.readUnsignedShort();
+        data.readUnsignedShort();
+        final int count = data.readUnsignedShort();
+        final String[] utf8 = new String[count];
+        final int[] classNames = new int[count];
+        for (int i = 1; i < count; i++) {
+            final int tag = data.readUnsignedByte();
+            switch (tag) {
+                case 1:
+                    utf8[i] = data.readUTF();
+                    break;
+                case 7:
+                    classNames[i] = data.readUnsignedShort();
+                    break;
+                case 8:
+                case 16:
+                case 19:
+                case 20:
+                    data.readUnsignedShort();
+                    break;
+                case 15:
+                    data.readUnsignedByte();
+                    data.readUnsignedShort();
+                    break;
+                case 3:
+                case 4:
+                case 9:
+                case 10:
+                case 11:
+                case 12:
+                case 17:
+                case 18:
+                    data.readInt();
+                    break;
+                case 5:
+                case 6:
+                    data.readLong();
+                    i++;
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+        data.readUnsignedShort();
+        final int thisClass = data.readUnsignedShort();
+
+        final Set<String> references = new HashSet<>();
+        for (int nameIndex : classNames) {
+            if (nameIndex > 0) {
+                addReference(references, utf8[nameIndex]);
+            }
+        }
+        // the types used only in signatures (fields, parameters, generics) are present only in the descriptors
+        for (String value : utf8) {
+            if (value != null && value.indexOf(';') > 0) {
+                final Matcher matcher = DESCRIPTOR_TYPE.matcher(value);
+                while (matcher.find()) {
+                    addReference(references, matcher.group(1));
+                }
+            }
+        }
+        final ClassEntry entry = new ClassEntry();
+        entry.name = getTopLevelName(utf8[classNames[thisClass]].replace('/', '.'));
+        references.remove(entry.name);
+        entry.references = references;
+        return entry;
+    }
+
+    private static void addReference(final Set<String> references,
+                                     final String internalName) {
+        if (internalName == null || internalName.startsWith("[") || internalName.startsWith("java/")) {
+            return;
+        }
+        references.add(getTopLevelName(internalName.replace('/', '.')));
+    }
+
+    static class ClassEntry {
+
+        private String name;
+        private Set<String> references;
+        private Path classesDir;
+        private long lastModified;
+
+        String getName() {
+            return name;
+        }
+
+        Set<String> getReferences() {
+            return references;
+        }
+    }
+}
@@ -16,12 +16,21 @@
 package org.kie.workbench.common.services.backend.compiler.impl.utils;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.PullResult;
 import org.eclipse.jgit.api.RebaseResult;
 import org.eclipse.jgit.api.ResetCommand;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.diff.DiffEntry;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.CanonicalTreeParser;
 import org.kie.workbench.common.services.backend.compiler.impl.decorators.JGITCompilerBeforeDecorator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -84,4 +93,36 @@ public class JGitUtils {
             throw new RuntimeException(e);
         }
     }
+
+    public static ObjectId getHead(final Git git) {
+        try {
+            return git.getRepository().resolve(Constants.HEAD);
+        } catch (IOException e) {
+            logger.error(e.getMessage());
+            return null;
+        }
+    }
+
+    /***
+     * The files changed between two commits, paths relative to the root of the repo
+     */
+    public static List<DiffEntry> getChangedFiles(final Git git,
+                                                  final ObjectId before,
+                                                  final ObjectId after) {
+        try (ObjectReader reader = git.getRepository().newObjectReader();
+             RevWalk walk = new RevWalk(reader)) {
+            final CanonicalTreeParser oldTree = new CanonicalTreeParser();
+            oldTree.reset(reader, walk.parseCommit(before).getTree());
+            final CanonicalTreeParser newTree = new CanonicalTreeParser();
+            newTree.reset(reader, walk.parseCommit(after).getTree());
+            return git.diff()
+                    .setOldTree(oldTree)
+                    .setNewTree(newTree)
+                    .setShowNameAndStatusOnly(true)
+                    .call();
+        } catch (IOException | GitAPIException e) {
+            logger.error(e.getMessage());
+            return Collections.emptyList();
+        }
+    }
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.logback;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/***
+ * Output of a single build: the last lines are kept in a ring buffer, the older lines are moved to a file.
+ * The file is created only when the ring buffer is full, the output of a small build stays in memory.
+ */
+public class BuildOutputBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(BuildOutputBuffer.class);
+
+    private final Deque<String> ring;
+    private final int capacity;
+    private final Path spillFile;
+    private BufferedWriter writer;
+    private boolean spilled;
+    private boolean closed;
+    private boolean spillFailed;
+    private long lines;
+
+    /***
+     * @param capacity max number of lines kept in memory
+     * @param spillFile file receiving the lines removed from the memory, null to discard them
+     */
+    public BuildOutputBuffer(final int capacity,
+                             final Path spillFile) {
+        this.capacity = Math.max(capacity, 1);
+        this.ring = new ArrayDeque<>(Math.min(this.capacity, 64));
+        this.spillFile = spillFile;
+    }
+
+    public synchronized void add(final String line) {
+        if (closed) {
+            return;
+        }
+        if (ring.size() == capacity) {
+            spill(ring.pollFirst());
+        }
+        ring.addLast(line);
+        lines++;
+    }
+
+    /***
+     * The last max lines of the output
+     */
+    public synchronized List<String> getTail(final int max) {
+        final List<String> tail = new ArrayList<>(Math.min(max, ring.size()));
+        final Iterator<String> it = ring.descendingIterator();
+        while (it.hasNext() && tail.size() < max) {
+            tail.add(it.next());
+        }
+        Collections.reverse(tail);
+        return tail;
+    }
+
+    /***
+     * All the lines of the output, read from the file and from the memory
+     */
+    public List<String> getLog() {
+        final List<String> log = new ArrayList<>();
+        stream(log::add);
+        return log;
+    }
+
+    /***
+     * Send all the lines of the output to the consumer, without loading the file in memory
+     */
+    public void stream(final Consumer<String> consumer) {
+        final List<String> inMemory;
+        synchronized (this) {
+            flush();
+            if (spilled && spillFile != null) {
+                try (BufferedReader reader = Files.newBufferedReader(spillFile, StandardCharsets.UTF_8)) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        consumer.accept(line);
+                    }
+                } catch (IOException e) {
+                    logger.warn("Unable to read the build output {}: {}", spillFile, e.getMessage());
+                }
+            }
+            // after the close the lines in memory are also in the file
+            inMemory = closed && spilled && spillFile != null ? new ArrayList<>() : new ArrayList<>(ring);
+        }
+        inMemory.forEach(consumer);
+    }
+
+    public synchronized long getLines() {
+        return lines;
+    }
+
+    public synchronized boolean isSpilled() {
+        return spilled;
+    }
+
+    /***
+     * The file with the lines removed from the memory, present only if the ring buffer was full at least once
+     */
+    public synchronized Optional<Path> getSpillFile() {
+        return spilled ? Optional.ofNullable(spillFile) : Optional.empty();
+    }
+
+    /***
+     * Copy the lines in memory to the file, if the file exists, and close it. After the close the file contains the
+     * whole output and the tail is still available in memory.
+     */
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (spilled) {
+            for (String line : ring) {
+                spill(line);
+            }
+        }
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                logger.warn("Unable to close the build output {}: {}", spillFile, e.getMessage());
+            }
+            writer = null;
+        }
+    }
+
+    private void spill(final String line) {
+        spilled = true;
+        if (spillFile == null || spillFailed) {
+            return;
+        }
+        try {
+            if (writer == null) {
+                Files.createDirectories(spillFile.getParent());
+                writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8);
+            }
+            writer.write(line);
+            writer.newLine();
+        } catch (IOException e) {
+            // the next lines are discarded, a warning for each line would flood the log
+            spillFailed = true;
+            logger.warn("Unable to write the build output {}: {}", spillFile, e.getMessage());
+        }
+    }
+
+    private void flush() {
+        if (writer != null) {
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                logger.warn("Unable to write the build output {}: {}", spillFile, e.getMessage());
+            }
+        }
+    }
+}
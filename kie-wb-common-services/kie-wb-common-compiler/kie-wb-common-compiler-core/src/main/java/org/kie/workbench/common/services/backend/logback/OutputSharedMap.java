@@ -15,41 +15,147 @@
  */
 package org.kie.workbench.common.services.backend.logback;
 
-import java.util.ArrayList;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.kie.workbench.common.services.backend.compiler.impl.utils.CacheUtils.getPositiveNumberProperty;
 
 /***
- * Map to hold the outputs of the compilations using the UUID key to retrieve and store
+ * Map to hold the outputs of the compilations using the UUID key to retrieve and store.
+ * <p>Each output keeps in memory at most {@value #DEFAULT_BUFFER_SIZE} lines (property {@value #BUFFER_SIZE}),
+ * the older lines are written in a file of the folder of the property {@value #OUTPUT_DIR}
+ * (default java.io.tmpdir/kie-compiler-output). The responses receive only the last {@value #DEFAULT_TAIL_SIZE}
+ * lines (property {@value #TAIL_SIZE}), the whole output of a finished compilation can be streamed with its UUID
+ * until its file is removed, the files of the last {@value #DEFAULT_MAX_FILES} outputs are kept
+ * (property {@value #MAX_FILES}).</p>
  */
 public class OutputSharedMap {
 
-    private static Map<String, List<String>> map = new ConcurrentHashMap();
+    public static final String BUFFER_SIZE = "org.kie.workbench.compiler.output.buffer.size";
+    public static final String TAIL_SIZE = "org.kie.workbench.compiler.output.tail.size";
+    public static final String OUTPUT_DIR = "org.kie.workbench.compiler.output.dir";
+    public static final String MAX_FILES = "org.kie.workbench.compiler.output.files";
+    protected static final String DEFAULT_BUFFER_SIZE = "2000";
+    protected static final String DEFAULT_TAIL_SIZE = "1000";
+    protected static final String DEFAULT_MAX_FILES = "100";
+    private static final String LOG_EXT = ".log";
+
+    private static final Logger logger = LoggerFactory.getLogger(OutputSharedMap.class);
 
+    private static final int bufferSize = Integer.parseInt(getPositiveNumberProperty(BUFFER_SIZE, DEFAULT_BUFFER_SIZE));
+    private static final int tailSize = Integer.parseInt(getPositiveNumberProperty(TAIL_SIZE, DEFAULT_TAIL_SIZE));
+    private static final int maxFiles = Integer.parseInt(getPositiveNumberProperty(MAX_FILES, DEFAULT_MAX_FILES));
+    private static final Path outputDir = Paths.get(System.getProperty(OUTPUT_DIR, Paths.get(System.getProperty("java.io.tmpdir"), "kie-compiler-output").toString()));
+
+    private static Map<String, BuildOutputBuffer> map = new ConcurrentHashMap<>();
+    private static Deque<Path> finishedFiles = new ConcurrentLinkedDeque<>();
+
+    /***
+     * The whole output of a running compilation
+     */
     public static List<String> getLog(String key) {
-        if (map.containsKey(key)) {
-            return map.get(key);
-        } else {
-            return Collections.emptyList();
+        BuildOutputBuffer buffer = map.get(key);
+        return buffer != null ? buffer.getLog() : Collections.emptyList();
+    }
+
+    /***
+     * The last lines of the output of a running compilation
+     */
+    public static List<String> getTail(String key) {
+        BuildOutputBuffer buffer = map.get(key);
+        return buffer != null ? buffer.getTail(tailSize) : Collections.emptyList();
+    }
+
+    /***
+     * Send the whole output of a compilation, running or finished, to the consumer
+     * @return false if the output isn't available
+     */
+    public static boolean streamLog(String key, Consumer<String> consumer) {
+        BuildOutputBuffer buffer = map.get(key);
+        if (buffer != null) {
+            buffer.stream(consumer);
+            return true;
+        }
+        Path file = getFile(key);
+        if (!Files.exists(file)) {
+            return false;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                consumer.accept(line);
+            }
+            return true;
+        } catch (IOException e) {
+            logger.warn("Unable to read the output {}: {}", file, e.getMessage());
+            return false;
         }
     }
 
+    /***
+     * The file with the whole output of a finished compilation, empty if the output was small enough to be kept
+     * in memory or the file was removed
+     */
+    public static Optional<Path> getLogFile(String key) {
+        Path file = getFile(key);
+        return !map.containsKey(key) && Files.exists(file) ? Optional.of(file) : Optional.empty();
+    }
+
+    /***
+     * Release the memory of the output, the file of the output, if any, is kept to be streamed
+     */
     public static void removeLog(String key) {
-        map.remove(key);
+        BuildOutputBuffer buffer = map.remove(key);
+        if (buffer != null) {
+            buffer.close();
+            Optional<Path> file = buffer.getSpillFile();
+            if (file.isPresent()) {
+                finishedFiles.addLast(file.get());
+                purgeFiles();
+            }
+        }
     }
 
     public static void addMsgToLog(String key, String msg) {
-        if (map.containsKey(key)) {
-            map.get(key).add(msg);
-        } else {
-            map.put(key, new ArrayList<>());
-            map.get(key).add(msg);
-        }
+        map.computeIfAbsent(key, k -> new BuildOutputBuffer(bufferSize, getFile(k))).add(msg);
     }
 
     public static void purgeAll() {
+        for (BuildOutputBuffer buffer : map.values()) {
+            buffer.close();
+        }
         map.clear();
     }
+
+    private static Path getFile(String key) {
+        return outputDir.resolve(key.replaceAll("[^\\w.-]", "_") + LOG_EXT);
+    }
+
+    private static void purgeFiles() {
+        while (finishedFiles.size() > maxFiles) {
+            Path file = finishedFiles.pollFirst();
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    logger.warn("Unable to delete the output {}: {}", file, e.getMessage());
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.logback.appender;
+
+/***
+ * Thread group of a build with a parallel reactor. The threads of the Maven builder are created by the build thread
+ * and belong to its group, the group gives them the compilation id that isn't in their MDC.
+ * The group is a daemon group: it's destroyed once its last thread ends, a group per build isn't kept by its parent.
+ */
+public class CompilationThreadGroup extends ThreadGroup {
+
+    private final String compilationId;
+
+    public CompilationThreadGroup(String compilationId) {
+        super(compilationId);
+        this.compilationId = compilationId;
+        setDaemon(true);
+    }
+
+    public String getCompilationId() {
+        return compilationId;
+    }
+
+    /***
+     * The compilation id of the group of the thread or of one of its parent groups, null if the thread doesn't belong
+     * to a build
+     */
+    public static String getCompilationId(Thread thread) {
+        ThreadGroup group = thread.getThreadGroup();
+        while (group != null) {
+            if (group instanceof CompilationThreadGroup) {
+                return ((CompilationThreadGroup) group).getCompilationId();
+            }
+            group = group.getParent();
+        }
+        return null;
+    }
+}
@@ -21,16 +21,21 @@ import org.kie.workbench.common.services.backend.compiler.configuration.MavenCon
 import org.kie.workbench.common.services.backend.logback.OutputSharedMap;
 
 /**
- * This appender add the message received to the buffer with the compileID founded in the MDC
+ * This appender add the message received to the buffer with the compileID founded in the MDC,
+ * or in the {@link CompilationThreadGroup} of the thread for the threads of a parallel reactor
  */
 public class KieSiftingAppender extends SiftingAppender {
 
     @Override
     protected void append(ILoggingEvent eventObject) {
-        if (!eventObject.getMDCPropertyMap().isEmpty()) {
+        String compilationId = eventObject.getMDCPropertyMap().get(MavenConfig.COMPILATION_ID);
+        if (compilationId == null) {
+            compilationId = CompilationThreadGroup.getCompilationId(Thread.currentThread());
+        }
+        if (compilationId != null) {
             StringBuilder sb = new StringBuilder();
             sb.append(eventObject.getLevel()).append(" ").append(eventObject.getFormattedMessage());
-            OutputSharedMap.addMsgToLog(eventObject.getMDCPropertyMap().get(MavenConfig.COMPILATION_ID), sb.toString());
+            OutputSharedMap.addMsgToLog(compilationId, sb.toString());
         }
     }
 }
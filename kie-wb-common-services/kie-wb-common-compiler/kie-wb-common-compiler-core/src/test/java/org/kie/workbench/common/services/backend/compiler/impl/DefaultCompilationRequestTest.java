@@ -0,0 +1,70 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.impl;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.services.backend.compiler.configuration.MavenCLIArgs;
+import org.kie.workbench.common.services.backend.utils.TestUtil;
+import org.uberfire.java.nio.file.Files;
+import org.uberfire.java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DefaultCompilationRequestTest {
+
+    private Path tmpRoot;
+    private WorkspaceCompilationInfo info;
+
+    @Before
+    public void setUp() throws Exception {
+        tmpRoot = Files.createTempDirectory("repo");
+        info = new WorkspaceCompilationInfo(tmpRoot);
+    }
+
+    @After
+    public void tearDown() {
+        TestUtil.rm(tmpRoot.toFile());
+    }
+
+    @Test
+    public void singleThreadedByDefault() {
+        DefaultCompilationRequest req = new DefaultCompilationRequest("repo", info, new String[]{MavenCLIArgs.COMPILE},
+                                                                      Boolean.TRUE, false, "uuid", null);
+
+        assertThat(req.getThreads()).isNull();
+        assertThat(req.getKieCliRequest().getArgs()).containsExactly(MavenCLIArgs.COMPILE);
+    }
+
+    @Test
+    public void threadsAreAddedToTheMavenArgs() {
+        DefaultCompilationRequest req = new DefaultCompilationRequest("repo", info, new String[]{MavenCLIArgs.COMPILE},
+                                                                      Boolean.TRUE, false, "uuid", "1C");
+
+        assertThat(req.getThreads()).isEqualTo("1C");
+        assertThat(req.getKieCliRequest().getArgs()).containsExactly(MavenCLIArgs.COMPILE, MavenCLIArgs.THREADS, "1C");
+        assertThat(req.getOriginalArgs()).containsExactly(MavenCLIArgs.COMPILE);
+    }
+
+    @Test
+    public void threadsInTheArgsWin() {
+        DefaultCompilationRequest req = new DefaultCompilationRequest("repo", info, new String[]{MavenCLIArgs.COMPILE, "-T2"},
+                                                                      Boolean.TRUE, false, "uuid", "4");
+
+        assertThat(req.getKieCliRequest().getArgs()).containsExactly(MavenCLIArgs.COMPILE, "-T2");
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.impl.classloader;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.services.backend.utils.TestUtil;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DependenciesClasspathCacheTest {
+
+    private Path tmpRoot;
+    private Path cacheDir;
+    private Path jar;
+
+    @Before
+    public void setUp() throws Exception {
+        tmpRoot = Files.createTempDirectory("classpath-cache");
+        cacheDir = Files.createDirectories(tmpRoot.resolve("cache"));
+        jar = Files.write(tmpRoot.resolve("dep.jar"), new byte[]{1});
+    }
+
+    @After
+    public void tearDown() {
+        TestUtil.rm(tmpRoot.toFile());
+    }
+
+    @Test
+    public void keyDependsOnPomsContentAndInputs() throws Exception {
+        Path pom = Files.write(tmpRoot.resolve("pom.xml"), "<project/>".getBytes());
+        List<String> poms = Collections.singletonList(pom.toString());
+
+        String key = DependenciesClasspathCache.key(poms, "/m2");
+        assertThat(key).isEqualTo(DependenciesClasspathCache.key(poms, "/m2"));
+        assertThat(DependenciesClasspathCache.key(poms, "/other-m2")).isNotEqualTo(key);
+
+        Files.write(pom, "<project></project>".getBytes());
+        assertThat(DependenciesClasspathCache.key(poms, "/m2")).isNotEqualTo(key);
+        assertThat(DependenciesClasspathCache.key(Collections.singletonList(tmpRoot.resolve("missing.xml").toString()), "/m2")).isNull();
+    }
+
+    @Test
+    public void classpathIsReadBackAfterRestart() {
+        List<String> classpath = Collections.singletonList("file:" + jar.toString());
+        new DependenciesClasspathCache(10, cacheDir.toString()).put("key", classpath);
+
+        DependenciesClasspathCache restarted = new DependenciesClasspathCache(10, cacheDir.toString());
+        assertThat(restarted.size()).isEqualTo(0);
+        assertThat(restarted.get("key")).contains(classpath);
+        assertThat(restarted.get("unknown")).isEmpty();
+    }
+
+    @Test
+    public void invalidatedClasspathIsRemovedFromDisk() {
+        DependenciesClasspathCache cache = new DependenciesClasspathCache(10, cacheDir.toString());
+        cache.put("key", Collections.singletonList("file:" + jar.toString()));
+
+        cache.invalidate("key");
+
+        assertThat(cache.get("key")).isEmpty();
+        assertThat(new DependenciesClasspathCache(10, cacheDir.toString()).get("key")).isEmpty();
+    }
+
+    @Test
+    public void classpathWithRemovedFilesIsNotAvailable() throws Exception {
+        assertThat(DependenciesClasspathCache.isAvailable(Collections.singletonList("file:" + jar.toString()))).isTrue();
+        assertThat(DependenciesClasspathCache.isAvailable(Collections.singletonList("file://" + jar.toString()))).isTrue();
+
+        Files.delete(jar);
+        assertThat(DependenciesClasspathCache.isAvailable(Collections.singletonList("file:" + jar.toString()))).isFalse();
+    }
+
+    @Test
+    public void sameDependenciesShareTheClassLoader() throws Exception {
+        DependenciesClasspathCache cache = new DependenciesClasspathCache(10, null);
+        URL url = jar.toUri().toURL();
+
+        Optional<ClassLoader> first = cache.getClassLoader(Arrays.asList(url));
+        Optional<ClassLoader> second = cache.getClassLoader(Arrays.asList(new URL(url.toExternalForm())));
+        Optional<ClassLoader> other = cache.getClassLoader(Arrays.asList(url, tmpRoot.toUri().toURL()));
+
+        assertThat(first).isPresent();
+        assertThat(second.get()).isSameAs(first.get());
+        assertThat(other.get()).isNotSameAs(first.get());
+        assertThat(cache.getClassLoader(Collections.emptyList())).isEmpty();
+    }
+
+    @Test
+    public void classpathWithRemovedFilesIsInvalidatedOnHit() throws Exception {
+        DependenciesClasspathCache cache = new DependenciesClasspathCache(10, cacheDir.toString());
+        cache.put("key", Collections.singletonList("file:" + jar.toString()));
+
+        Files.delete(jar);
+
+        assertThat(cache.get("key")).isEmpty();
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(Files.exists(cacheDir.resolve("key.classpath"))).isFalse();
+    }
+
+    @Test
+    public void evictedClassLoaderIsDroppedButStillUsable() throws Exception {
+        DependenciesClasspathCache cache = new DependenciesClasspathCache(1, null);
+        URL url = jar.toUri().toURL();
+
+        ClassLoader first = cache.getClassLoader(Arrays.asList(url)).get();
+        ClassLoader other = cache.getClassLoader(Arrays.asList(tmpRoot.toUri().toURL())).get();
+
+        assertThat(cache.classLoadersSize()).isEqualTo(1);
+        assertThat(cache.getClassLoader(Arrays.asList(tmpRoot.toUri().toURL())).get()).isSameAs(other);
+        assertThat(((URLClassLoader) first).getURLs()).containsExactly(url);
+        assertThat(first.getResource("missing.txt")).isNull();
+    }
+}
@@ -26,6 +26,8 @@ import org.kie.workbench.common.services.backend.compiler.configuration.Configur
 import org.kie.workbench.common.services.backend.compiler.configuration.MavenCLIArgs;
 import org.kie.workbench.common.services.backend.compiler.impl.DefaultCompilationRequest;
 import org.kie.workbench.common.services.backend.constants.ResourcesConstants;
+import org.uberfire.java.nio.file.Files;
+import org.uberfire.java.nio.file.Path;
 import org.uberfire.java.nio.file.Paths;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -82,4 +84,36 @@ public class DefaultPomEditorTest extends BaseCompilerTest {
         editor.cleanHistory();
         assertThat(editor.getHistory()).isEmpty();
     }
+
+    @Test
+    public void processedPomIsSkippedTest() {
+        Path pom = Paths.get(tmpRoot.toAbsolutePath() + "/dummy/pom.xml");
+        assertThat(editor.isProcessed(pom)).isFalse();
+        CompilationRequest req = new DefaultCompilationRequest(mavenRepoPath,
+                                                               info,
+                                                               new String[]{MavenCLIArgs.COMPILE},
+                                                               Boolean.FALSE);
+        assertThat(editor.write(pom, req)).isTrue();
+        assertThat(editor.isProcessed(pom)).isTrue();
+        byte[] processed = Files.readAllBytes(pom);
+
+        CompilationRequest secondReq = new DefaultCompilationRequest(mavenRepoPath,
+                                                                     info,
+                                                                     new String[]{MavenCLIArgs.COMPILE},
+                                                                     Boolean.FALSE);
+        editor.cleanHistory();
+        assertThat(editor.isProcessed(pom)).isFalse();
+        assertThat(editor.write(pom, secondReq)).isTrue();
+        assertThat(editor.getHistory()).hasSize(1);
+
+        CompilationRequest thirdReq = new DefaultCompilationRequest(mavenRepoPath,
+                                                                    info,
+                                                                    new String[]{MavenCLIArgs.COMPILE},
+                                                                    Boolean.FALSE);
+        assertThat(editor.write(pom, thirdReq)).isTrue();
+        assertThat(editor.getHistory()).hasSize(1);
+        assertThat(Files.readAllBytes(pom)).isEqualTo(processed);
+        assertThat(thirdReq.getKieCliRequest().getArgs()).containsExactly(secondReq.getKieCliRequest().getArgs());
+        assertThat(thirdReq.getInfo().isKiePluginPresent()).isTrue();
+    }
 }
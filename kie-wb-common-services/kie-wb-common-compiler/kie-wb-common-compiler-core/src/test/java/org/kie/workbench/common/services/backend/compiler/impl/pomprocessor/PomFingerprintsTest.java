@@ -0,0 +1,84 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.impl.pomprocessor;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.services.backend.utils.TestUtil;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PomFingerprintsTest {
+
+    private Path tmpRoot;
+
+    @Before
+    public void setUp() throws Exception {
+        tmpRoot = Files.createTempDirectory("pom-fingerprints");
+    }
+
+    @After
+    public void tearDown() {
+        TestUtil.rm(tmpRoot.toFile());
+    }
+
+    @Test
+    public void fingerprintDependsOnPathConfigurationAndContent() {
+        String fingerprint = PomFingerprints.fingerprint("/prj/pom.xml", "conf", "<project/>".getBytes());
+
+        assertThat(PomFingerprints.fingerprint("/prj/pom.xml", "conf", "<project/>".getBytes())).isEqualTo(fingerprint);
+        assertThat(PomFingerprints.fingerprint("/other/pom.xml", "conf", "<project/>".getBytes())).isNotEqualTo(fingerprint);
+        assertThat(PomFingerprints.fingerprint("/prj/pom.xml", "other-conf", "<project/>".getBytes())).isNotEqualTo(fingerprint);
+        assertThat(PomFingerprints.fingerprint("/prj/pom.xml", "conf", "<project></project>".getBytes())).isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    public void fingerprintsAreReadBackAfterRestart() {
+        new PomFingerprints(10, tmpRoot.toString()).put("first", Boolean.TRUE);
+
+        PomFingerprints restarted = new PomFingerprints(10, tmpRoot.toString());
+
+        assertThat(restarted.get("first")).isTrue();
+        assertThat(restarted.get("unknown")).isNull();
+    }
+
+    @Test
+    public void oldestFingerprintsAreEvicted() {
+        PomFingerprints fingerprints = new PomFingerprints(2, null);
+        fingerprints.put("first", Boolean.TRUE);
+        fingerprints.put("second", Boolean.FALSE);
+        fingerprints.put("third", Boolean.TRUE);
+
+        assertThat(fingerprints.size()).isEqualTo(2);
+        assertThat(fingerprints.get("first")).isNull();
+        assertThat(fingerprints.get("second")).isFalse();
+    }
+
+    @Test
+    public void boundedSet() {
+        Set<String> set = PomFingerprints.newBoundedSet(2);
+        set.add("first");
+        set.add("second");
+        set.add("third");
+
+        assertThat(set).containsExactly("second", "third");
+    }
+}
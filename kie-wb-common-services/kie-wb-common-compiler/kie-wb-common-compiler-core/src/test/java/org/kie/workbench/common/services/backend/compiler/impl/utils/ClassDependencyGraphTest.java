@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.impl.utils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.services.backend.utils.TestUtil;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClassDependencyGraphTest {
+
+    private Path tmpRoot;
+    private Path sources;
+    private Path classes;
+
+    @Before
+    public void setUp() throws Exception {
+        tmpRoot = Files.createTempDirectory("class-graph");
+        sources = Files.createDirectories(tmpRoot.resolve("module/src/main/java/org/kie"));
+        classes = Files.createDirectories(tmpRoot.resolve("module/target/classes"));
+        write("A", "package org.kie; public class A { public int value; }");
+        write("B", "package org.kie; import java.util.List; public class B { List<A> items; class Inner { } }");
+        write("C", "package org.kie; public class C { B b() { return null; } }");
+        write("D", "package org.kie; public class D { long l = 1L; double d = 1.0; String s = \"d\"; Runnable r = () -> { }; }");
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int result = compiler.run(null, null, null, "-d", classes.toString(),
+                                  sources.resolve("A.java").toString(),
+                                  sources.resolve("B.java").toString(),
+                                  sources.resolve("C.java").toString(),
+                                  sources.resolve("D.java").toString());
+        assertThat(result).isEqualTo(0);
+    }
+
+    @After
+    public void tearDown() {
+        TestUtil.rm(tmpRoot.toFile());
+    }
+
+    private void write(String name,
+                       String content) throws Exception {
+        Files.write(sources.resolve(name + ".java"), content.getBytes());
+    }
+
+    @Test
+    public void dependentsAreTransitive() {
+        ClassDependencyGraph graph = new ClassDependencyGraph();
+        graph.refresh(tmpRoot);
+
+        assertThat(graph.getDependents(Collections.singletonList("org.kie.A"))).containsExactlyInAnyOrder("org.kie.B", "org.kie.C");
+        assertThat(graph.getDependents(Collections.singletonList("org.kie.C"))).isEmpty();
+        assertThat(graph.getDependents(Collections.singletonList("org.kie.D"))).isEmpty();
+    }
+
+    @Test
+    public void innerClassesBelongToTheirTopLevelClass() {
+        ClassDependencyGraph graph = new ClassDependencyGraph();
+        graph.refresh(tmpRoot);
+
+        assertThat(graph.getClassFiles("org.kie.B")).containsExactlyInAnyOrder(classes.resolve("org/kie/B.class"),
+                                                                             classes.resolve("org/kie/B$Inner.class"));
+        assertThat(graph.getSource("org.kie.B")).contains(sources.resolve("B.java"));
+    }
+
+    @Test
+    public void removedClassesLeaveTheGraph() throws Exception {
+        ClassDependencyGraph graph = new ClassDependencyGraph();
+        graph.refresh(tmpRoot);
+        assertThat(graph.size()).isEqualTo(5);
+
+        Files.delete(classes.resolve("org/kie/C.class"));
+        graph.refresh(tmpRoot);
+
+        assertThat(graph.size()).isEqualTo(4);
+        assertThat(graph.getDependents(Arrays.asList("org.kie.A"))).containsExactly("org.kie.B");
+    }
+
+    @Test
+    public void classNameFromSourcePath() {
+        assertThat(ClassDependencyGraph.getClassName("module/src/main/java/org/kie/A.java")).contains("org.kie.A");
+        assertThat(ClassDependencyGraph.getClassName("module/src/main/resources/org/kie/rules.drl")).isEmpty();
+        assertThat(ClassDependencyGraph.getClassName("pom.xml")).isEmpty();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.logback;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.services.backend.utils.TestUtil;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BuildOutputBufferTest {
+
+    private Path tmpRoot;
+    private Path spillFile;
+
+    @Before
+    public void setUp() throws Exception {
+        tmpRoot = Files.createTempDirectory("build-output");
+        spillFile = tmpRoot.resolve("output").resolve("build.log");
+    }
+
+    @After
+    public void tearDown() {
+        TestUtil.rm(tmpRoot.toFile());
+    }
+
+    @Test
+    public void smallOutputStaysInMemory() {
+        BuildOutputBuffer buffer = new BuildOutputBuffer(3, spillFile);
+        buffer.add("one");
+        buffer.add("two");
+        buffer.close();
+
+        assertThat(buffer.isSpilled()).isFalse();
+        assertThat(buffer.getSpillFile()).isEmpty();
+        assertThat(Files.exists(spillFile)).isFalse();
+        assertThat(buffer.getLog()).containsExactly("one", "two");
+    }
+
+    @Test
+    public void oldLinesAreMovedToTheFile() {
+        BuildOutputBuffer buffer = new BuildOutputBuffer(2, spillFile);
+        for (int i = 0; i < 5; i++) {
+            buffer.add("line" + i);
+        }
+
+        assertThat(buffer.isSpilled()).isTrue();
+        assertThat(buffer.getLines()).isEqualTo(5);
+        assertThat(buffer.getTail(10)).containsExactly("line3", "line4");
+        assertThat(buffer.getTail(1)).containsExactly("line4");
+        assertThat(buffer.getLog()).containsExactly("line0", "line1", "line2", "line3", "line4");
+    }
+
+    @Test
+    public void closedBufferKeepsTheTailAndTheWholeFile() throws Exception {
+        BuildOutputBuffer buffer = new BuildOutputBuffer(2, spillFile);
+        for (int i = 0; i < 4; i++) {
+            buffer.add("line" + i);
+        }
+        buffer.close();
+        buffer.add("ignored");
+
+        assertThat(buffer.getTail(10)).containsExactly("line2", "line3");
+        assertThat(buffer.getSpillFile()).contains(spillFile);
+        assertThat(Files.readAllLines(spillFile)).containsExactly("line0", "line1", "line2", "line3");
+        List<String> streamed = new ArrayList<>();
+        buffer.stream(streamed::add);
+        assertThat(streamed).containsExactly("line0", "line1", "line2", "line3");
+    }
+
+    @Test
+    public void withoutFileOldLinesAreDiscarded() {
+        BuildOutputBuffer buffer = new BuildOutputBuffer(2, null);
+        for (int i = 0; i < 4; i++) {
+            buffer.add("line" + i);
+        }
+        buffer.close();
+
+        assertThat(buffer.getSpillFile()).isEmpty();
+        assertThat(buffer.getLog()).containsExactly("line2", "line3");
+    }
+}
@@ -18,6 +18,9 @@ package org.kie.workbench.common.services.backend.logback.appender;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.spi.ILoggingEvent;
@@ -57,6 +60,52 @@ public class KieSiftingAppenderTest {
         assertThat(msg).isEqualTo("INFO I'm a beatiful test message :)");
     }
 
+    @Test
+    public void appendFromThreadOfParallelBuildTest() throws Exception {
+        String compilationID = "3f2a4c36-5d0b-4f7b-9a51-0cbe6a0f1e42";
+        KieSiftingAppenderProxy appender = new KieSiftingAppenderProxy();
+        // the builder threads are created by the build thread and have an empty MDC
+        CompilationThreadGroup group = new CompilationThreadGroup(compilationID);
+        Thread buildThread = new Thread(group, () -> {
+            ExecutorService builder = Executors.newFixedThreadPool(2);
+            for (int i = 0; i < 2; i++) {
+                String message = "module" + i;
+                builder.submit(() -> appender.appendTest(newEvent(message)));
+            }
+            builder.shutdown();
+            try {
+                builder.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        buildThread.start();
+        buildThread.join();
+
+        assertThat(OutputSharedMap.getLog(compilationID)).containsExactlyInAnyOrder("INFO module0", "INFO module1");
+        OutputSharedMap.removeLog(compilationID);
+        // the group is destroyed with its last thread
+        assertThat(group.isDaemon()).isTrue();
+    }
+
+    @Test
+    public void appendWithoutCompilationIdTest() {
+        KieSiftingAppenderProxy appender = new KieSiftingAppenderProxy();
+        appender.appendTest(newEvent("outside of a build"));
+
+        assertThat(CompilationThreadGroup.getCompilationId(Thread.currentThread())).isNull();
+    }
+
+    private LoggingEvent newEvent(String message) {
+        LoggingEvent event = new LoggingEvent("org.kie.workbench.common.services.backend.logback.appender.KieSiftingAppenderTest",
+                                              (ch.qos.logback.classic.Logger) logger,
+                                              Level.INFO,
+                                              message,
+                                              null, new String[]{});
+        event.setMDCPropertyMap(new HashMap<>());
+        return event;
+    }
+
     public class KieSiftingAppenderProxy extends KieSiftingAppender {
 
         public void appendTest(ILoggingEvent event) {
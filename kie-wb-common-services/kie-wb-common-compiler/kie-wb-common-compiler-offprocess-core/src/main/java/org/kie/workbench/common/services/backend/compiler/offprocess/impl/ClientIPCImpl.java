@@ -15,13 +15,12 @@
  */
 package org.kie.workbench.common.services.backend.compiler.offprocess.impl;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.ObjectInputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import net.openhft.chronicle.bytes.Bytes;
 import net.openhft.chronicle.queue.ExcerptTailer;
-import net.openhft.chronicle.queue.TailerDirection;
 import net.openhft.chronicle.wire.DocumentContext;
 import net.openhft.chronicle.wire.Wire;
 import org.kie.workbench.common.services.backend.compiler.impl.DefaultKieCompilationResponse;
@@ -31,19 +30,27 @@ import org.kie.workbench.common.services.backend.compiler.offprocess.ClientIPC;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static org.kie.workbench.common.services.backend.compiler.offprocess.impl.ServerIPCImpl.RESPONSE_UUID;
+
 /***
- * Client to access the result of the build executed in a separated process
+ * Client to access the result of the build executed in a separated process.
+ * <p>The responses are found through a UUID to queue index map, filled reading forward only the excerpts appended
+ * since the last lookup and reading only the UUID of each excerpt, the response is read only
+ * for the requested UUID. The maven output of the response is read from the queue only when requested.</p>
  */
 
 public class ClientIPCImpl implements ClientIPC {
 
     private ResponseSharedMap map;
     private QueueProvider provider;
+    private Map<String, Long> index;
+    private ExcerptTailer indexTailer;
     private Logger logger = LoggerFactory.getLogger(ClientIPCImpl.class);
 
     public ClientIPCImpl(ResponseSharedMap map, QueueProvider provider) {
         this.map = map;
         this.provider = provider;
+        this.index = new ConcurrentHashMap<>();
     }
 
     public KieCompilationResponse getResponse(String uuid) {
@@ -55,46 +62,58 @@ public class ClientIPCImpl implements ClientIPC {
     }
 
     private boolean isLoaded(String uuid) {
-        ExcerptTailer tailer = provider.getQueue().createTailer();
-        DefaultKieCompilationResponseOffProcess res = readThisDocument(tailer);
-        DefaultKieCompilationResponse kres = new DefaultKieCompilationResponse(res);
-        if (uuid.equals(kres.getRequestUUID())) {
-            if (!map.contains(kres.getRequestUUID())) {
-                map.addResponse(uuid, kres);
-                return true;
+        if (map.contains(uuid)) {
+            return false;
+        }
+        Long queueIndex = indexOf(uuid);
+        if (queueIndex == null) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("No response on the queue for the uuid:{}", uuid);
             }
-        } else {
-            //we loop in the queue to find our Response by UUID, from the tail of the queue backward
-            tailer.toEnd();
-            tailer.direction(TailerDirection.BACKWARD);
-            res = loopOverQueue(tailer,uuid, 0l);
+            return false;
         }
-
-        kres = new DefaultKieCompilationResponse(res);
-        if (!map.contains(kres.getRequestUUID())) {
-            map.addResponse(uuid, new DefaultKieCompilationResponse(res));
-            return true;
-        } else {
+        DefaultKieCompilationResponseOffProcess res = readDocumentAt(queueIndex);
+        if (res == null) {
             return false;
         }
+        map.addResponse(uuid, new DefaultKieCompilationResponse(res));
+        index.remove(uuid);
+        return true;
     }
 
-
-    private DefaultKieCompilationResponseOffProcess loopOverQueue(ExcerptTailer tailer, String uuid, long previousIndex) {
-        long currentIndex = tailer.index();
-        if(logger.isDebugEnabled()) {
-            logger.debug("current index on loopOverQueue:{}", currentIndex);
+    /***
+     * Returns the queue index of the response for the uuid, indexing the excerpts appended after the last call
+     */
+    synchronized Long indexOf(String uuid) {
+        Long queueIndex = index.get(uuid);
+        if (queueIndex != null) {
+            return queueIndex;
         }
-        DefaultKieCompilationResponseOffProcess  res = readThisDocument(tailer);
-        if(uuid.equals(res.getRequestUUID())){
-            return res;
-        }else{
-            if(currentIndex == previousIndex){
-                // No more elements in the queue
-                return new DefaultKieCompilationResponseOffProcess(false, "");
+        if (indexTailer == null) {
+            indexTailer = provider.getQueue().createTailer();
+        }
+        boolean present = true;
+        while (present) {
+            try (DocumentContext dc = indexTailer.readingDocument()) {
+                present = dc.isPresent();
+                if (present) {
+                    String excerptUUID = dc.wire().read(RESPONSE_UUID).text();
+                    if (excerptUUID != null) {
+                        index.put(excerptUUID, dc.index());
+                    }
+                }
             }
-            return loopOverQueue(tailer, uuid, currentIndex);
         }
+        return index.get(uuid);
+    }
+
+    private DefaultKieCompilationResponseOffProcess readDocumentAt(long queueIndex) {
+        ExcerptTailer tailer = provider.getQueue().createTailer();
+        if (!tailer.moveToIndex(queueIndex)) {
+            logger.error("Index {} not found in the queue {}", queueIndex, provider.getAbsolutePath());
+            return null;
+        }
+        return readThisDocument(tailer);
     }
 
     private DefaultKieCompilationResponseOffProcess readThisDocument(ExcerptTailer tailer) {
@@ -104,32 +123,34 @@ public class ClientIPCImpl implements ClientIPC {
         DefaultKieCompilationResponseOffProcess res = null;
         try (DocumentContext dc = tailer.readingDocument()) {
             if (dc.isPresent()) {
+                long queueIndex = dc.index();
                 if(logger.isDebugEnabled()) {
-                    logger.debug("Document Context index:{}", dc.index());
+                    logger.debug("Document Context index:{}", queueIndex);
                 }
                 Wire wire = dc.wire();
-                Bytes bytes = wire.bytes();
-                if (!bytes.isEmpty()) {
-                    try {
-                        Object obj = deserialize(bytes.toByteArray());
-                        res = (DefaultKieCompilationResponseOffProcess) obj;
-                    } catch (Exception e) {
-                        logger.error(e.getMessage(), e);
-                    }
+                String uuid = wire.read(RESPONSE_UUID).text();
+                try {
+                    res = ResponseWireFormat.read(wire.bytes(), uuid, () -> readMavenOutputAt(queueIndex));
+                } catch (Exception e) {
+                    logger.error(e.getMessage(), e);
                 }
             }
         }
-        if(res == null){
-            res = new DefaultKieCompilationResponseOffProcess(false, "");
-        }
         return res;
     }
 
-    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
-        try (ByteArrayInputStream b = new ByteArrayInputStream(bytes)) {
-            try (ObjectInputStream o = new ObjectInputStream(b)) {
-                return o.readObject();
+    private List<String> readMavenOutputAt(long queueIndex) {
+        ExcerptTailer tailer = provider.getQueue().createTailer();
+        if (tailer.moveToIndex(queueIndex)) {
+            try (DocumentContext dc = tailer.readingDocument()) {
+                if (dc.isPresent()) {
+                    Wire wire = dc.wire();
+                    wire.read(RESPONSE_UUID).text();
+                    return ResponseWireFormat.readMavenOutput(wire.bytes());
+                }
             }
         }
+        logger.error("Maven output at index {} not found in the queue {}", queueIndex, provider.getAbsolutePath());
+        return Collections.emptyList();
     }
 }
@@ -21,6 +21,8 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.io.IOUtils;
 import org.guvnor.common.services.project.backend.server.utils.configuration.ConfigurationKey;
@@ -35,12 +37,26 @@ import org.kie.workbench.common.services.backend.compiler.offprocess.CompilerIPC
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static org.kie.workbench.common.services.backend.compiler.impl.utils.CacheUtils.getPositiveNumberProperty;
+
 /**
- * Coordinator of the build executed in a separate process and the cleint to read the result
+ * Coordinator of the build executed in a separate process and the cleint to read the result.
+ * <p>The builds are sent to a pool of warm worker processes (one pool for each maven repo, because the maven repo
+ * is part of the worker classpath), with a pool size of 0 a new process is started for each build.</p>
  */
 public class CompilerIPCCoordinatorImpl implements CompilerIPCCoordinator {
 
-    private Logger logger = LoggerFactory.getLogger(CompilerIPCCoordinatorImpl.class);
+    public static final String POOL_SIZE = "org.kie.workbench.compiler.offprocess.pool.size";
+    public static final String POOL_MAX_BUILDS_PER_WORKER = "org.kie.workbench.compiler.offprocess.pool.maxbuilds";
+    public static final String POOL_BUILD_TIMEOUT = "org.kie.workbench.compiler.offprocess.pool.timeout";
+    public static final String POOL_HEALTH_CHECK_INTERVAL = "org.kie.workbench.compiler.offprocess.pool.healthcheck.interval";
+    protected static final String DEFAULT_POOL_SIZE = "2";
+    protected static final String DEFAULT_POOL_MAX_BUILDS_PER_WORKER = "50";
+    protected static final String DEFAULT_POOL_BUILD_TIMEOUT = "600000";
+    protected static final String DEFAULT_POOL_HEALTH_CHECK_INTERVAL = "60000";
+    private static final long PING_TIMEOUT = 5000;
+
+    private static Logger logger = LoggerFactory.getLogger(CompilerIPCCoordinatorImpl.class);
     private static final String placeholder = "<maven_repo>";
     private static final String mavenModuleName = "kie-wb-common-compiler-offprocess-core";
     private static final String classpathFile = "offprocess.classpath.template";
@@ -52,8 +68,24 @@ public class CompilerIPCCoordinatorImpl implements CompilerIPCCoordinator {
     private QueueProvider provider;
     private String queueName;
     private String kieVersion;
+    private int poolSize;
+    private int maxBuildsPerWorker;
+    private long buildTimeout;
+    private long healthCheckInterval;
+    private Map<String, CompilerWorkerPool> pools = new ConcurrentHashMap<>();
 
     public CompilerIPCCoordinatorImpl(QueueProvider provider) {
+        this(provider,
+             Integer.parseInt(getPositiveNumberProperty(POOL_SIZE, DEFAULT_POOL_SIZE)),
+             Integer.parseInt(getPositiveNumberProperty(POOL_MAX_BUILDS_PER_WORKER, DEFAULT_POOL_MAX_BUILDS_PER_WORKER)),
+             Long.parseLong(getPositiveNumberProperty(POOL_BUILD_TIMEOUT, DEFAULT_POOL_BUILD_TIMEOUT)));
+    }
+
+    public CompilerIPCCoordinatorImpl(QueueProvider provider, int poolSize, int maxBuildsPerWorker, long buildTimeout) {
+        this.poolSize = poolSize;
+        this.maxBuildsPerWorker = Math.max(1, maxBuildsPerWorker);
+        this.buildTimeout = buildTimeout;
+        this.healthCheckInterval = Long.parseLong(getPositiveNumberProperty(POOL_HEALTH_CHECK_INTERVAL, DEFAULT_POOL_HEALTH_CHECK_INTERVAL));
         this.kieVersion = getKieVersion();
         this.queueName = provider.getAbsolutePath();
         this.provider = provider;
@@ -76,6 +108,16 @@ public class CompilerIPCCoordinatorImpl implements CompilerIPCCoordinator {
     }
 
 
+    public CompilerWorkerPoolMetrics getPoolMetrics(String mavenRepo) {
+        CompilerWorkerPool pool = pools.get(mavenRepo);
+        return pool != null ? pool.getMetrics() : null;
+    }
+
+    public void shutdown() {
+        pools.values().forEach(CompilerWorkerPool::shutdown);
+        pools.clear();
+    }
+
     private String getKieVersion(){
         ConfigurationPropertiesStrategy prop = new ConfigurationPropertiesStrategy();
         Map<ConfigurationKey, String> conf = prop.loadConfiguration();
@@ -93,9 +135,15 @@ public class CompilerIPCCoordinatorImpl implements CompilerIPCCoordinator {
     }
 
     private CompilationResponse internalBuild(String mavenRepo, String projectPath, String alternateSettingsAbsPath, String uuid) {
-        String classpath = classpathTemplate.replace(placeholder, mavenRepo);
         try {
-            invokeServerBuild(mavenRepo, projectPath, uuid, classpath, alternateSettingsAbsPath, queueName);
+            if (poolSize > 0) {
+                if (!getPool(mavenRepo).build(uuid, projectPath, mavenRepo, alternateSettingsAbsPath)) {
+                    return new DefaultKieCompilationResponse(false, "");
+                }
+            } else {
+                String classpath = classpathTemplate.replace(placeholder, mavenRepo);
+                invokeServerBuild(mavenRepo, projectPath, uuid, classpath, alternateSettingsAbsPath, queueName);
+            }
             if(logger.isDebugEnabled()) {
                 logger.debug("invokeServerBuild completed");
             }
@@ -140,6 +188,49 @@ public class CompilerIPCCoordinatorImpl implements CompilerIPCCoordinator {
         writeStdOut(serverPb);
     }
 
+    private CompilerWorkerPool getPool(String mavenRepo) {
+        return pools.computeIfAbsent(mavenRepo, repo -> new CompilerWorkerPool(() -> startWorker(repo),
+                                                                              poolSize,
+                                                                              maxBuildsPerWorker,
+                                                                              buildTimeout,
+                                                                              healthCheckInterval,
+                                                                              PING_TIMEOUT));
+    }
+
+    private CompilerWorker startWorker(String mavenRepo) {
+        String workerId = UUID.randomUUID().toString();
+        QueueProvider requestProvider = new QueueProvider(queueName + "-worker-" + workerId + "-requests", true);
+        QueueProvider ackProvider = new QueueProvider(queueName + "-worker-" + workerId + "-acks", true);
+        String classpath = classpathTemplate.replace(placeholder, mavenRepo);
+        String[] commandArrayWorker =
+                {
+                        javaBin,
+                        "-cp",
+                        getClasspathIncludedCurrentModuleDep(mavenRepo, classpath),
+                        "-Dorg.uberfire.nio.git.daemon.enabled=false",
+                        "-Dorg.uberfire.nio.ssh.daemon.enabled=false",
+                        ServerIPCWorkerImpl.class.getCanonicalName(),
+                        requestProvider.getAbsolutePath(),
+                        ackProvider.getAbsolutePath(),
+                        queueName
+                };
+        if (logger.isDebugEnabled()) {
+            logger.debug("Starting offprocess worker {} with args: \n{}", workerId, String.join("\n", commandArrayWorker));
+        }
+        ProcessBuilder workerPb = new ProcessBuilder(commandArrayWorker);
+        workerPb.directory(new File(System.getProperty("java.io.tmpdir")));
+        workerPb.redirectOutput(ProcessBuilder.Redirect.INHERIT);
+        workerPb.redirectError(ProcessBuilder.Redirect.INHERIT);
+        try {
+            // stdin is left as a pipe, the worker ends when the pipe is closed by the end of this JVM
+            return new CompilerWorker(workerId, workerPb.start(), requestProvider, ackProvider);
+        } catch (IOException e) {
+            requestProvider.cleanQueue();
+            ackProvider.cleanQueue();
+            throw new RuntimeException(e);
+        }
+    }
+
     private String getClasspathIncludedCurrentModuleDep(String mavenRepo, String classpath){
         StringBuilder sb = new StringBuilder();
         this.getClass().getPackage();
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.offprocess.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import net.openhft.chronicle.core.io.IOTools;
+import net.openhft.chronicle.queue.ExcerptAppender;
+import net.openhft.chronicle.queue.ExcerptTailer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.kie.workbench.common.services.backend.compiler.offprocess.impl.ServerIPCWorkerImpl.BUILD;
+import static org.kie.workbench.common.services.backend.compiler.offprocess.impl.ServerIPCWorkerImpl.DONE;
+import static org.kie.workbench.common.services.backend.compiler.offprocess.impl.ServerIPCWorkerImpl.MAVEN_REPO;
+import static org.kie.workbench.common.services.backend.compiler.offprocess.impl.ServerIPCWorkerImpl.PING;
+import static org.kie.workbench.common.services.backend.compiler.offprocess.impl.ServerIPCWorkerImpl.PONG;
+import static org.kie.workbench.common.services.backend.compiler.offprocess.impl.ServerIPCWorkerImpl.SETTINGS;
+import static org.kie.workbench.common.services.backend.compiler.offprocess.impl.ServerIPCWorkerImpl.STOP;
+import static org.kie.workbench.common.services.backend.compiler.offprocess.impl.ServerIPCWorkerImpl.TYPE;
+import static org.kie.workbench.common.services.backend.compiler.offprocess.impl.ServerIPCWorkerImpl.UUID;
+import static org.kie.workbench.common.services.backend.compiler.offprocess.impl.ServerIPCWorkerImpl.WORKING_DIR;
+
+/***
+ * Coordinator side handle of a long lived ServerIPCWorkerImpl process.
+ * Requests are sent on the worker request queue, the completion is read from the worker ack queue.
+ * A worker is used by one build at time, the CompilerWorkerPool guarantees the exclusive access.
+ */
+public class CompilerWorker {
+
+    private static final long ACK_SLEEP_MILLIS = 10;
+    private Logger logger = LoggerFactory.getLogger(CompilerWorker.class);
+    private final String id;
+    private final Process process;
+    private final QueueProvider requestProvider;
+    private final QueueProvider ackProvider;
+    private final ExcerptAppender requestAppender;
+    private final ExcerptTailer ackTailer;
+    private int builds;
+    private long lastUsed;
+
+    public CompilerWorker(String id, Process process, QueueProvider requestProvider, QueueProvider ackProvider) {
+        this.id = id;
+        this.process = process;
+        this.requestProvider = requestProvider;
+        this.ackProvider = ackProvider;
+        this.requestAppender = requestProvider.getQueue().acquireAppender();
+        this.ackTailer = ackProvider.getQueue().createTailer();
+        this.lastUsed = System.currentTimeMillis();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public int getBuilds() {
+        return builds;
+    }
+
+    public long getLastUsed() {
+        return lastUsed;
+    }
+
+    public boolean isAlive() {
+        return process.isAlive();
+    }
+
+    /***
+     * Send a build request to the worker and wait until the worker acknowledges it
+     * @return true if the response has been written by the worker on the response queue
+     */
+    public boolean build(String uuid, String projectPath, String mavenRepo, String alternateSettingsAbsPath, long timeoutMillis) {
+        builds++;
+        lastUsed = System.currentTimeMillis();
+        write(BUILD, uuid, projectPath, mavenRepo, alternateSettingsAbsPath);
+        return waitAck(DONE, uuid, timeoutMillis);
+    }
+
+    /***
+     * Health check of the worker, the worker must be alive and answer to a ping within the timeout
+     */
+    public boolean ping(long timeoutMillis) {
+        if (!isAlive()) {
+            return false;
+        }
+        String uuid = java.util.UUID.randomUUID().toString();
+        write(PING, uuid, "", "", "");
+        return waitAck(PONG, uuid, timeoutMillis);
+    }
+
+    public void stop() {
+        if (isAlive()) {
+            write(STOP, "", "", "", "");
+            try {
+                if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                process.destroyForcibly();
+            }
+        }
+        requestProvider.cleanQueue();
+        ackProvider.cleanQueue();
+        IOTools.shallowDeleteDirWithFiles(requestProvider.getAbsolutePath());
+        IOTools.shallowDeleteDirWithFiles(ackProvider.getAbsolutePath());
+        if (logger.isDebugEnabled()) {
+            logger.debug("Offprocess worker {} stopped after {} builds", id, builds);
+        }
+    }
+
+    private void write(String type, String uuid, String projectPath, String mavenRepo, String alternateSettingsAbsPath) {
+        requestAppender.writeDocument(w -> w.write(TYPE).text(type)
+                .write(UUID).text(uuid)
+                .write(WORKING_DIR).text(projectPath)
+                .write(MAVEN_REPO).text(mavenRepo)
+                .write(SETTINGS).text(alternateSettingsAbsPath));
+    }
+
+    private boolean waitAck(String type, String uuid, long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        String[] ack = new String[2];
+        while (System.currentTimeMillis() < deadline) {
+            boolean read = ackTailer.readDocument(w -> {
+                ack[0] = w.read(TYPE).text();
+                ack[1] = w.read(UUID).text();
+            });
+            if (read) {
+                if (type.equals(ack[0]) && uuid.equals(ack[1])) {
+                    return true;
+                }
+                continue;// stale ack of a previous request timed out
+            }
+            if (!isAlive()) {
+                logger.error("Offprocess worker {} died while waiting the request {}", id, uuid);
+                return false;
+            }
+            try {
+                Thread.sleep(ACK_SLEEP_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        logger.error("Offprocess worker {} timeout waiting the request {}", id, uuid);
+        return false;
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.offprocess.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/***
+ * Pool of warm ServerIPCWorkerImpl processes, each worker executes one build at time.
+ * <p>The idle workers are health checked before use, the workers are recycled after a configurable
+ * number of builds or when a build fails to complete.</p>
+ */
+public class CompilerWorkerPool {
+
+    private Logger logger = LoggerFactory.getLogger(CompilerWorkerPool.class);
+    private final Supplier<CompilerWorker> workerFactory;
+    private final BlockingQueue<CompilerWorker> idleWorkers;
+    private final AtomicInteger workers = new AtomicInteger();
+    private final CompilerWorkerPoolMetrics metrics = new CompilerWorkerPoolMetrics();
+    private final int size;
+    private final int maxBuildsPerWorker;
+    private final long buildTimeoutMillis;
+    private final long healthCheckIntervalMillis;
+    private final long pingTimeoutMillis;
+    private volatile boolean shutdown;
+
+    public CompilerWorkerPool(Supplier<CompilerWorker> workerFactory,
+                              int size,
+                              int maxBuildsPerWorker,
+                              long buildTimeoutMillis,
+                              long healthCheckIntervalMillis,
+                              long pingTimeoutMillis) {
+        this.workerFactory = workerFactory;
+        this.size = size;
+        this.maxBuildsPerWorker = maxBuildsPerWorker;
+        this.buildTimeoutMillis = buildTimeoutMillis;
+        this.healthCheckIntervalMillis = healthCheckIntervalMillis;
+        this.pingTimeoutMillis = pingTimeoutMillis;
+        this.idleWorkers = new LinkedBlockingQueue<>(size);
+        for (int i = 0; i < size; i++) {
+            CompilerWorker worker = startWorker();
+            if (worker != null) {
+                idleWorkers.offer(worker);
+            }
+        }
+    }
+
+    /***
+     * Run the build on the first idle worker, blocking until a worker is available
+     * @return true if the worker completed the build and wrote the response on the response queue
+     */
+    public boolean build(String uuid, String projectPath, String mavenRepo, String alternateSettingsAbsPath) {
+        long waitStart = System.currentTimeMillis();
+        metrics.enqueued();
+        CompilerWorker worker;
+        try {
+            worker = acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            metrics.dequeued(System.currentTimeMillis() - waitStart);
+        }
+        if (worker == null) {
+            logger.error("No offprocess worker available for the request {}", uuid);
+            return false;
+        }
+
+        long buildStart = System.currentTimeMillis();
+        boolean completed = false;
+        try {
+            completed = worker.build(uuid, projectPath, mavenRepo, alternateSettingsAbsPath, buildTimeoutMillis);
+            return completed;
+        } finally {
+            metrics.built(System.currentTimeMillis() - buildStart, completed);
+            release(worker, completed);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Offprocess build {} on worker {} completed:{} {}", uuid, worker.getId(), completed, metrics);
+            }
+        }
+    }
+
+    public CompilerWorkerPoolMetrics getMetrics() {
+        return metrics;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void shutdown() {
+        shutdown = true;
+        List<CompilerWorker> toStop = new ArrayList<>();
+        idleWorkers.drainTo(toStop);
+        toStop.forEach(this::stopWorker);
+    }
+
+    private CompilerWorker acquire() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + buildTimeoutMillis;
+        while (!shutdown && System.currentTimeMillis() < deadline) {
+            CompilerWorker worker = idleWorkers.poll();
+            if (worker == null && workers.get() < size) {
+                worker = startWorker();
+            }
+            if (worker == null) {
+                worker = idleWorkers.poll(deadline - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+            }
+            if (worker == null) {
+                continue;
+            }
+            if (isHealthy(worker)) {
+                return worker;
+            }
+            logger.warn("Offprocess worker {} failed the health check, replacing it", worker.getId());
+            stopWorker(worker);
+        }
+        return null;
+    }
+
+    private boolean isHealthy(CompilerWorker worker) {
+        if (!worker.isAlive()) {
+            return false;
+        }
+        if (System.currentTimeMillis() - worker.getLastUsed() < healthCheckIntervalMillis) {
+            return true;
+        }
+        return worker.ping(pingTimeoutMillis);
+    }
+
+    private void release(CompilerWorker worker, boolean completed) {
+        if (shutdown) {
+            stopWorker(worker);
+            return;
+        }
+        if (!completed || worker.getBuilds() >= maxBuildsPerWorker) {
+            metrics.recycled();
+            stopWorker(worker);
+            CompilerWorker replacement = startWorker();
+            if (replacement != null) {
+                idleWorkers.offer(replacement);
+            }
+        } else {
+            idleWorkers.offer(worker);
+        }
+    }
+
+    private CompilerWorker startWorker() {
+        if (workers.incrementAndGet() > size) {
+            workers.decrementAndGet();
+            return null;
+        }
+        try {
+            return workerFactory.get();
+        } catch (Exception e) {
+            workers.decrementAndGet();
+            logger.error(e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private void stopWorker(CompilerWorker worker) {
+        workers.decrementAndGet();
+        try {
+            worker.stop();
+        } catch (Exception e) {
+            logger.error(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.offprocess.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/***
+ * Counters of the CompilerWorkerPool: requests waiting for a worker, time spent waiting and building
+ */
+public class CompilerWorkerPoolMetrics {
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicLong builds = new AtomicLong();
+    private final AtomicLong failedBuilds = new AtomicLong();
+    private final AtomicLong recycledWorkers = new AtomicLong();
+    private final AtomicLong totalWaitTime = new AtomicLong();
+    private final AtomicLong maxWaitTime = new AtomicLong();
+    private final AtomicLong totalBuildTime = new AtomicLong();
+    private final AtomicLong maxBuildTime = new AtomicLong();
+
+    void enqueued() {
+        queueDepth.incrementAndGet();
+    }
+
+    void dequeued(long waitTime) {
+        queueDepth.decrementAndGet();
+        totalWaitTime.addAndGet(waitTime);
+        maxWaitTime.accumulateAndGet(waitTime, Math::max);
+    }
+
+    void built(long buildTime, boolean success) {
+        builds.incrementAndGet();
+        if (!success) {
+            failedBuilds.incrementAndGet();
+        }
+        totalBuildTime.addAndGet(buildTime);
+        maxBuildTime.accumulateAndGet(buildTime, Math::max);
+    }
+
+    void recycled() {
+        recycledWorkers.incrementAndGet();
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public long getBuilds() {
+        return builds.get();
+    }
+
+    public long getFailedBuilds() {
+        return failedBuilds.get();
+    }
+
+    public long getRecycledWorkers() {
+        return recycledWorkers.get();
+    }
+
+    public long getTotalWaitTime() {
+        return totalWaitTime.get();
+    }
+
+    public long getMaxWaitTime() {
+        return maxWaitTime.get();
+    }
+
+    public long getAverageWaitTime() {
+        long count = builds.get();
+        return count == 0 ? 0 : totalWaitTime.get() / count;
+    }
+
+    public long getTotalBuildTime() {
+        return totalBuildTime.get();
+    }
+
+    public long getMaxBuildTime() {
+        return maxBuildTime.get();
+    }
+
+    public long getAverageBuildTime() {
+        long count = builds.get();
+        return count == 0 ? 0 : totalBuildTime.get() / count;
+    }
+
+    @Override
+    public String toString() {
+        return "CompilerWorkerPoolMetrics{" +
+                "queueDepth=" + getQueueDepth() +
+                ", builds=" + getBuilds() +
+                ", failedBuilds=" + getFailedBuilds() +
+                ", recycledWorkers=" + getRecycledWorkers() +
+                ", averageWaitTime=" + getAverageWaitTime() +
+                ", maxWaitTime=" + getMaxWaitTime() +
+                ", averageBuildTime=" + getAverageBuildTime() +
+                ", maxBuildTime=" + getMaxBuildTime() +
+                '}';
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.offprocess.impl;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import net.openhft.chronicle.bytes.Bytes;
+import org.drools.core.rule.KieModuleMetaInfo;
+import org.kie.api.builder.KieModule;
+import org.kie.workbench.common.services.backend.compiler.impl.DefaultKieCompilationResponseOffProcess;
+
+/***
+ * Binary layout of the DefaultKieCompilationResponseOffProcess written on the Chronicle Queue.
+ * <p>The response is written directly on the Bytes of the queue document, in this order:
+ * <ul>
+ * <li>format version</li>
+ * <li>maven output, prefixed by its length in bytes to be skipped and read only when requested</li>
+ * <li>successful flag and working dir</li>
+ * <li>table of the distinct strings of dependencies, target content, event types and classloader store keys</li>
+ * <li>dependencies, target content and event types as indexes of the string table</li>
+ * <li>classloader store as string table index and byte content</li>
+ * <li>KieModuleMetaInfo and KieModule, java serialized, prefixed by their length</li>
+ * </ul>
+ * </p>
+ * The strings of the table are interned on read, the same dependency paths are shared between the responses.
+ */
+public class ResponseWireFormat {
+
+    static final byte VERSION = 1;
+    private static final Interner<String> interner = Interners.newWeakInterner();
+
+    private ResponseWireFormat() {
+    }
+
+    public static void write(Bytes<?> bytes, DefaultKieCompilationResponseOffProcess res) throws IOException {
+        bytes.writeByte(VERSION);
+        writeMavenOutput(bytes, res.getMavenOutput());
+        bytes.writeBoolean(Boolean.TRUE.equals(res.isSuccessful()));
+        bytes.writeUtf8(res.getWorkingDir());
+
+        Map<String, Integer> table = new LinkedHashMap<>();
+        List<String> dependencies = res.getDependencies();
+        List<String> targetContent = res.getTargetContent();
+        Set<String> eventTypes = res.getEventTypeClasses();
+        Map<String, byte[]> classLoaderStore = res.getProjectClassLoaderStore();
+        addToTable(table, dependencies);
+        addToTable(table, targetContent);
+        addToTable(table, eventTypes);
+        addToTable(table, classLoaderStore.keySet());
+        bytes.writeStopBit(table.size());
+        for (String value : table.keySet()) {
+            bytes.writeUtf8(value);
+        }
+        writeIndexes(bytes, table, dependencies);
+        writeIndexes(bytes, table, targetContent);
+        writeIndexes(bytes, table, eventTypes);
+
+        bytes.writeStopBit(classLoaderStore.size());
+        for (Map.Entry<String, byte[]> entry : classLoaderStore.entrySet()) {
+            bytes.writeStopBit(table.get(entry.getKey()));
+            byte[] content = entry.getValue() != null ? entry.getValue() : new byte[0];
+            bytes.writeStopBit(content.length);
+            bytes.write(content);
+        }
+
+        writeObject(bytes, res.getKieModuleMetaInfo().orElse(null));
+        writeObject(bytes, res.getKieModule().orElse(null));
+    }
+
+    /***
+     * Read the response skipping the maven output, the mavenOutputLoader is invoked only if the maven output is requested
+     */
+    public static DefaultKieCompilationResponseOffProcess read(Bytes<?> bytes, String uuid, Supplier<List<String>> mavenOutputLoader) throws IOException, ClassNotFoundException {
+        checkVersion(bytes);
+        bytes.readSkip(bytes.readInt());
+        boolean successful = bytes.readBoolean();
+        String workingDir = bytes.readUtf8();
+
+        int tableSize = (int) bytes.readStopBit();
+        String[] table = new String[tableSize];
+        for (int i = 0; i < tableSize; i++) {
+            String value = bytes.readUtf8();
+            table[i] = value != null ? interner.intern(value) : null;
+        }
+        List<String> dependencies = readIndexes(bytes, table, new ArrayList<>());
+        List<String> targetContent = readIndexes(bytes, table, new ArrayList<>());
+        Set<String> eventTypes = readIndexes(bytes, table, new HashSet<>());
+
+        int storeSize = (int) bytes.readStopBit();
+        Map<String, byte[]> classLoaderStore = new HashMap<>(storeSize * 2);
+        for (int i = 0; i < storeSize; i++) {
+            String key = table[(int) bytes.readStopBit()];
+            byte[] content = new byte[(int) bytes.readStopBit()];
+            bytes.read(content);
+            classLoaderStore.put(key, content);
+        }
+
+        KieModuleMetaInfo kieModuleMetaInfo = (KieModuleMetaInfo) readObject(bytes);
+        KieModule kieModule = (KieModule) readObject(bytes);
+        return new DefaultKieCompilationResponseOffProcess(successful,
+                                                           uuid,
+                                                           workingDir,
+                                                           kieModuleMetaInfo,
+                                                           kieModule,
+                                                           classLoaderStore,
+                                                           eventTypes,
+                                                           dependencies,
+                                                           targetContent,
+                                                           mavenOutputLoader);
+    }
+
+    public static List<String> readMavenOutput(Bytes<?> bytes) {
+        checkVersion(bytes);
+        bytes.readInt();
+        int size = (int) bytes.readStopBit();
+        List<String> output = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            output.add(bytes.readUtf8());
+        }
+        return output;
+    }
+
+    private static void checkVersion(Bytes<?> bytes) {
+        byte version = bytes.readByte();
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported response format version:" + version);
+        }
+    }
+
+    private static void writeMavenOutput(Bytes<?> bytes, List<String> mavenOutput) {
+        long lengthPosition = bytes.writePosition();
+        bytes.writeInt(0);
+        bytes.writeStopBit(mavenOutput.size());
+        for (String line : mavenOutput) {
+            bytes.writeUtf8(line);
+        }
+        bytes.writeInt(lengthPosition, (int) (bytes.writePosition() - lengthPosition - 4));
+    }
+
+    private static void addToTable(Map<String, Integer> table, Collection<String> values) {
+        for (String value : values) {
+            table.putIfAbsent(value, table.size());
+        }
+    }
+
+    private static void writeIndexes(Bytes<?> bytes, Map<String, Integer> table, Collection<String> values) {
+        bytes.writeStopBit(values.size());
+        for (String value : values) {
+            bytes.writeStopBit(table.get(value));
+        }
+    }
+
+    private static <T extends Collection<String>> T readIndexes(Bytes<?> bytes, String[] table, T values) {
+        int size = (int) bytes.readStopBit();
+        for (int i = 0; i < size; i++) {
+            values.add(table[(int) bytes.readStopBit()]);
+        }
+        return values;
+    }
+
+    private static void writeObject(Bytes<?> bytes, Object obj) throws IOException {
+        long lengthPosition = bytes.writePosition();
+        bytes.writeInt(0);
+        if (obj != null) {
+            // the stream is flushed and not closed, closing it would close the bytes of the document
+            ObjectOutputStream o = new ObjectOutputStream(bytes.outputStream());
+            o.writeObject(obj);
+            o.flush();
+        }
+        bytes.writeInt(lengthPosition, (int) (bytes.writePosition() - lengthPosition - 4));
+    }
+
+    private static Object readObject(Bytes<?> bytes) throws IOException, ClassNotFoundException {
+        int length = bytes.readInt();
+        if (length == 0) {
+            return null;
+        }
+        long end = bytes.readPosition() + length;
+        long limit = bytes.readLimit();
+        bytes.readLimit(end);
+        try {
+            return new ObjectInputStream(bytes.inputStream()).readObject();
+        } finally {
+            bytes.readLimit(limit);
+            bytes.readPosition(end);
+        }
+    }
+}
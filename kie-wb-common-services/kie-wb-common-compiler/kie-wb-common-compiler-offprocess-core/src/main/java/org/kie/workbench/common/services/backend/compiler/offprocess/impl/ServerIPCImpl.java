@@ -15,14 +15,12 @@
  */
 package org.kie.workbench.common.services.backend.compiler.offprocess.impl;
 
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.ObjectOutputStream;
 import java.util.EnumSet;
 
-import net.openhft.chronicle.bytes.Bytes;
 import net.openhft.chronicle.queue.ExcerptAppender;
+import net.openhft.chronicle.wire.DocumentContext;
 import org.apache.commons.lang3.StringUtils;
 import org.kie.workbench.common.services.backend.compiler.AFCompiler;
 import org.kie.workbench.common.services.backend.compiler.CompilationRequest;
@@ -42,6 +40,7 @@ import org.uberfire.java.nio.file.Paths;
  */
 public class ServerIPCImpl {
 
+    public static final String RESPONSE_UUID = "uuid";
     private static Logger logger = LoggerFactory.getLogger(ServerIPCImpl.class);
 
     public static void main(String[] args) throws Exception {
@@ -106,20 +105,19 @@ public class ServerIPCImpl {
 
     public static void execute(String workingDir, String mavenRepo, String alternateSettingsAbsPath, String uuid, QueueProvider provider) throws Exception {
         DefaultKieCompilationResponseOffProcess res = build(workingDir, mavenRepo, alternateSettingsAbsPath, uuid);
-        byte[] bytez = serialize(res);
-        if (bytez == null) {
-            logger.warn("The serialized response is null, working dir:{}\n mavenrepo:{} \n alternateSettingsAbsPath:{} \n uuid:{}", workingDir, mavenRepo, alternateSettingsAbsPath, uuid);
-            return;
-        }
-        writeOnQueue(bytez, provider);
+        writeOnQueue(uuid, res, provider);
     }
 
-    private static void writeOnQueue(byte[] bytez, QueueProvider provider) {
+    static void writeOnQueue(String uuid, DefaultKieCompilationResponseOffProcess res, QueueProvider provider) throws IOException {
         if(logger.isDebugEnabled()) {
             logger.debug("write On Queue");
         }
         ExcerptAppender appender = provider.getQueue().acquireAppender();
-        appender.writeBytes(Bytes.allocateDirect(bytez));
+        // the uuid is written before the response to allow the client to index the queue without reading the responses
+        try (DocumentContext dc = appender.writingDocument()) {
+            dc.wire().write(RESPONSE_UUID).text(uuid);
+            ResponseWireFormat.write(dc.wire().bytes(), res);
+        }
         if(logger.isDebugEnabled()) {
             logger.debug("last index appended:{}", appender.lastIndexAppended());
         }
@@ -152,13 +150,4 @@ public class ServerIPCImpl {
         KieCompilationResponse res = (KieCompilationResponse) compiler.compile(req);
         return new DefaultKieCompilationResponseOffProcess(res);
     }
-
-    private static byte[] serialize(Object obj) throws IOException {
-        try (ByteArrayOutputStream b = new ByteArrayOutputStream()) {
-            try (ObjectOutputStream o = new ObjectOutputStream(b)) {
-                o.writeObject(obj);
-            }
-            return b.toByteArray();
-        }
-    }
 }
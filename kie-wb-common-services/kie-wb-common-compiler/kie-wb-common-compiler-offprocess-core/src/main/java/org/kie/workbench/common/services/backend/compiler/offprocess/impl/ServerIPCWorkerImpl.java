@@ -0,0 +1,138 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.offprocess.impl;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import net.openhft.chronicle.queue.ExcerptAppender;
+import net.openhft.chronicle.queue.ExcerptTailer;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/***
+ * Long lived worker invoked through the main method by the CompilerWorkerPool.
+ * <p>The worker reads the build requests from its own request queue, runs the build like the ServerIPCImpl,
+ * writes the response on the shared response queue and then acknowledges the request on its ack queue.</p>
+ * <p>The worker ends when a stop message is received or when the stdin of the process is closed
+ * (i.e. the coordinator JVM is gone).</p>
+ */
+public class ServerIPCWorkerImpl {
+
+    public static final String TYPE = "type";
+    public static final String UUID = "uuid";
+    public static final String WORKING_DIR = "workingDir";
+    public static final String MAVEN_REPO = "mavenRepo";
+    public static final String SETTINGS = "settings";
+    public static final String BUILD = "build";
+    public static final String PING = "ping";
+    public static final String STOP = "stop";
+    public static final String DONE = "done";
+    public static final String PONG = "pong";
+
+    private static final long IDLE_SLEEP_MILLIS = 10;
+    private static Logger logger = LoggerFactory.getLogger(ServerIPCWorkerImpl.class);
+
+    public static void main(String[] args) throws Exception {
+        checksParamsNumber(args);
+        QueueProvider requestProvider = new QueueProvider(args[0], true);
+        QueueProvider ackProvider = new QueueProvider(args[1], true);
+        QueueProvider responseProvider = new QueueProvider(args[2], true);
+        AtomicBoolean running = new AtomicBoolean(true);
+        watchParent(running);
+        loop(requestProvider, ackProvider, responseProvider, running);
+        requestProvider.cleanQueue();
+        ackProvider.cleanQueue();
+        responseProvider.cleanQueue();
+        System.exit(0);
+    }
+
+    private static void checksParamsNumber(String[] args) {
+        if (args.length != 3) {
+            logger.error("Wrong number of params:{}", args.length);
+            throw new RuntimeException("Wrong number of params:" + args.length);
+        }
+    }
+
+    private static void watchParent(AtomicBoolean running) {
+        Thread watcher = new Thread(() -> {
+            try {
+                while (System.in.read() != -1) {
+                    //nothing to read, the stdin is used only to detect the end of the coordinator
+                }
+            } catch (IOException e) {
+                logger.error(e.getMessage(), e);
+            }
+            running.set(false);
+        }, "offprocess-worker-parent-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    private static void loop(QueueProvider requestProvider, QueueProvider ackProvider, QueueProvider responseProvider, AtomicBoolean running) throws InterruptedException {
+        ExcerptTailer tailer = requestProvider.getQueue().createTailer();
+        ExcerptAppender ackAppender = ackProvider.getQueue().acquireAppender();
+        String threadName = Thread.currentThread().getName();
+        while (running.get()) {
+            WorkerMessage msg = new WorkerMessage();
+            boolean read = tailer.readDocument(w -> {
+                msg.type = w.read(TYPE).text();
+                msg.uuid = w.read(UUID).text();
+                msg.workingDir = w.read(WORKING_DIR).text();
+                msg.mavenRepo = w.read(MAVEN_REPO).text();
+                msg.settings = w.read(SETTINGS).text();
+            });
+            if (!read) {
+                Thread.sleep(IDLE_SLEEP_MILLIS);
+                continue;
+            }
+            if (STOP.equals(msg.type)) {
+                running.set(false);
+            } else if (PING.equals(msg.type)) {
+                ack(ackAppender, PONG, msg.uuid);
+            } else if (BUILD.equals(msg.type)) {
+                execute(responseProvider, msg);
+                Thread.currentThread().setName(threadName);// restore the previous name to avoid the override of the maven output
+                ack(ackAppender, DONE, msg.uuid);
+            } else {
+                logger.warn("Unknown message type:{}", msg.type);
+            }
+        }
+    }
+
+    private static void execute(QueueProvider responseProvider, WorkerMessage msg) {
+        try {
+            ServerIPCImpl.execute(msg.workingDir, msg.mavenRepo, StringUtils.defaultString(msg.settings), msg.uuid, responseProvider);
+        } catch (Exception e) {
+            logger.error(e.getMessage(), e);
+        }
+    }
+
+    private static void ack(ExcerptAppender appender, String type, String uuid) {
+        appender.writeDocument(w -> w.write(TYPE).text(type)
+                .write(UUID).text(uuid));
+    }
+
+    private static class WorkerMessage {
+
+        private String type;
+        private String uuid;
+        private String workingDir;
+        private String mavenRepo;
+        private String settings;
+    }
+}
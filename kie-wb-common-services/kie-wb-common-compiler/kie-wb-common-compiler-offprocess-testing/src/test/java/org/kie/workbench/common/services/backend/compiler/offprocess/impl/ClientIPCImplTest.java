@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.offprocess.impl;
+
+import java.util.UUID;
+
+import net.openhft.chronicle.core.io.IOTools;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.services.backend.compiler.impl.DefaultKieCompilationResponse;
+import org.kie.workbench.common.services.backend.compiler.impl.DefaultKieCompilationResponseOffProcess;
+import org.kie.workbench.common.services.backend.compiler.impl.kie.KieCompilationResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClientIPCImplTest {
+
+    private QueueProvider provider;
+    private ClientIPCImpl client;
+
+    @Before
+    public void setUp() {
+        provider = new QueueProvider("offprocess-client-test-" + UUID.randomUUID().toString());
+        client = new ClientIPCImpl(new ResponseSharedMap(), provider);
+    }
+
+    @After
+    public void tearDown() {
+        provider.cleanQueue();
+        IOTools.shallowDeleteDirWithFiles(provider.getAbsolutePath());
+    }
+
+    private String write(boolean successful) throws Exception {
+        String uuid = UUID.randomUUID().toString();
+        DefaultKieCompilationResponseOffProcess res = new DefaultKieCompilationResponseOffProcess(successful, uuid);
+        ServerIPCImpl.writeOnQueue(uuid, res, provider);
+        return uuid;
+    }
+
+    @Test
+    public void responseIsFoundInTheMiddleOfTheQueue() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            write(false);
+        }
+        String uuid = write(true);
+        for (int i = 0; i < 50; i++) {
+            write(false);
+        }
+
+        KieCompilationResponse res = client.getResponse(uuid);
+
+        assertThat(res.isSuccessful()).isTrue();
+        assertThat(((DefaultKieCompilationResponse) res).getRequestUUID()).isEqualTo(uuid);
+    }
+
+    @Test
+    public void queueIsIndexedIncrementally() throws Exception {
+        String first = write(true);
+        assertThat(client.indexOf(first)).isNotNull();
+
+        String second = write(true);
+        String third = write(true);
+
+        assertThat(client.getResponse(third).isSuccessful()).isTrue();
+        assertThat(client.getResponse(second).isSuccessful()).isTrue();
+        assertThat(client.getResponse(first).isSuccessful()).isTrue();
+        assertThat(client.indexOf(second)).isNull();
+    }
+
+    @Test
+    public void missingResponse() throws Exception {
+        write(true);
+
+        KieCompilationResponse res = client.getResponse(UUID.randomUUID().toString());
+
+        assertThat(res.isSuccessful()).isFalse();
+    }
+}
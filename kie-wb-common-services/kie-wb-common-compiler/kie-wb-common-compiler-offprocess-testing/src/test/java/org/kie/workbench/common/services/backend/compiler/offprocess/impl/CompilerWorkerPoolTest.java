@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.offprocess.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CompilerWorkerPoolTest {
+
+    private List<CompilerWorker> started = new ArrayList<>();
+
+    private CompilerWorker newWorker(boolean buildResult) {
+        CompilerWorker worker = mock(CompilerWorker.class);
+        when(worker.isAlive()).thenReturn(true);
+        when(worker.getLastUsed()).thenReturn(System.currentTimeMillis());
+        when(worker.build(anyString(), anyString(), anyString(), anyString(), anyLong())).thenReturn(buildResult);
+        started.add(worker);
+        return worker;
+    }
+
+    @Test
+    public void workersAreStartedWarmAndReused() {
+        CompilerWorkerPool pool = new CompilerWorkerPool(() -> newWorker(true), 2, 10, 1000, 60000, 1000);
+        assertThat(started).hasSize(2);
+
+        assertThat(pool.build("uuid-1", "prj", "repo", "")).isTrue();
+        assertThat(pool.build("uuid-2", "prj", "repo", "")).isTrue();
+        assertThat(pool.build("uuid-3", "prj", "repo", "")).isTrue();
+
+        assertThat(started).hasSize(2);
+        assertThat(pool.getMetrics().getBuilds()).isEqualTo(3);
+        assertThat(pool.getMetrics().getQueueDepth()).isEqualTo(0);
+        assertThat(pool.getMetrics().getRecycledWorkers()).isEqualTo(0);
+    }
+
+    @Test
+    public void workerIsRecycledAfterMaxBuilds() {
+        CompilerWorkerPool pool = new CompilerWorkerPool(() -> newWorker(true), 1, 1, 1000, 60000, 1000);
+        CompilerWorker first = started.get(0);
+        when(first.getBuilds()).thenReturn(1);
+
+        assertThat(pool.build("uuid-1", "prj", "repo", "")).isTrue();
+
+        verify(first).stop();
+        assertThat(started).hasSize(2);
+        assertThat(pool.getMetrics().getRecycledWorkers()).isEqualTo(1);
+    }
+
+    @Test
+    public void failedBuildReplacesTheWorker() {
+        CompilerWorkerPool pool = new CompilerWorkerPool(() -> newWorker(false), 1, 10, 1000, 60000, 1000);
+        CompilerWorker first = started.get(0);
+
+        assertThat(pool.build("uuid-1", "prj", "repo", "")).isFalse();
+
+        verify(first).stop();
+        assertThat(started).hasSize(2);
+        assertThat(pool.getMetrics().getFailedBuilds()).isEqualTo(1);
+    }
+
+    @Test
+    public void deadWorkerIsReplacedBeforeTheBuild() {
+        CompilerWorkerPool pool = new CompilerWorkerPool(() -> newWorker(true), 1, 10, 1000, 60000, 1000);
+        CompilerWorker first = started.get(0);
+        when(first.isAlive()).thenReturn(false);
+
+        assertThat(pool.build("uuid-1", "prj", "repo", "")).isTrue();
+
+        verify(first).stop();
+        verify(first, never()).build(anyString(), anyString(), anyString(), anyString(), anyLong());
+        assertThat(started).hasSize(2);
+    }
+
+    @Test
+    public void idleWorkerIsPingedBeforeTheBuild() {
+        CompilerWorkerPool pool = new CompilerWorkerPool(() -> newWorker(true), 1, 10, 1000, 0, 1000);
+        CompilerWorker first = started.get(0);
+        when(first.ping(anyLong())).thenReturn(true);
+
+        assertThat(pool.build("uuid-1", "prj", "repo", "")).isTrue();
+
+        verify(first).ping(1000);
+        verify(first, never()).stop();
+    }
+
+    @Test
+    public void shutdownStopsIdleWorkers() {
+        CompilerWorkerPool pool = new CompilerWorkerPool(() -> newWorker(true), 2, 10, 1000, 60000, 1000);
+        pool.shutdown();
+        started.forEach(worker -> verify(worker).stop());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.offprocess.impl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.openhft.chronicle.bytes.Bytes;
+import org.junit.Test;
+import org.kie.workbench.common.services.backend.compiler.impl.DefaultKieCompilationResponse;
+import org.kie.workbench.common.services.backend.compiler.impl.DefaultKieCompilationResponseOffProcess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResponseWireFormatTest {
+
+    private static final String UUID = "5d3e4a8c-0b0e-4c43-9d1a-1f3b6d9f9a21";
+
+    @Test
+    public void roundTrip() throws Exception {
+        List<String> dependencies = Arrays.asList("/m2/org/kie/kie-api/kie-api.jar",
+                                                  "/m2/org/drools/drools-core/drools-core.jar",
+                                                  "/m2/org/kie/kie-api/kie-api.jar");
+        Map<String, byte[]> store = new HashMap<>();
+        store.put("org.kie.Person", new byte[]{1, 2, 3});
+        DefaultKieCompilationResponseOffProcess res = new DefaultKieCompilationResponseOffProcess(true,
+                                                                                                  UUID,
+                                                                                                  "/tmp/prj",
+                                                                                                  null,
+                                                                                                  null,
+                                                                                                  store,
+                                                                                                  new HashSet<>(Collections.singletonList("org.kie.Person")),
+                                                                                                  dependencies,
+                                                                                                  Collections.singletonList("/tmp/prj/target/classes/org/kie/Person.class"),
+                                                                                                  () -> Arrays.asList("[INFO] BUILD SUCCESS", "[INFO] Total time: 1 s"));
+        Bytes<?> bytes = Bytes.elasticByteBuffer();
+        ResponseWireFormat.write(bytes, res);
+
+        AtomicInteger loads = new AtomicInteger();
+        long start = bytes.readPosition();
+        DefaultKieCompilationResponseOffProcess read = ResponseWireFormat.read(bytes, UUID, () -> {
+            loads.incrementAndGet();
+            bytes.readPosition(start);
+            return ResponseWireFormat.readMavenOutput(bytes);
+        });
+
+        assertThat(read.isSuccessful()).isTrue();
+        assertThat(read.getRequestUUID()).isEqualTo(UUID);
+        assertThat(read.getWorkingDir()).isEqualTo("/tmp/prj");
+        assertThat(read.getDependencies()).containsExactlyElementsOf(dependencies);
+        assertThat(read.getDependencies().get(0)).isSameAs(read.getDependencies().get(2));
+        assertThat(read.getTargetContent()).containsExactly("/tmp/prj/target/classes/org/kie/Person.class");
+        assertThat(read.getEventTypeClasses()).containsExactly("org.kie.Person");
+        assertThat(read.getProjectClassLoaderStore().get("org.kie.Person")).containsExactly(1, 2, 3);
+        assertThat(read.getKieModule()).isEmpty();
+        assertThat(read.getKieModuleMetaInfo()).isEmpty();
+        assertThat(loads.get()).isEqualTo(0);
+
+        DefaultKieCompilationResponse kres = new DefaultKieCompilationResponse(read);
+        assertThat(loads.get()).isEqualTo(0);
+        assertThat(kres.getMavenOutput()).containsExactly("[INFO] BUILD SUCCESS", "[INFO] Total time: 1 s");
+        assertThat(loads.get()).isEqualTo(1);
+        bytes.release();
+    }
+}
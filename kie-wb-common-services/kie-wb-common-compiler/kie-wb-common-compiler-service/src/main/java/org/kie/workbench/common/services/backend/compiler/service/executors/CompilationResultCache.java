@@ -0,0 +1,228 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.service.executors;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.kie.workbench.common.services.backend.compiler.impl.CommonConstants;
+import org.kie.workbench.common.services.backend.compiler.impl.kie.KieCompilationResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uberfire.java.nio.file.DirectoryStream;
+import org.uberfire.java.nio.file.Files;
+import org.uberfire.java.nio.file.Path;
+
+import static org.kie.workbench.common.services.backend.compiler.impl.utils.CacheUtils.getPositiveNumberProperty;
+import static org.kie.workbench.common.services.backend.compiler.impl.utils.CacheUtils.newSha256Digest;
+import static org.kie.workbench.common.services.backend.compiler.impl.utils.CacheUtils.toHex;
+
+/***
+ * Cache of the successful compilation results, keyed by a hash of the build inputs:
+ * the goals, the maven repo, the content of the settings file, the content of the poms and the path, size and
+ * last modified time of the other files of the project (target folders and hidden files excluded).
+ * <p>The cache keeps in memory at most {@value #DEFAULT_CACHE_SIZE} results (property {@value #CACHE_SIZE}),
+ * the evicted results are written on the folder of the property {@value #CACHE_SPILL_DIR} when it is set,
+ * and read back when requested again.</p>
+ */
+public class CompilationResultCache {
+
+    public static final String CACHE_SIZE = "org.kie.workbench.compiler.result.cache.size";
+    public static final String CACHE_SPILL_DIR = "org.kie.workbench.compiler.result.cache.spill.dir";
+    public static final String CACHE_SPILL_SIZE = "org.kie.workbench.compiler.result.cache.spill.size";
+    protected static final String DEFAULT_CACHE_SIZE = "10";
+    protected static final String DEFAULT_CACHE_SPILL_SIZE = "100";
+    private static final String SPILL_EXT = ".response";
+    private static final String TARGET = "target";
+
+    private static final Logger logger = LoggerFactory.getLogger(CompilationResultCache.class);
+
+    private final Map<String, KieCompilationResponse> entries;
+    private final java.nio.file.Path spillDir;
+    private final int maxSpilledEntries;
+
+    public CompilationResultCache() {
+        this(Integer.parseInt(getPositiveNumberProperty(CACHE_SIZE, DEFAULT_CACHE_SIZE)),
+             System.getProperty(CACHE_SPILL_DIR),
+             Integer.parseInt(getPositiveNumberProperty(CACHE_SPILL_SIZE, DEFAULT_CACHE_SPILL_SIZE)));
+    }
+
+    public CompilationResultCache(final int maxEntries,
+                                  final String spillDir,
+                                  final int maxSpilledEntries) {
+        this.spillDir = spillDir != null && !spillDir.isEmpty() ? java.nio.file.Paths.get(spillDir) : null;
+        this.maxSpilledEntries = maxSpilledEntries;
+        this.entries = new LinkedHashMap<String, KieCompilationResponse>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, KieCompilationResponse> eldest) {
+                if (size() > maxEntries) {
+                    spill(eldest.getKey(), eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized KieCompilationResponse get(final String key) {
+        KieCompilationResponse response = entries.get(key);
+        if (response == null) {
+            response = readSpilled(key);
+            if (response != null) {
+                entries.put(key, response);
+            }
+        }
+        return response;
+    }
+
+    public synchronized void put(final String key,
+                                 final KieCompilationResponse response) {
+        if (key != null && response != null && Boolean.TRUE.equals(response.isSuccessful())) {
+            entries.put(key, response);
+        }
+    }
+
+    public synchronized void invalidate() {
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /***
+     * Hash of the inputs of a build, null if the project can't be read
+     */
+    public String key(final Path projectPath,
+                      final String mavenRepoPath,
+                      final String settingXML,
+                      final String... goals) {
+        try {
+            final MessageDigest digest = newSha256Digest();
+            update(digest, String.join(" ", goals));
+            update(digest, mavenRepoPath);
+            if (settingXML != null) {
+                update(digest, settingXML);
+                final java.nio.file.Path settings = java.nio.file.Paths.get(settingXML);
+                if (java.nio.file.Files.isRegularFile(settings)) {
+                    digest.update(java.nio.file.Files.readAllBytes(settings));
+                }
+            }
+            if (!Files.isDirectory(projectPath)) {
+                return null;
+            }
+            hashFolder(digest, projectPath);
+            return toHex(digest);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Unable to compute the compilation cache key of {}: {}", projectPath, e.getMessage());
+            return null;
+        }
+    }
+
+    private void hashFolder(final MessageDigest digest,
+                            final Path folder) {
+        final List<Path> children = new ArrayList<>();
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(folder)) {
+            ds.forEach(children::add);
+        }
+        children.sort(Comparator.comparing(Path::toString));
+        for (Path child : children) {
+            final String name = child.getFileName().toString();
+            if (name.startsWith(".")) {
+                continue;
+            }
+            if (Files.isDirectory(child)) {
+                if (!TARGET.equals(name)) {
+                    update(digest, name + "/");
+                    hashFolder(digest, child);
+                    update(digest, "/" + name);
+                }
+            } else {
+                update(digest, name);
+                if (name.equals(CommonConstants.POM_NAME)) {
+                    digest.update(Files.readAllBytes(child));
+                } else {
+                    update(digest, String.valueOf(Files.size(child)));
+                    update(digest, String.valueOf(Files.getLastModifiedTime(child).toMillis()));
+                }
+            }
+        }
+    }
+
+    private void update(final MessageDigest digest,
+                        final String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private void spill(final String key,
+                       final KieCompilationResponse response) {
+        if (spillDir == null) {
+            return;
+        }
+        try {
+            java.nio.file.Files.createDirectories(spillDir);
+            try (OutputStream out = java.nio.file.Files.newOutputStream(spillDir.resolve(key + SPILL_EXT));
+                 ObjectOutputStream oos = new ObjectOutputStream(out)) {
+                oos.writeObject(response);
+            }
+            purgeSpilled();
+        } catch (IOException e) {
+            logger.warn("Unable to spill the compilation result {}: {}", key, e.getMessage());
+        }
+    }
+
+    private void purgeSpilled() throws IOException {
+        try (Stream<java.nio.file.Path> files = java.nio.file.Files.list(spillDir)) {
+            final List<java.nio.file.Path> spilled = files
+                    .filter(file -> file.getFileName().toString().endsWith(SPILL_EXT))
+                    .sorted(Comparator.comparingLong(file -> file.toFile().lastModified()))
+                    .collect(Collectors.toList());
+            for (int i = 0; i < spilled.size() - maxSpilledEntries; i++) {
+                java.nio.file.Files.deleteIfExists(spilled.get(i));
+            }
+        }
+    }
+
+    private KieCompilationResponse readSpilled(final String key) {
+        if (spillDir == null) {
+            return null;
+        }
+        final java.nio.file.Path file = spillDir.resolve(key + SPILL_EXT);
+        if (!java.nio.file.Files.exists(file)) {
+            return null;
+        }
+        try (InputStream in = java.nio.file.Files.newInputStream(file);
+             ObjectInputStream ois = new ObjectInputStream(in)) {
+            return (KieCompilationResponse) ois.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            logger.warn("Unable to read the spilled compilation result {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.service.executors;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import org.kie.workbench.common.services.backend.compiler.impl.utils.CacheUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/***
+ * Scheduler of the builds executed by the DefaultLocalExecutor.
+ * <ul>
+ * <li>the builds of the same project run one at time, in order of submission</li>
+ * <li>a build is merged with the build of the same project and arguments already waiting in the queue, the callers
+ * share the same result; a build already running is not shared because the sources could be changed after its start</li>
+ * <li>the projects with waiting builds are served round robin, a project with many requests doesn't starve the others</li>
+ * <li>at most {@value #DEFAULT_MAX_CONCURRENT_BUILDS} builds run at the same time (property {@value #MAX_CONCURRENT_BUILDS},
+ * 0 means the number of available processors)</li>
+ * </ul>
+ */
+public class CompilationScheduler<T> {
+
+    public static final String MAX_CONCURRENT_BUILDS = "org.kie.workbench.compiler.max.concurrent.builds";
+    protected static final String DEFAULT_MAX_CONCURRENT_BUILDS = "0";
+
+    private static final Logger logger = LoggerFactory.getLogger(CompilationScheduler.class);
+
+    private final ExecutorService executor;
+    private final int maxConcurrentBuilds;
+    private final Map<String, Deque<BuildTask<T>>> queues = new HashMap<>();
+    private final Map<String, BuildTask<T>> waiting = new HashMap<>();
+    private final Deque<String> readyProjects = new ArrayDeque<>();
+    private final Set<String> runningProjects = new HashSet<>();
+    private int running;
+
+    public CompilationScheduler(final ExecutorService executor) {
+        this(executor,
+             Integer.parseInt(CacheUtils.getPositiveNumberProperty(MAX_CONCURRENT_BUILDS, DEFAULT_MAX_CONCURRENT_BUILDS)));
+    }
+
+    public CompilationScheduler(final ExecutorService executor,
+                                final int maxConcurrentBuilds) {
+        this.executor = executor;
+        this.maxConcurrentBuilds = maxConcurrentBuilds > 0 ? maxConcurrentBuilds : Runtime.getRuntime().availableProcessors();
+    }
+
+    /***
+     * @param project the key of the project, the builds with the same key run one at time
+     * @param buildKey the key of the build, the waiting builds with the same key are merged, null to never merge the build
+     * @param build the build
+     */
+    public synchronized CompletableFuture<T> submit(final String project,
+                                                    final String buildKey,
+                                                    final Supplier<T> build) {
+        if (buildKey != null) {
+            final BuildTask<T> pending = waiting.get(buildKey);
+            if (pending != null) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Build {} merged with a waiting build", buildKey);
+                }
+                return pending.future;
+            }
+        }
+        final BuildTask<T> task = new BuildTask<>(project, buildKey, build);
+        if (buildKey != null) {
+            waiting.put(buildKey, task);
+        }
+        final Deque<BuildTask<T>> queue = queues.computeIfAbsent(project, p -> new ArrayDeque<>());
+        queue.addLast(task);
+        if (queue.size() == 1 && !runningProjects.contains(project)) {
+            readyProjects.addLast(project);
+        }
+        dispatch();
+        return task.future;
+    }
+
+    public synchronized int getRunningBuilds() {
+        return running;
+    }
+
+    public synchronized int getWaitingBuilds() {
+        return queues.values().stream().mapToInt(Deque::size).sum();
+    }
+
+    private void dispatch() {
+        while (running < maxConcurrentBuilds && !readyProjects.isEmpty()) {
+            final String project = readyProjects.pollFirst();
+            final Deque<BuildTask<T>> queue = queues.get(project);
+            final BuildTask<T> task = queue.pollFirst();
+            if (queue.isEmpty()) {
+                queues.remove(project);
+            }
+            if (task.buildKey != null) {
+                waiting.remove(task.buildKey);
+            }
+            running++;
+            runningProjects.add(project);
+            try {
+                executor.execute(() -> run(task));
+            } catch (RejectedExecutionException e) {
+                logger.error(e.getMessage(), e);
+                task.future.completeExceptionally(e);
+                completed(project);
+            }
+        }
+    }
+
+    private void run(final BuildTask<T> task) {
+        try {
+            task.future.complete(task.build.get());
+        } catch (Throwable t) {
+            task.future.completeExceptionally(t);
+        } finally {
+            synchronized (this) {
+                completed(task.project);
+                dispatch();
+            }
+        }
+    }
+
+    private void completed(final String project) {
+        running--;
+        runningProjects.remove(project);
+        if (queues.containsKey(project)) {
+            readyProjects.addLast(project);
+        }
+    }
+
+    private static class BuildTask<T> {
+
+        private final String project;
+        private final String buildKey;
+        private final Supplier<T> build;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        BuildTask(final String project,
+                  final String buildKey,
+                  final Supplier<T> build) {
+            this.project = project;
+            this.buildKey = buildKey;
+            this.build = build;
+        }
+    }
+}
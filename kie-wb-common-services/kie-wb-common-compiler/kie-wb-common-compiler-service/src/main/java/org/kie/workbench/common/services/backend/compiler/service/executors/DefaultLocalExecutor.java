@@ -37,13 +37,24 @@ import org.uberfire.java.nio.file.Path;
  */
 public class DefaultLocalExecutor implements CompilerExecutor {
 
-    private ExecutorService executor;
     private LRUCache<Path, CompilerAggregateEntryCache> compilerCacheForLocalInvocation;
+    private CompilationResultCache resultCache;
+    private CompilationScheduler<KieCompilationResponse> scheduler;
 
     public DefaultLocalExecutor(ExecutorService executorService) {
-        executor = executorService;
+        this(executorService, new CompilationResultCache());
+    }
+
+    public DefaultLocalExecutor(ExecutorService executorService, CompilationResultCache resultCache) {
+        this(resultCache, new CompilationScheduler<>(executorService));
+    }
+
+    public DefaultLocalExecutor(CompilationResultCache resultCache,
+                                CompilationScheduler<KieCompilationResponse> scheduler) {
         compilerCacheForLocalInvocation = new LRUCache<Path, CompilerAggregateEntryCache>() {
         };
+        this.resultCache = resultCache;
+        this.scheduler = scheduler;
     }
 
     private AFCompiler getCompiler(Path projectPath) {
@@ -102,8 +113,61 @@ public class DefaultLocalExecutor implements CompilerExecutor {
                                     skipProjectDepCreation,
                                     new String[]{goal});
         }
-        return CompletableFuture.supplyAsync(() -> ((KieCompilationResponse) compiler.compile(req)),
-                                             executor);
+        String buildKey = getBuildKey(projectPath,
+                                      mavenRepoPath,
+                                      skipProjectDepCreation,
+                                      req.getOriginalArgs());
+        if (!MavenCLIArgs.COMPILE.equals(goal)) {
+            return scheduler.submit(projectPath.toUri().toString(),
+                                    buildKey,
+                                    () -> ((KieCompilationResponse) compiler.compile(req)));
+        }
+        return scheduler.submit(projectPath.toUri().toString(),
+                                buildKey,
+                                () -> compileWithResultCache(compiler,
+                                                             req,
+                                                             projectPath,
+                                                             mavenRepoPath,
+                                                             settingXML,
+                                                             String.valueOf(skipProjectDepCreation),
+                                                             goal));
+    }
+
+    /**
+     * Builds with the same key waiting in the queue of the project are merged in a single Maven execution
+     */
+    private String getBuildKey(Path projectPath,
+                               String mavenRepoPath,
+                               boolean skipProjectDepCreation,
+                               String[] args) {
+        return projectPath.toUri().toString() + "|" + mavenRepoPath + "|" + skipProjectDepCreation + "|" + String.join(" ", args);
+    }
+
+    /**
+     * Only the compile goal is served from the result cache, install and the specialized builds have side effects
+     * outside the project. The result is stored also with the key computed after the build, because the first build
+     * can change the poms (incremental compiler plugins)
+     */
+    private KieCompilationResponse compileWithResultCache(AFCompiler compiler,
+                                                          CompilationRequest req,
+                                                          Path projectPath,
+                                                          String mavenRepoPath,
+                                                          String settingXML,
+                                                          String... goals) {
+        String key = resultCache.key(projectPath, mavenRepoPath, settingXML, goals);
+        KieCompilationResponse cached = key != null ? resultCache.get(key) : null;
+        if (cached != null) {
+            return cached;
+        }
+        KieCompilationResponse res = (KieCompilationResponse) compiler.compile(req);
+        if (Boolean.TRUE.equals(res.isSuccessful())) {
+            resultCache.put(key, res);
+            String keyAfterBuild = resultCache.key(projectPath, mavenRepoPath, settingXML, goals);
+            if (keyAfterBuild != null && !keyAfterBuild.equals(key)) {
+                resultCache.put(keyAfterBuild, res);
+            }
+        }
+        return res;
     }
 
     private CompletableFuture<KieCompilationResponse> internalBuild(Path projectPath,
@@ -116,8 +180,12 @@ public class DefaultLocalExecutor implements CompilerExecutor {
                                                    info,
                                                    skipProjectDepCreation,
                                                    args);
-        return CompletableFuture.supplyAsync(() -> ((KieCompilationResponse) compiler.compile(req)),
-                                             executor);
+        return scheduler.submit(projectPath.toUri().toString(),
+                                getBuildKey(projectPath,
+                                            mavenRepoPath,
+                                            skipProjectDepCreation,
+                                            args),
+                                () -> ((KieCompilationResponse) compiler.compile(req)));
     }
 
     private CompletableFuture<KieCompilationResponse> internalBuild(Path projectPath,
@@ -140,9 +208,11 @@ public class DefaultLocalExecutor implements CompilerExecutor {
                                     skipProjectDepCreation,
                                     new String[]{goal});
         }
-        return CompletableFuture.supplyAsync(() -> ((KieCompilationResponse) compiler.compile(req,
-                                                                                              override)),
-                                             executor);
+        // the overridden content is specific of the caller, this build is queued but never merged
+        return scheduler.submit(projectPath.toUri().toString(),
+                                null,
+                                () -> ((KieCompilationResponse) compiler.compile(req,
+                                                                                 override)));
     }
 
     /************************************ Suitable for the Local Builds ***********************************************/
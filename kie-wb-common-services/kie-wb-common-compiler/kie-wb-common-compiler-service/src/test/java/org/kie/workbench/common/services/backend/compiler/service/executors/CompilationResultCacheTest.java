@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.service.executors;
+
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.services.backend.compiler.TestUtil;
+import org.kie.workbench.common.services.backend.compiler.configuration.MavenCLIArgs;
+import org.kie.workbench.common.services.backend.compiler.impl.DefaultKieCompilationResponse;
+import org.kie.workbench.common.services.backend.compiler.impl.kie.KieCompilationResponse;
+import org.uberfire.java.nio.file.Files;
+import org.uberfire.java.nio.file.Path;
+import org.uberfire.java.nio.file.Paths;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompilationResultCacheTest {
+
+    private Path tmpRoot;
+    private Path prj;
+    private Path spill;
+
+    @Before
+    public void setUp() throws Exception {
+        tmpRoot = Files.createTempDirectory("result-cache");
+        prj = Files.createDirectories(Paths.get(tmpRoot.toString(), "prj"));
+        spill = Files.createDirectories(Paths.get(tmpRoot.toString(), "spill"));
+        Files.write(Paths.get(prj.toString(), "pom.xml"), "<project/>".getBytes());
+        Files.createDirectories(Paths.get(prj.toString(), "src", "main", "resources"));
+        Files.write(Paths.get(prj.toString(), "src", "main", "resources", "rules.drl"), "package org.kie".getBytes());
+    }
+
+    @After
+    public void tearDown() {
+        TestUtil.rm(tmpRoot.toFile());
+    }
+
+    @Test
+    public void keyIsStableAndIgnoresTarget() {
+        CompilationResultCache cache = new CompilationResultCache(2, null, 0);
+        String key = cache.key(prj, "/m2", null, MavenCLIArgs.COMPILE);
+
+        Files.createDirectories(Paths.get(prj.toString(), "target", "classes"));
+        Files.write(Paths.get(prj.toString(), "target", "classes", "Foo.class"), new byte[]{1});
+
+        assertThat(key).isNotNull();
+        assertThat(cache.key(prj, "/m2", null, MavenCLIArgs.COMPILE)).isEqualTo(key);
+    }
+
+    @Test
+    public void keyChangesWithInputs() {
+        CompilationResultCache cache = new CompilationResultCache(2, null, 0);
+        String key = cache.key(prj, "/m2", null, MavenCLIArgs.COMPILE);
+
+        assertThat(cache.key(prj, "/other-m2", null, MavenCLIArgs.COMPILE)).isNotEqualTo(key);
+        assertThat(cache.key(prj, "/m2", null, MavenCLIArgs.INSTALL)).isNotEqualTo(key);
+
+        Files.write(Paths.get(prj.toString(), "pom.xml"), "<project></project>".getBytes());
+        assertThat(cache.key(prj, "/m2", null, MavenCLIArgs.COMPILE)).isNotEqualTo(key);
+    }
+
+    @Test
+    public void keyOfMissingProject() {
+        CompilationResultCache cache = new CompilationResultCache(2, null, 0);
+        assertThat(cache.key(Paths.get(prj.toString(), "missing"), "/m2", null, MavenCLIArgs.COMPILE)).isNull();
+    }
+
+    @Test
+    public void onlySuccessfulResponsesAreCached() {
+        CompilationResultCache cache = new CompilationResultCache(2, null, 0);
+        cache.put("failed", new DefaultKieCompilationResponse(false, "uuid"));
+        cache.put("ok", new DefaultKieCompilationResponse(true, "uuid"));
+
+        assertThat(cache.get("failed")).isNull();
+        assertThat(cache.get("ok")).isNotNull();
+    }
+
+    @Test
+    public void evictedResponsesAreReadFromTheSpillFolder() {
+        CompilationResultCache cache = new CompilationResultCache(1, spill.toFile().getAbsolutePath(), 10);
+        cache.put("first", new DefaultKieCompilationResponse(true, Collections.singletonList("[INFO] first"), "uuid-1"));
+        cache.put("second", new DefaultKieCompilationResponse(true, "uuid-2"));
+
+        assertThat(cache.size()).isEqualTo(1);
+        KieCompilationResponse first = cache.get("first");
+        assertThat(first).isNotNull();
+        assertThat(first.getMavenOutput()).containsExactly("[INFO] first");
+    }
+
+    @Test
+    public void evictedResponsesAreDroppedWithoutSpillFolder() {
+        CompilationResultCache cache = new CompilationResultCache(1, null, 0);
+        cache.put("first", new DefaultKieCompilationResponse(true, "uuid-1"));
+        cache.put("second", new DefaultKieCompilationResponse(true, "uuid-2"));
+
+        assertThat(cache.get("first")).isNull();
+        assertThat(cache.get("second")).isNotNull();
+    }
+}
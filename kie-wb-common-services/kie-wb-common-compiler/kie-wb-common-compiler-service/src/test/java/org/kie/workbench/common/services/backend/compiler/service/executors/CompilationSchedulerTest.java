@@ -0,0 +1,151 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.service.executors;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompilationSchedulerTest {
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void waitingBuildsWithTheSameKeyAreMerged() throws Exception {
+        CompilationScheduler<Integer> scheduler = new CompilationScheduler<>(executor, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        CompletableFuture<Integer> running = scheduler.submit("prj", "compile", () -> await(release, executions));
+        CompletableFuture<Integer> first = scheduler.submit("prj", "compile", executions::incrementAndGet);
+        CompletableFuture<Integer> second = scheduler.submit("prj", "compile", executions::incrementAndGet);
+
+        assertThat(first).isSameAs(second);
+        assertThat(running).isNotSameAs(first);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(2);
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void buildsWithoutKeyAreNeverMerged() throws Exception {
+        CompilationScheduler<Integer> scheduler = new CompilationScheduler<>(executor, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        scheduler.submit("prj", null, () -> await(release, executions));
+        CompletableFuture<Integer> first = scheduler.submit("prj", null, executions::incrementAndGet);
+        CompletableFuture<Integer> second = scheduler.submit("prj", null, executions::incrementAndGet);
+
+        assertThat(first).isNotSameAs(second);
+        release.countDown();
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+        assertThat(executions.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void projectsAreServedRoundRobin() throws Exception {
+        CompilationScheduler<Integer> scheduler = new CompilationScheduler<>(executor, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+
+        scheduler.submit("blocker", null, () -> await(release, new AtomicInteger()));
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            String build = "a" + i;
+            futures.add(scheduler.submit("a", build, () -> add(order, build)));
+        }
+        futures.add(scheduler.submit("b", "b0", () -> add(order, "b0")));
+        assertThat(scheduler.getWaitingBuilds()).isEqualTo(4);
+
+        release.countDown();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+        assertThat(order).containsExactly("a0", "b0", "a1", "a2");
+    }
+
+    @Test
+    public void concurrentBuildsAreLimited() throws Exception {
+        CompilationScheduler<Integer> scheduler = new CompilationScheduler<>(executor, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(scheduler.submit("prj" + i, null, () -> await(release, executions)));
+        }
+
+        assertThat(scheduler.getRunningBuilds()).isEqualTo(2);
+        assertThat(scheduler.getWaitingBuilds()).isEqualTo(2);
+        release.countDown();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        assertThat(executions.get()).isEqualTo(4);
+        assertThat(scheduler.getRunningBuilds()).isEqualTo(0);
+    }
+
+    @Test
+    public void failedBuildDoesNotBlockTheQueue() throws Exception {
+        CompilationScheduler<Integer> scheduler = new CompilationScheduler<>(executor, 1);
+
+        CompletableFuture<Integer> failed = scheduler.submit("prj", null, () -> {
+            throw new IllegalStateException("build failed");
+        });
+        CompletableFuture<Integer> next = scheduler.submit("prj", null, () -> 1);
+
+        assertThat(next.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(failed).isCompletedExceptionally();
+    }
+
+    private static Integer await(CountDownLatch latch,
+                                 AtomicInteger executions) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return executions.incrementAndGet();
+    }
+
+    private static Integer add(List<String> order,
+                               String build) {
+        order.add(build);
+        return order.size();
+    }
+}
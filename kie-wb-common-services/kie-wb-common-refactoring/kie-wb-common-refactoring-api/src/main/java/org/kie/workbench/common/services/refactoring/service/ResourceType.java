@@ -60,7 +60,12 @@ public enum ResourceType {
      */
     BPMN_CM("bpmncmid"),
 
-    BPMN_CM_NAME("bpmncmname");
+    BPMN_CM_NAME("bpmncmname"),
+
+    /**
+     * DMN, the namespace of the model
+     */
+    DMN_NAMESPACE("dmnnamespace");
 
 
     /**
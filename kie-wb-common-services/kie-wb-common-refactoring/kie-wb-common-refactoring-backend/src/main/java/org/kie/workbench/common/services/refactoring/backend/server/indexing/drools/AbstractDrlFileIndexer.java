@@ -16,8 +16,8 @@
 package org.kie.workbench.common.services.refactoring.backend.server.indexing.drools;
 
 import java.util.List;
+import javax.inject.Inject;
 
-import org.drools.compiler.compiler.DrlParser;
 import org.drools.compiler.compiler.DroolsError;
 import org.drools.compiler.lang.descr.PackageDescr;
 import org.kie.api.io.ResourceType;
@@ -40,11 +40,15 @@ public abstract class AbstractDrlFileIndexer extends AbstractFileIndexer {
 
     private static final Logger logger = LoggerFactory.getLogger(AbstractDrlFileIndexer.class);
 
+    @Inject
+    protected PackageDescrCache packageDescrCache;
+
     /**
      * All Drools-related {@link Indexer} implementations end up extracting the DRL from the related Rule representation
      * (see {@link ResourceType}).
      * </p>
-     * The following method then parses the DRL and returns all relevant reference information.
+     * The following method then parses the DRL and returns all relevant reference information. The parsed DRLs are
+     * shared through the {@link PackageDescrCache}, an indexer not created by CDI parses the DRL itself.
      * @param path The {@link Path} of the asset/resource, necessary for extracting reference information.
      * @param drl A {@link String} representation of the DRL.
      * @return The {@link DefaultIndexBuilder}
@@ -53,21 +57,34 @@ public abstract class AbstractDrlFileIndexer extends AbstractFileIndexer {
     public IndexBuilder fillDrlIndexBuilder(final Path path,
                                                    final String drl) throws Exception {
 
-        final DrlParser drlParser = new DrlParser();
-        final PackageDescr packageDescr = drlParser.parse(true,
-                                                          drl);
+        final PackageDescrCache.ParsedDrl parsedDrl = packageDescrCache != null ?
+                packageDescrCache.parse(drl) :
+                PackageDescrCache.parseDrl(drl);
 
-        if (drlParser.hasErrors()) {
-            final List<DroolsError> errors = drlParser.getErrors();
+        if (parsedDrl.hasErrors()) {
+            final List<DroolsError> errors = parsedDrl.getErrors();
             logger.warn(ErrorMessageUtilities.makeErrorMessage(path,
                                                                errors.toArray(new DroolsError[errors.size()])));
             return null;
         }
-        if (packageDescr == null) {
+        if (parsedDrl.getPackageDescr() == null) {
             logger.warn(ErrorMessageUtilities.makeErrorMessage(path));
             return null;
         }
 
+        return fillDrlIndexBuilder(path,
+                                   parsedDrl.getPackageDescr());
+    }
+
+    /**
+     * Returns the reference information of a DRL already parsed, the {@link PackageDescr} isn't modified.
+     * @param path The {@link Path} of the asset/resource, necessary for extracting reference information.
+     * @param packageDescr The {@link PackageDescr} of the DRL.
+     * @return The {@link DefaultIndexBuilder}
+     * @throws Exception
+     */
+    public IndexBuilder fillDrlIndexBuilder(final Path path,
+                                            final PackageDescr packageDescr) throws Exception {
         final ModuleDataModelOracle dmo = getModuleDataModelOracle(path);
 
         // responsible for basic index info: project name, branch, etc
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.refactoring.backend.server.indexing.drools;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.enterprise.context.ApplicationScoped;
+
+import org.drools.compiler.compiler.DrlParser;
+import org.drools.compiler.compiler.DroolsError;
+import org.drools.compiler.compiler.DroolsParserException;
+import org.drools.compiler.lang.descr.PackageDescr;
+
+import static org.kie.workbench.common.services.backend.util.CacheUtils.sha256;
+import static org.kie.workbench.common.services.backend.util.CacheUtils.validatePositiveNumber;
+
+/**
+ * Cache of the parsed DRLs, keyed by the hash of the DRL. The same content indexed again (a file copied, a new branch,
+ * a reindex of the repository) or indexed by several indexers is parsed once.
+ * The cached PackageDescrs are shared: they must not be modified. A changed file has a new hash, the entry of its old
+ * content is evicted when it isn't used anymore: at most {@value #DEFAULT_CACHE_SIZE} DRLs are kept, the least
+ * recently used are removed first (property {@value #CACHE_SIZE}).
+ */
+@ApplicationScoped
+public class PackageDescrCache {
+
+    protected static final String CACHE_SIZE = "org.kie.indexing.drl.cache.size";
+    protected static final String DEFAULT_CACHE_SIZE = "100";
+    protected static final int MAX_ENTRIES = Integer.parseInt(validateCacheSize(System.getProperty(CACHE_SIZE,
+                                                                                                 DEFAULT_CACHE_SIZE)));
+
+    private final Map<String, ParsedDrl> parsed;
+
+    public PackageDescrCache() {
+        this(MAX_ENTRIES);
+    }
+
+    PackageDescrCache(final int maxEntries) {
+        this.parsed = new LinkedHashMap<String, ParsedDrl>(16,
+                                                           0.75f,
+                                                           true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, ParsedDrl> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    protected static String validateCacheSize(final String value) {
+        return validatePositiveNumber(CACHE_SIZE,
+                                      value,
+                                      DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * The DRL parsed, from the cache if the same DRL was already parsed
+     * @param drl A {@link String} representation of the DRL.
+     * @return The {@link PackageDescr} of the DRL or the parser errors
+     * @throws DroolsParserException
+     */
+    public ParsedDrl parse(final String drl) throws DroolsParserException {
+        final String hash = sha256(drl);
+        synchronized (this) {
+            final ParsedDrl cached = parsed.get(hash);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        final ParsedDrl result = parseDrl(drl);
+        synchronized (this) {
+            parsed.put(hash,
+                       result);
+        }
+        return result;
+    }
+
+    /**
+     * The DRL parsed, without the cache
+     * @param drl A {@link String} representation of the DRL.
+     * @return The {@link PackageDescr} of the DRL or the parser errors
+     * @throws DroolsParserException
+     */
+    public static ParsedDrl parseDrl(final String drl) throws DroolsParserException {
+        final DrlParser drlParser = new DrlParser();
+        final PackageDescr packageDescr = drlParser.parse(true,
+                                                          drl);
+        return new ParsedDrl(packageDescr,
+                             drlParser.hasErrors() ? drlParser.getErrors() : Collections.emptyList());
+    }
+
+    public synchronized void invalidateAll() {
+        parsed.clear();
+    }
+
+    synchronized int size() {
+        return parsed.size();
+    }
+
+    /**
+     * Result of the parsing of a DRL: the {@link PackageDescr}, null if the parser failed, and the errors
+     */
+    public static class ParsedDrl {
+
+        private final PackageDescr packageDescr;
+        private final List<DroolsError> errors;
+
+        ParsedDrl(final PackageDescr packageDescr,
+                  final List<DroolsError> errors) {
+            this.packageDescr = packageDescr;
+            this.errors = Collections.unmodifiableList(errors);
+        }
+
+        public PackageDescr getPackageDescr() {
+            return packageDescr;
+        }
+
+        public List<DroolsError> getErrors() {
+            return errors;
+        }
+
+        public boolean hasErrors() {
+            return !errors.isEmpty();
+        }
+    }
+}
@@ -23,9 +23,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
-import java.util.function.IntFunction;
 import java.util.function.Predicate;
-import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
@@ -107,16 +105,17 @@ public class RefactoringQueryServiceImpl implements RefactoringQueryService {
         final Sort sort = namedQuery.getSortOrder();
 
         try {
-            List<KObject> found = config.getIndexProvider().findByQuery(Collections.EMPTY_LIST,
-                                                                        query,
-                                                                        sort,
-                                                                        0);
-
-            if (request.distinctResults()) {
-                found = distinct(found);
+            //Without duplicates to remove the hits are counted by the index, no document is loaded
+            if (!Boolean.TRUE.equals(request.distinctResults())) {
+                return (int) config.getIndexProvider().findHitsByQuery(Collections.emptyList(),
+                                                                       query);
             }
 
-            return found.size();
+            final List<KObject> found = config.getIndexProvider().findByQuery(Collections.emptyList(),
+                                                                              query,
+                                                                              sort,
+                                                                              0);
+            return distinct(found).size();
         } catch (final Exception ex) {
             String message = "Error during Query!";
             logger.error(message,
@@ -163,15 +162,12 @@ public class RefactoringQueryServiceImpl implements RefactoringQueryService {
         final int pageSize = request.getPageSize();
         final int startIndex = request.getStartRowIndex();
 
-        List<KObject> kObjects
+        final List<KObject> kObjects
                 = search(query,
                          sort,
-                         () -> (startIndex),
-                         // start index of docs to get
-                         (numHits) -> (numHits - startIndex > pageSize ? pageSize : numHits - startIndex),
-                         request.distinctResults()
-                         // num docs to add to response
-        );
+                         startIndex,
+                         pageSize,
+                         Boolean.TRUE.equals(request.distinctResults()));
 
         if (!kObjects.isEmpty()) {
             final ResponseBuilder responseBuilder = namedQuery.getResponseBuilder();
@@ -202,12 +198,9 @@ public class RefactoringQueryServiceImpl implements RefactoringQueryService {
         final List<KObject> kObjects
                 = search(query,
                          sort,
-                         () -> (0),
-                         // start index of docs to get
-                         (numHits) -> (numHits),
-                         false
-                         // num docs to add to response
-        );
+                         0,
+                         0,
+                         false);
 
         if (!kObjects.isEmpty()) {
             final ResponseBuilder responseBuilder = namedQuery.getResponseBuilder();
@@ -217,10 +210,14 @@ public class RefactoringQueryServiceImpl implements RefactoringQueryService {
         }
     }
 
+    /**
+     * The hits from the start index. Only the top (startIndex + pageSize) hits are loaded from the index, a page size
+     * of 0 loads all the hits.
+     */
     private List<KObject> search(final Query query,
                                  final Sort sort,
-                                 final Supplier<Integer> startIndexSupplier,
-                                 final IntFunction<Integer> numOfHitsToReturnSupplier,
+                                 final int startIndex,
+                                 final int pageSize,
                                  final boolean distinct,
                                  final ClusterSegment... clusterSegments) {
 
@@ -229,19 +226,24 @@ public class RefactoringQueryServiceImpl implements RefactoringQueryService {
                     .map(clusterSegment -> clusterSegment.getClusterId())
                     .collect(Collectors.toList());
 
-            List<KObject> found = config.getIndexProvider().findByQuery(indices,
-                                                                        query,
-                                                                        sort,
-                                                                        0);
-
-            if (distinct) {
-                found = distinct(found);
+            final int limit = topHitsLimit(startIndex,
+                                           pageSize);
+            final List<KObject> found = distinct ?
+                    findDistinct(indices,
+                                 query,
+                                 sort,
+                                 limit) :
+                    config.getIndexProvider().findByQuery(indices,
+                                                          query,
+                                                          sort,
+                                                          limit);
+
+            if (startIndex >= found.size()) {
+                return Collections.emptyList();
             }
-            final int startIndex = startIndexSupplier.get();
-            final int numOfHitsToReturn = numOfHitsToReturnSupplier.apply(found.size());
-
             return found.subList(startIndex,
-                                 startIndex + numOfHitsToReturn);
+                                 limit > 0 ? Math.min(limit,
+                                                      found.size()) : found.size());
         } catch (
                 final Exception ex)
 
@@ -251,6 +253,40 @@ public class RefactoringQueryServiceImpl implements RefactoringQueryService {
         }
     }
 
+    /**
+     * The top hits without duplicates. The duplicates are removed after loading the hits, so the number of hits
+     * loaded is doubled until enough distinct hits are found or all the hits are loaded.
+     */
+    private List<KObject> findDistinct(final List<String> indices,
+                                       final Query query,
+                                       final Sort sort,
+                                       final int limit) {
+        int window = limit;
+        List<KObject> found = config.getIndexProvider().findByQuery(indices,
+                                                                    query,
+                                                                    sort,
+                                                                    window);
+        List<KObject> distinctFound = distinct(found);
+        while (window > 0 && distinctFound.size() < limit && found.size() == window) {
+            window = window > Integer.MAX_VALUE / 2 ? 0 : window * 2;
+            found = config.getIndexProvider().findByQuery(indices,
+                                                          query,
+                                                          sort,
+                                                          window);
+            distinctFound = distinct(found);
+        }
+        return distinctFound;
+    }
+
+    static int topHitsLimit(final int startIndex,
+                            final int pageSize) {
+        if (pageSize <= 0) {
+            return 0;
+        }
+        final long limit = (long) startIndex + pageSize;
+        return limit > Integer.MAX_VALUE ? 0 : (int) limit;
+    }
+
     /* (non-Javadoc)
      * @see org.kie.workbench.common.services.refactoring.service.RefactoringQueryService#queryToPageResponse(org.kie.workbench.common.services.refactoring.service.impact.QueryOperationRequest)
      */
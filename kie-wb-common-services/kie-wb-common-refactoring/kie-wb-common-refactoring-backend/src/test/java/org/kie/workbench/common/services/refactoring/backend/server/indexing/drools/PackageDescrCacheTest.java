@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.refactoring.backend.server.indexing.drools;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PackageDescrCacheTest {
+
+    private static final String DRL = "package org.test\n" +
+            "rule \"r1\"\n" +
+            "when\n" +
+            "then\n" +
+            "end\n";
+
+    @Test
+    public void sameDrlIsParsedOnce() throws Exception {
+        final PackageDescrCache cache = new PackageDescrCache(10);
+
+        final PackageDescrCache.ParsedDrl parsed = cache.parse(DRL);
+
+        assertFalse(parsed.hasErrors());
+        assertEquals("org.test",
+                     parsed.getPackageDescr().getName());
+        assertSame(parsed,
+                   cache.parse(new String(DRL)));
+    }
+
+    @Test
+    public void errorsAreCached() throws Exception {
+        final PackageDescrCache cache = new PackageDescrCache(10);
+
+        final PackageDescrCache.ParsedDrl parsed = cache.parse("rule \"r1\" when then");
+
+        assertTrue(parsed.hasErrors());
+        assertSame(parsed,
+                   cache.parse("rule \"r1\" when then"));
+    }
+
+    @Test
+    public void leastRecentlyUsedDrlIsEvicted() throws Exception {
+        final PackageDescrCache cache = new PackageDescrCache(1);
+
+        final PackageDescrCache.ParsedDrl parsed = cache.parse(DRL);
+        cache.parse("package org.other\n");
+
+        assertEquals(1,
+                     cache.size());
+        assertNotSame(parsed,
+                      cache.parse(DRL));
+    }
+}
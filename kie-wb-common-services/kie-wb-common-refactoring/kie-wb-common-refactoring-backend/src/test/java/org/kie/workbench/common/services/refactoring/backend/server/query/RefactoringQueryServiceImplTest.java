@@ -0,0 +1,195 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.refactoring.backend.server.query;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.services.refactoring.backend.server.query.response.ResponseBuilder;
+import org.kie.workbench.common.services.refactoring.model.query.RefactoringPageRequest;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.uberfire.ext.metadata.MetadataConfig;
+import org.uberfire.ext.metadata.model.KObject;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class RefactoringQueryServiceImplTest {
+
+    private static final String QUERY_NAME = "query";
+
+    @Mock
+    private NamedQueries namedQueries;
+
+    @Mock
+    private NamedQuery namedQuery;
+
+    @Mock
+    private ResponseBuilder responseBuilder;
+
+    @Mock
+    private Query query;
+
+    @Captor
+    private ArgumentCaptor<List<KObject>> pageCaptor;
+
+    private MetadataConfig config;
+
+    private RefactoringQueryServiceImpl service;
+
+    @Before
+    public void setUp() {
+        config = mock(MetadataConfig.class,
+                      RETURNS_DEEP_STUBS);
+        when(namedQueries.findNamedQuery(QUERY_NAME)).thenReturn(namedQuery);
+        when(namedQuery.toQuery(any())).thenReturn(query);
+        when(namedQuery.getSortOrder()).thenReturn(Sort.INDEXORDER);
+        when(namedQuery.getResponseBuilder()).thenReturn(responseBuilder);
+
+        service = new RefactoringQueryServiceImpl(config,
+                                                  namedQueries);
+        service.init();
+    }
+
+    @Test
+    public void onlyTheHitsUpToThePageAreLoaded() {
+        final List<KObject> top = Arrays.asList(kObject("a"),
+                                                kObject("b"),
+                                                kObject("c"),
+                                                kObject("d"),
+                                                kObject("e"));
+        when(config.getIndexProvider().findByQuery(anyList(),
+                                                   eq(query),
+                                                   any(Sort.class),
+                                                   eq(5))).thenReturn(top);
+
+        service.query(new RefactoringPageRequest(QUERY_NAME,
+                                                 new HashSet<>(),
+                                                 2,
+                                                 3));
+
+        verify(responseBuilder).buildResponse(eq(3),
+                                              eq(2),
+                                              pageCaptor.capture());
+        assertEquals(top.subList(2,
+                                 5),
+                     pageCaptor.getValue());
+    }
+
+    @Test
+    public void duplicatesAreRemovedLoadingMoreHits() {
+        final KObject a = kObject("a");
+        final KObject b = kObject("b");
+        when(config.getIndexProvider().findByQuery(anyList(),
+                                                   eq(query),
+                                                   any(Sort.class),
+                                                   eq(2))).thenReturn(Arrays.asList(a,
+                                                                                    a));
+        when(config.getIndexProvider().findByQuery(anyList(),
+                                                   eq(query),
+                                                   any(Sort.class),
+                                                   eq(4))).thenReturn(Arrays.asList(a,
+                                                                                    a,
+                                                                                    b));
+
+        service.query(new RefactoringPageRequest(QUERY_NAME,
+                                                 new HashSet<>(),
+                                                 0,
+                                                 2,
+                                                 Boolean.TRUE));
+
+        verify(responseBuilder).buildResponse(eq(2),
+                                              eq(0),
+                                              pageCaptor.capture());
+        assertEquals(Arrays.asList(a,
+                                   b),
+                     pageCaptor.getValue());
+    }
+
+    @Test
+    public void hitsAreCountedWithoutLoadingThem() {
+        when(config.getIndexProvider().findHitsByQuery(anyList(),
+                                                       eq(query))).thenReturn(42L);
+
+        assertEquals(42,
+                     service.queryHitCount(new RefactoringPageRequest(QUERY_NAME,
+                                                                      new HashSet<>(),
+                                                                      0,
+                                                                      null)));
+        verify(config.getIndexProvider(),
+               never()).findByQuery(anyList(),
+                                    any(),
+                                    any(),
+                                    anyInt());
+    }
+
+    @Test
+    public void distinctHitsAreCounted() {
+        final KObject a = kObject("a");
+        final KObject b = kObject("b");
+        when(config.getIndexProvider().findByQuery(anyList(),
+                                                   eq(query),
+                                                   any(Sort.class),
+                                                   eq(0))).thenReturn(Arrays.asList(a,
+                                                                                    a,
+                                                                                    b));
+
+        assertEquals(2,
+                     service.queryHitCount(new RefactoringPageRequest(QUERY_NAME,
+                                                                      new HashSet<>(),
+                                                                      0,
+                                                                      null,
+                                                                      Boolean.TRUE)));
+    }
+
+    @Test
+    public void testTopHitsLimit() {
+        assertEquals(30,
+                     RefactoringQueryServiceImpl.topHitsLimit(20,
+                                                              10));
+        assertEquals(0,
+                     RefactoringQueryServiceImpl.topHitsLimit(20,
+                                                              0));
+        assertEquals(0,
+                     RefactoringQueryServiceImpl.topHitsLimit(10,
+                                                              Integer.MAX_VALUE));
+    }
+
+    private static KObject kObject(final String key) {
+        final KObject kObject = mock(KObject.class);
+        when(kObject.getClusterId()).thenReturn("cluster");
+        when(kObject.getKey()).thenReturn(key);
+        return kObject;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.util;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Helpers of the backend caches: the validation of the properties sizing them and the content hashes keying their
+ * entries.
+ */
+public class CacheUtils {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheUtils.class);
+
+    private CacheUtils() {
+    }
+
+    /**
+     * The value of a property if it is a positive integer, the default value otherwise
+     */
+    public static String validatePositiveNumber(final String property,
+                                                final String value,
+                                                final String defaultValue) {
+        if (value == null || value.length() == 0 || !value.matches("^[0-9]*$")) {
+            logger.error("Illegal Argument : Property {} should be a positive integer",
+                         property);
+            return defaultValue;
+        }
+        return value;
+    }
+
+    /**
+     * The hexadecimal SHA-256 hash of a content
+     */
+    public static String sha256(final byte[] content) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return String.format("%064x",
+                                 new BigInteger(1,
+                                                digest.digest(content)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The hexadecimal SHA-256 hash of the UTF-8 bytes of a text
+     */
+    public static String sha256(final String text) {
+        return sha256(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.util;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class CacheUtilsTest {
+
+    private static final String PROPERTY = "org.kie.test.cache.size";
+
+    @Test
+    public void testValidatePositiveNumber() {
+        assertEquals("10", CacheUtils.validatePositiveNumber(PROPERTY, "10", "5"));
+        assertEquals("5", CacheUtils.validatePositiveNumber(PROPERTY, "-10", "5"));
+        assertEquals("5", CacheUtils.validatePositiveNumber(PROPERTY, "", "5"));
+        assertEquals("5", CacheUtils.validatePositiveNumber(PROPERTY, "ab", "5"));
+        assertEquals("5", CacheUtils.validatePositiveNumber(PROPERTY, null, "5"));
+    }
+
+    @Test
+    public void testSha256() {
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad",
+                     CacheUtils.sha256("abc"));
+        assertEquals(CacheUtils.sha256("abc"),
+                     CacheUtils.sha256("abc".getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -27,10 +27,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Predicate;
 
 import org.appformer.maven.support.DependencyFilter;
 import org.appformer.maven.support.PomModel;
+import org.drools.compiler.compiler.io.memory.MemoryFileSystem;
 import org.drools.compiler.kie.builder.impl.InternalKieModule;
 import org.drools.compiler.kie.builder.impl.KieBuilderImpl;
 import org.drools.compiler.kie.builder.impl.KieContainerImpl;
@@ -100,7 +102,7 @@ public class Builder implements Serializable {
     private final IOService ioService;
     private final String projectPrefix;
 
-    private final Handles handles = new Handles();
+    private final Handles handles;
     private final KieModuleService moduleService;
     private final ProjectImportsService importsService;
     private final List<BuildValidationHelper> buildValidationHelpers;
@@ -111,6 +113,7 @@ public class Builder implements Serializable {
     private final Set<String> javaResources = new HashSet<String>();
     private final Predicate<String> classFilter;
     private KieBuilder kieBuilder;
+    private volatile long buildCount;
     private LRUModuleDependenciesClassLoaderCache dependenciesClassLoaderCache;
     private LRUPomModelCache pomModelCache;
     private PackageNameAllowListService packageNameAllowListService;
@@ -126,6 +129,36 @@ public class Builder implements Serializable {
                    final Predicate<String> classFilter,
                    final KieBuilder kieBuilder,
                    final KieFileSystem kieFileSystem) {
+        this(project,
+             ioService,
+             moduleService,
+             importsService,
+             buildValidationHelpers,
+             dependenciesClassLoaderCache,
+             pomModelCache,
+             packageNameAllowListService,
+             classFilter,
+             null,
+             kieBuilder,
+             kieFileSystem);
+    }
+
+    /**
+     * @param executorService used to read the files of the module in parallel, they are read by the calling thread
+     * if null
+     */
+    private Builder(final Module project,
+                    final IOService ioService,
+                    final KieModuleService moduleService,
+                    final ProjectImportsService importsService,
+                    final List<BuildValidationHelper> buildValidationHelpers,
+                    final LRUModuleDependenciesClassLoaderCache dependenciesClassLoaderCache,
+                    final LRUPomModelCache pomModelCache,
+                    final PackageNameAllowListService packageNameAllowListService,
+                    final Predicate<String> classFilter,
+                    final ExecutorService executorService,
+                    final KieBuilder kieBuilder,
+                    final KieFileSystem kieFileSystem) {
         this.project = project;
         this.ioService = ioService;
         this.moduleService = moduleService;
@@ -142,9 +175,38 @@ public class Builder implements Serializable {
         this.kieFileSystem = kieFileSystem;
         this.dependenciesClassLoaderCache = dependenciesClassLoaderCache;
         this.pomModelCache = pomModelCache;
+        this.handles = new Handles();
+
+        loadResources(executorService);
+    }
+
+    /**
+     * Constructor of the clones. The files are already in the cloned KieFileSystem, which shares their content with
+     * the original, the module isn't read again: a clone allocates only the indexes and the files it changes.
+     */
+    private Builder(final Builder original,
+                    final KieBuilder kieBuilder,
+                    final KieFileSystem kieFileSystem) {
+        this.project = original.project;
+        this.ioService = original.ioService;
+        this.moduleService = original.moduleService;
+        this.importsService = original.importsService;
+        this.buildValidationHelpers = original.buildValidationHelpers;
+        this.packageNameAllowListService = original.packageNameAllowListService;
+        this.classFilter = original.classFilter;
+
+        this.projectGAV = original.projectGAV;
+        this.projectRoot = original.projectRoot;
+        this.projectPrefix = original.projectPrefix;
+        this.kieServices = original.kieServices;
+        this.kieBuilder = kieBuilder;
+        this.kieFileSystem = kieFileSystem;
+        this.dependenciesClassLoaderCache = original.dependenciesClassLoaderCache;
+        this.pomModelCache = original.pomModelCache;
+        this.handles = new Handles(original.handles);
 
-        DirectoryStream<Path> directoryStream = Files.newDirectoryStream(projectRoot);
-        visitPaths(directoryStream);
+        this.nonKieResourceValidationHelpers.putAll(original.nonKieResourceValidationHelpers);
+        this.javaResources.addAll(original.javaResources);
     }
 
     public Builder(final Module project,
@@ -165,25 +227,46 @@ public class Builder implements Serializable {
              pomModelCache,
                 packageNameAllowListService,
              classFilter,
+             null);
+    }
+
+    /**
+     * @param executorService used to read the files of the module in parallel, they are read by the calling thread
+     * if null
+     */
+    public Builder(final Module project,
+                   final IOService ioService,
+                   final KieModuleService moduleService,
+                   final ProjectImportsService importsService,
+                   final List<BuildValidationHelper> buildValidationHelpers,
+                   final LRUModuleDependenciesClassLoaderCache dependenciesClassLoaderCache,
+                   final LRUPomModelCache pomModelCache,
+                   final PackageNameAllowListService packageNameAllowListService,
+                   final Predicate<String> classFilter,
+                   final ExecutorService executorService) {
+        this(project,
+             ioService,
+             moduleService,
+             importsService,
+             buildValidationHelpers,
+             dependenciesClassLoaderCache,
+             pomModelCache,
+             packageNameAllowListService,
+             classFilter,
+             executorService,
              null,
              KieServices.Factory.get().newKieFileSystem());
     }
 
     public Builder clone() {
-        final KieFileSystem kieFileSystemClone = kieFileSystemClone();
-        final KieBuilderImpl kieBuilder = kieBuilderClone(kieFileSystemClone);
-
-        return new Builder(project,
-                           ioService,
-                           moduleService,
-                           importsService,
-                           buildValidationHelpers,
-                           dependenciesClassLoaderCache,
-                           pomModelCache,
-                packageNameAllowListService,
-                           classFilter,
-                           kieBuilder,
-                           kieFileSystemClone);
+        synchronized (kieFileSystem) {
+            final KieFileSystem kieFileSystemClone = kieFileSystemClone();
+            final KieBuilderImpl kieBuilder = kieBuilderClone(kieFileSystemClone);
+
+            return new Builder(this,
+                               kieBuilder,
+                               kieFileSystemClone);
+        }
     }
 
     private KieFileSystem kieFileSystemClone() {
@@ -207,6 +290,7 @@ public class Builder implements Serializable {
         synchronized (kieFileSystem) {
             //KieBuilder is not re-usable for successive "full" builds
             kieBuilder = createKieBuilder(kieFileSystem);
+            buildCount++;
 
             //Record RTEs from KieBuilder - that can fail if a rule uses an inaccessible class
             try {
@@ -372,6 +456,22 @@ public class Builder implements Serializable {
 
         kieFileSystem.write(destinationPath,
                             inputStreamResource);
+        addHandle(path,
+                  destinationPath);
+    }
+
+    private void addNewResource(final Path path,
+                                final byte[] content) {
+        final String destinationPath = destinationPath(path);
+
+        kieFileSystem.write(destinationPath,
+                            content);
+        addHandle(path,
+                  destinationPath);
+    }
+
+    private void addHandle(final Path path,
+                           final String destinationPath) {
         handles.put(getBaseFileName(destinationPath),
                     Paths.convert(path));
         addJavaClass(path);
@@ -537,6 +637,7 @@ public class Builder implements Serializable {
 
     private void buildIncrementally(final IncrementalBuildResults results,
                                     final String... destinationPath) {
+        buildCount++;
         try {
             final IncrementalResults incrementalResults = ((InternalKieBuilder) kieBuilder).createFileSet(Message.Level.WARNING, destinationPath).build();
             results.addAllAddedMessages(convertMessages(incrementalResults.getAddedMessages(),
@@ -631,25 +732,58 @@ public class Builder implements Serializable {
         return kieBuilder != null;
     }
 
-    private void visitPaths(final DirectoryStream<Path> directoryStream) {
-        for (final Path path : directoryStream) {
-            if (Files.isDirectory(path)) {
-                visitPaths(Files.newDirectoryStream(path));
-            } else {
-                //Don't process dotFiles
-                if (!dotFileFilter.accept(path)) {
-
-                    //Resource Type might require "external" validation (i.e. it's not covered by Kie)
-                    final BuildValidationHelper validator = getBuildValidationHelper(path);
-                    if (validator != null) {
-                        nonKieResourceValidationHelpers.put(path,
-                                                            validator);
-                    }
+    /**
+     * Number of full and incremental builds of the Builder, its estimated size changes with them
+     */
+    public long getBuildCount() {
+        return buildCount;
+    }
 
-                    addNewResource(path,
-                                   ioService.newInputStream(path));
+    /**
+     * Estimated memory used by the Builder: the size of the sources and, once built, of the compiled files. The
+     * knowledge bases created from the compiled module aren't counted.
+     */
+    public long getEstimatedSize() {
+        synchronized (kieFileSystem) {
+            long size = sizeOf(((KieFileSystemImpl) kieFileSystem).getMfs());
+            if (isBuilt()) {
+                final InternalKieModule kieModule = (InternalKieModule) ((InternalKieBuilder) kieBuilder).getKieModuleIgnoringErrors();
+                if (kieModule instanceof MemoryKieModule) {
+                    size += sizeOf(((MemoryKieModule) kieModule).getMemoryFileSystem());
                 }
             }
+            return size;
+        }
+    }
+
+    private static long sizeOf(final MemoryFileSystem mfs) {
+        long size = 0;
+        for (final String fileName : mfs.getFileNames()) {
+            final byte[] bytes = mfs.getBytes(fileName);
+            if (bytes != null) {
+                size += bytes.length;
+            }
+        }
+        return size;
+    }
+
+    private void loadResources(final ExecutorService executorService) {
+        //Don't process dotFiles
+        final Map<Path, byte[]> resources = new ModuleResourceLoader(ioService,
+                                                                     dotFileFilter,
+                                                                     executorService).load(projectRoot);
+        for (final Map.Entry<Path, byte[]> resource : resources.entrySet()) {
+            final Path path = resource.getKey();
+
+            //Resource Type might require "external" validation (i.e. it's not covered by Kie)
+            final BuildValidationHelper validator = getBuildValidationHelper(path);
+            if (validator != null) {
+                nonKieResourceValidationHelpers.put(path,
+                                                    validator);
+            }
+
+            addNewResource(path,
+                           resource.getValue());
         }
     }
 
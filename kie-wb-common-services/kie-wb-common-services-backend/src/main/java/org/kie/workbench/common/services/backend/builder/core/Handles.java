@@ -24,7 +24,15 @@ class Handles {
 
     public final static String RESOURCE_PATH = "src/main/resources";
 
-    private Map<String, Path> handles = new HashMap<String, Path>();
+    private Map<String, Path> handles;
+
+    Handles() {
+        this.handles = new HashMap<String, Path>();
+    }
+
+    Handles(final Handles handles) {
+        this.handles = new HashMap<String, Path>(handles.handles);
+    }
 
     void put(String baseFileName, Path path) {
         handles.put(baseFileName, path);
@@ -17,6 +17,8 @@ package org.kie.workbench.common.services.backend.builder.core;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -27,7 +29,6 @@ import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import javax.inject.Named;
 
-import org.guvnor.common.services.backend.cache.LRUCache;
 import org.guvnor.common.services.project.builder.events.InvalidateDMOModuleCacheEvent;
 import org.guvnor.common.services.project.builder.service.BuildValidationHelper;
 import org.guvnor.common.services.project.model.Module;
@@ -40,22 +41,37 @@ import org.kie.workbench.common.services.shared.project.KieModuleService;
 import org.kie.workbench.common.services.shared.project.ProjectImportsService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.uberfire.commons.concurrent.Managed;
 import org.uberfire.io.IOService;
 
 import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.StreamSupport.stream;
 
 /**
- * A simple LRU cache for Builders
+ * A simple LRU cache for Builders. Besides the number of Builders (property {@value #BUILDER_CACHE_SIZE}) the
+ * cache can be bounded by the estimated size of the Builders in MB (property {@value #BUILDER_CACHE_WEIGHT}) and by
+ * the minutes a Builder isn't used (property {@value #BUILDER_CACHE_IDLE}), both disabled by default.
  */
 @ApplicationScoped
-public class LRUBuilderCache extends LRUCache<Module, Builder> {
+public class LRUBuilderCache extends WeightedLRUCache<Module, Builder> {
     private static final Logger logger = LoggerFactory.getLogger(LRUBuilderCache.class);
 
     protected static final String BUILDER_CACHE_SIZE = "org.kie.builder.cache.size";
     protected static final String DEFAULT_BUILDER_CACHE_SIZE = "20";
     protected static final int MAX_ENTRIES = Integer.parseInt(validateCacheSize(System.getProperty(BUILDER_CACHE_SIZE,
                                                                                                  DEFAULT_BUILDER_CACHE_SIZE)));
+    protected static final String BUILDER_CACHE_WEIGHT = "org.kie.builder.cache.weight";
+    protected static final String DEFAULT_BUILDER_CACHE_WEIGHT = "0";
+    protected static final long MAX_WEIGHT = validateLong(BUILDER_CACHE_WEIGHT,
+                                                          System.getProperty(BUILDER_CACHE_WEIGHT,
+                                                                             DEFAULT_BUILDER_CACHE_WEIGHT),
+                                                          DEFAULT_BUILDER_CACHE_WEIGHT) * MB;
+    protected static final String BUILDER_CACHE_IDLE = "org.kie.builder.cache.idle";
+    protected static final String DEFAULT_BUILDER_CACHE_IDLE = "0";
+    protected static final long MAX_IDLE = TimeUnit.MINUTES.toMillis(validateLong(BUILDER_CACHE_IDLE,
+                                                                                  System.getProperty(BUILDER_CACHE_IDLE,
+                                                                                                     DEFAULT_BUILDER_CACHE_IDLE),
+                                                                                  DEFAULT_BUILDER_CACHE_IDLE));
 
     private final List<BuildValidationHelper> buildValidationHelpers = new ArrayList<>();
     private final List<Predicate<String>> classFilters = new ArrayList<>();
@@ -68,7 +84,14 @@ public class LRUBuilderCache extends LRUCache<Module, Builder> {
     private PackageNameAllowListServiceImpl packageNameAllowListService;
     private Instance<Predicate<String>> classFilterBeans;
 
+    @Inject
+    @Managed
+    private ExecutorService executorService;
+
     public LRUBuilderCache() {
+        super(MAX_ENTRIES,
+              MAX_WEIGHT,
+              MAX_IDLE);
         //CDI proxy
     }
 
@@ -81,7 +104,9 @@ public class LRUBuilderCache extends LRUCache<Module, Builder> {
                            final @Named("LRUPomModelCache") LRUPomModelCache pomModelCache,
                            final PackageNameAllowListService packageNameAllowListService,
                            final @JavaSourceFilter Instance<Predicate<String>> classFilterBeans) {
-        super(MAX_ENTRIES);
+        super(MAX_ENTRIES,
+              MAX_WEIGHT,
+              MAX_IDLE);
         this.ioService = ioService;
         this.moduleService = moduleService;
         this.importsService = importsService;
@@ -114,6 +139,16 @@ public class LRUBuilderCache extends LRUCache<Module, Builder> {
         return value;
     }
 
+    @Override
+    protected long weigh(final Builder builder) {
+        return builder.getEstimatedSize();
+    }
+
+    @Override
+    protected long version(final Builder builder) {
+        return builder.getBuildCount();
+    }
+
     public void invalidateProjectCache(@Observes final InvalidateDMOModuleCacheEvent event) {
         PortablePreconditions.checkNotNull("event",
                                            event);
@@ -154,7 +189,8 @@ public class LRUBuilderCache extends LRUCache<Module, Builder> {
                                   dependenciesClassLoaderCache,
                                   pomModelCache,
                     packageNameAllowListService,
-                                  createSingleClassFilterPredicate());
+                                  createSingleClassFilterPredicate(),
+                                  executorService);
 
             setEntry(module,
                      builder);
@@ -16,29 +16,61 @@
 
 package org.kie.workbench.common.services.backend.builder.core;
 
+import java.io.File;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import javax.inject.Named;
 
-import org.guvnor.common.services.backend.cache.LRUCache;
 import org.kie.scanner.KieModuleMetaData;
 import org.kie.workbench.common.services.backend.builder.service.BuildInfoService;
 import org.kie.workbench.common.services.shared.project.KieModule;
 
+/**
+ * Cache of the class loaders of the dependencies of the modules, bounded by the number of class loaders (property
+ * {@value #DEPENDENCIES_CACHE_SIZE}), by the size in MB of the jars of the class loaders (property
+ * {@value #DEPENDENCIES_CACHE_WEIGHT}) and by the minutes a class loader isn't used (property
+ * {@value #DEPENDENCIES_CACHE_IDLE}). The size and the idle time aren't bounded by default.
+ */
 @ApplicationScoped
 @Named("LRUModuleDependenciesClassLoaderCache")
 public class LRUModuleDependenciesClassLoaderCache
-        extends LRUCache<KieModule, ClassLoader> {
+        extends WeightedLRUCache<KieModule, ClassLoader> {
+
+    protected static final String DEPENDENCIES_CACHE_SIZE = "org.kie.builder.dependencies.cache.size";
+    protected static final String DEFAULT_DEPENDENCIES_CACHE_SIZE = "20";
+    protected static final int MAX_ENTRIES = (int) validateLong(DEPENDENCIES_CACHE_SIZE,
+                                                                System.getProperty(DEPENDENCIES_CACHE_SIZE,
+                                                                                   DEFAULT_DEPENDENCIES_CACHE_SIZE),
+                                                                DEFAULT_DEPENDENCIES_CACHE_SIZE);
+    protected static final String DEPENDENCIES_CACHE_WEIGHT = "org.kie.builder.dependencies.cache.weight";
+    protected static final String DEFAULT_DEPENDENCIES_CACHE_WEIGHT = "0";
+    protected static final long MAX_WEIGHT = validateLong(DEPENDENCIES_CACHE_WEIGHT,
+                                                          System.getProperty(DEPENDENCIES_CACHE_WEIGHT,
+                                                                             DEFAULT_DEPENDENCIES_CACHE_WEIGHT),
+                                                          DEFAULT_DEPENDENCIES_CACHE_WEIGHT) * MB;
+    protected static final String DEPENDENCIES_CACHE_IDLE = "org.kie.builder.dependencies.cache.idle";
+    protected static final String DEFAULT_DEPENDENCIES_CACHE_IDLE = "0";
+    protected static final long MAX_IDLE = TimeUnit.MINUTES.toMillis(validateLong(DEPENDENCIES_CACHE_IDLE,
+                                                                                  System.getProperty(DEPENDENCIES_CACHE_IDLE,
+                                                                                                     DEFAULT_DEPENDENCIES_CACHE_IDLE),
+                                                                                  DEFAULT_DEPENDENCIES_CACHE_IDLE));
 
     private BuildInfoService buildInfoService;
 
     public LRUModuleDependenciesClassLoaderCache() {
+        super(MAX_ENTRIES,
+              MAX_WEIGHT,
+              MAX_IDLE);
     }
 
     @Inject
     public LRUModuleDependenciesClassLoaderCache(BuildInfoService buildInfoService) {
+        this();
         this.buildInfoService = buildInfoService;
     }
 
@@ -87,6 +119,27 @@ public class LRUModuleDependenciesClassLoaderCache
                  classLoader);
     }
 
+    /**
+     * The size of the jars of the class loader, used as estimate of the memory of the classes loaded from them
+     */
+    @Override
+    protected long weigh(final ClassLoader classLoader) {
+        if (!(classLoader instanceof URLClassLoader)) {
+            return 0;
+        }
+        long size = 0;
+        for (final URL url : ((URLClassLoader) classLoader).getURLs()) {
+            if ("file".equals(url.getProtocol())) {
+                try {
+                    size += new File(url.toURI()).length();
+                } catch (URISyntaxException | IllegalArgumentException e) {
+                    // not a local file, not counted
+                }
+            }
+        }
+        return size;
+    }
+
     private ClassLoader buildClassLoader(final KieModule module) {
         return buildClassLoader(module,
                                 KieModuleMetaData.Factory.newKieModuleMetaData(buildInfoService.getBuildInfo(module).getKieModuleIgnoringErrors()));
@@ -16,13 +16,14 @@
 
 package org.kie.workbench.common.services.backend.builder.core;
 
+import java.util.concurrent.TimeUnit;
+
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.appformer.maven.support.PomModel;
-import org.guvnor.common.services.backend.cache.LRUCache;
 import org.guvnor.common.services.project.builder.events.InvalidateDMOModuleCacheEvent;
 import org.guvnor.common.services.project.model.Module;
 import org.kie.soup.commons.validation.PortablePreconditions;
@@ -30,19 +31,41 @@ import org.kie.workbench.common.services.shared.project.KieModule;
 import org.kie.workbench.common.services.shared.project.KieModuleService;
 import org.uberfire.backend.vfs.Path;
 
+/**
+ * Cache of the PomModels of the modules, bounded by the number of models (property {@value #POM_MODEL_CACHE_SIZE})
+ * and by the minutes a model isn't used (property {@value #POM_MODEL_CACHE_IDLE}, not bounded by default). The
+ * models are small, they aren't weighed.
+ */
 @ApplicationScoped
 @Named("LRUPomModelCache")
 public class LRUPomModelCache
-        extends LRUCache<Module, PomModel> {
+        extends WeightedLRUCache<Module, PomModel> {
+
+    protected static final String POM_MODEL_CACHE_SIZE = "org.kie.builder.pom.cache.size";
+    protected static final String DEFAULT_POM_MODEL_CACHE_SIZE = "20";
+    protected static final int MAX_ENTRIES = (int) validateLong(POM_MODEL_CACHE_SIZE,
+                                                                System.getProperty(POM_MODEL_CACHE_SIZE,
+                                                                                   DEFAULT_POM_MODEL_CACHE_SIZE),
+                                                                DEFAULT_POM_MODEL_CACHE_SIZE);
+    protected static final String POM_MODEL_CACHE_IDLE = "org.kie.builder.pom.cache.idle";
+    protected static final String DEFAULT_POM_MODEL_CACHE_IDLE = "0";
+    protected static final long MAX_IDLE = TimeUnit.MINUTES.toMillis(validateLong(POM_MODEL_CACHE_IDLE,
+                                                                                  System.getProperty(POM_MODEL_CACHE_IDLE,
+                                                                                                     DEFAULT_POM_MODEL_CACHE_IDLE),
+                                                                                  DEFAULT_POM_MODEL_CACHE_IDLE));
 
     private KieModuleService moduleService;
 
     public LRUPomModelCache() {
+        super(MAX_ENTRIES,
+              0,
+              MAX_IDLE);
         //CDI proxy
     }
 
     @Inject
     public LRUPomModelCache(final KieModuleService moduleService) {
+        this();
         this.moduleService = moduleService;
     }
 
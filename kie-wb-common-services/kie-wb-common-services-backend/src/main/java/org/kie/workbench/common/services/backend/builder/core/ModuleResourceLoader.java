@@ -0,0 +1,225 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.builder.core;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.uberfire.io.IOService;
+import org.uberfire.java.nio.file.DirectoryStream;
+import org.uberfire.java.nio.file.Files;
+import org.uberfire.java.nio.file.Path;
+
+import static org.kie.workbench.common.services.backend.util.CacheUtils.sha256;
+import static org.kie.workbench.common.services.backend.util.CacheUtils.validatePositiveNumber;
+
+/**
+ * Loads the content of the files of a module when a Builder is created.
+ * The folders are listed on the calling thread and the files are read in parallel by the calling thread and by tasks of
+ * the given managed executor, the number of readers of a module (property {@value #LOADER_THREADS}, default the number
+ * of cores) bounds its concurrent reads on the file system. The calling thread never waits for a task that hasn't
+ * started: a loader called from a thread of the executor doesn't block when all its threads are busy loading.
+ * Without an executor the files are read by the calling thread.
+ * The contents are interned by their hash: the Builders of the branches of a project and the clones of a Builder
+ * share the same bytes for the files they have in common.
+ */
+public class ModuleResourceLoader {
+
+    protected static final String LOADER_THREADS = "org.kie.builder.loader.threads";
+    protected static final String DEFAULT_LOADER_THREADS = "0";
+    protected static final int THREADS = getThreads(System.getProperty(LOADER_THREADS,
+                                                                       DEFAULT_LOADER_THREADS));
+
+    private static final Map<String, ContentReference> contents = new HashMap<>();
+    private static final ReferenceQueue<byte[]> releasedContents = new ReferenceQueue<>();
+
+    private final IOService ioService;
+    private final DirectoryStream.Filter<Path> skipFilter;
+    private final ExecutorService executor;
+
+    /**
+     * @param ioService service used to read the files
+     * @param skipFilter the files accepted by this filter aren't loaded
+     */
+    public ModuleResourceLoader(final IOService ioService,
+                                final DirectoryStream.Filter<Path> skipFilter) {
+        this(ioService,
+             skipFilter,
+             null);
+    }
+
+    /**
+     * @param ioService service used to read the files
+     * @param skipFilter the files accepted by this filter aren't loaded
+     * @param executor executor of the reads, the files are read by the calling thread if null
+     */
+    public ModuleResourceLoader(final IOService ioService,
+                                final DirectoryStream.Filter<Path> skipFilter,
+                                final ExecutorService executor) {
+        this.ioService = ioService;
+        this.skipFilter = skipFilter;
+        this.executor = executor;
+    }
+
+    /**
+     * The content of all the files under the root, in the order of the folders listing
+     */
+    public Map<Path, byte[]> load(final Path root) {
+        final List<Path> files = new ArrayList<>();
+        listFiles(root,
+                  files);
+
+        final Map<Path, byte[]> loaded = new LinkedHashMap<>();
+        if (executor == null || THREADS == 1 || files.size() < 2) {
+            for (final Path file : files) {
+                loaded.put(file,
+                           read(file));
+            }
+            return loaded;
+        }
+
+        // each reader takes the next file to read, at most THREADS files of the module are read at the same time
+        final byte[][] contents = new byte[files.size()][];
+        final AtomicInteger next = new AtomicInteger();
+        final CountDownLatch pending = new CountDownLatch(files.size());
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        final Runnable reader = () -> {
+            int index;
+            while ((index = next.getAndIncrement()) < files.size()) {
+                try {
+                    if (failure.get() == null) {
+                        contents[index] = read(files.get(index));
+                    }
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null,
+                                          e);
+                } finally {
+                    pending.countDown();
+                }
+            }
+        };
+        final List<Future<?>> helpers = new ArrayList<>(THREADS - 1);
+        for (int i = 1; i < Math.min(THREADS, files.size()); i++) {
+            helpers.add(executor.submit(reader));
+        }
+        reader.run();
+        try {
+            // only the files taken by a started reader can be left
+            pending.await();
+        } catch (InterruptedException e) {
+            helpers.forEach(helper -> helper.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading the module " + root.toUri(),
+                                            e);
+        }
+        // the helpers still waiting for a thread have nothing left to read
+        helpers.forEach(helper -> helper.cancel(false));
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        for (int i = 0; i < files.size(); i++) {
+            loaded.put(files.get(i),
+                       contents[i]);
+        }
+        return loaded;
+    }
+
+    private void listFiles(final Path folder,
+                           final List<Path> files) {
+        try (final DirectoryStream<Path> directoryStream = Files.newDirectoryStream(folder)) {
+            for (final Path path : directoryStream) {
+                if (Files.isDirectory(path)) {
+                    listFiles(path,
+                              files);
+                } else if (!skipFilter.accept(path)) {
+                    files.add(path);
+                }
+            }
+        }
+    }
+
+    private byte[] read(final Path file) {
+        return intern(ioService.readAllBytes(file));
+    }
+
+    /**
+     * The instance of the bytes shared by all the resources with the same content
+     */
+    static byte[] intern(final byte[] content) {
+        final String hash = sha256(content);
+        synchronized (contents) {
+            purgeReleasedContents();
+            final ContentReference reference = contents.get(hash);
+            final byte[] shared = reference != null ? reference.get() : null;
+            if (shared != null) {
+                return shared;
+            }
+            contents.put(hash,
+                         new ContentReference(hash,
+                                              content,
+                                              releasedContents));
+            return content;
+        }
+    }
+
+    static int internedContents() {
+        synchronized (contents) {
+            purgeReleasedContents();
+            return contents.size();
+        }
+    }
+
+    private static void purgeReleasedContents() {
+        ContentReference released;
+        while ((released = (ContentReference) releasedContents.poll()) != null) {
+            // the hash can already be used by a new reference
+            if (contents.get(released.hash) == released) {
+                contents.remove(released.hash);
+            }
+        }
+    }
+
+    protected static int getThreads(final String value) {
+        final int threads = Integer.parseInt(validatePositiveNumber(LOADER_THREADS,
+                                                                    value,
+                                                                    DEFAULT_LOADER_THREADS));
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    private static class ContentReference extends WeakReference<byte[]> {
+
+        private final String hash;
+
+        ContentReference(final String hash,
+                         final byte[] content,
+                         final ReferenceQueue<byte[]> queue) {
+            super(content,
+                  queue);
+            this.hash = hash;
+        }
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.builder.core;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.kie.workbench.common.services.backend.util.CacheUtils.validatePositiveNumber;
+
+/**
+ * LRU cache bounded by the number of entries, by the estimated size of the entries and by the time since their last
+ * access.
+ * The size of an entry is given by {@link #weigh(Object)}, it is estimated when the entry is added and, if the
+ * {@link #version(Object)} of the value changed since, when the entry is read. The weighing is done outside the lock of
+ * the cache, which keeps the running total of the weights. The least recently used entries are
+ * removed until the total weight is under the max weight. An entry not read for the max idle time is removed at the
+ * next access to the cache.
+ * A max weight or a max idle time of 0 disables the bound, the entries aren't weighed without a max weight.
+ */
+public abstract class WeightedLRUCache<K, V> {
+
+    private static final Logger logger = LoggerFactory.getLogger(WeightedLRUCache.class);
+
+    protected static final long MB = 1024L * 1024L;
+
+    private final Map<K, Entry<V>> entries = new LinkedHashMap<>(16,
+                                                                 0.75f,
+                                                                 true);
+    private final int maxEntries;
+    private final long maxWeight;
+    private final long maxIdleMillis;
+
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    /**
+     * @param maxEntries max number of entries
+     * @param maxWeight max total weight of the entries, 0 for no limit
+     * @param maxIdleMillis max time in milliseconds an entry is kept without being read, 0 for no limit
+     */
+    protected WeightedLRUCache(final int maxEntries,
+                               final long maxWeight,
+                               final long maxIdleMillis) {
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.maxIdleMillis = maxIdleMillis;
+    }
+
+    /**
+     * Estimated retained size of a value, in bytes
+     */
+    protected long weigh(final V value) {
+        return 0;
+    }
+
+    /**
+     * Version of a value that changes when its size changes: an entry read with a different version than when it was
+     * weighed is weighed again
+     */
+    protected long version(final V value) {
+        return 0;
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    public V getEntry(final K key) {
+        final Entry<V> entry;
+        final long weighedVersion;
+        synchronized (this) {
+            expireIdleEntries();
+            entry = entries.get(key);
+            if (entry == null) {
+                misses++;
+                return null;
+            }
+            hits++;
+            entry.lastAccess = currentTimeMillis();
+            weighedVersion = entry.version;
+        }
+        if (maxWeight > 0) {
+            final long valueVersion = version(entry.value);
+            if (valueVersion != weighedVersion) {
+                reweigh(key,
+                        entry,
+                        valueVersion);
+            }
+        }
+        return entry.value;
+    }
+
+    public void setEntry(final K key,
+                         final V value) {
+        final long valueVersion = maxWeight > 0 ? version(value) : 0;
+        final long valueWeight = maxWeight > 0 ? weighEntry(value) : 0;
+        synchronized (this) {
+            expireIdleEntries();
+            final Entry<V> previous = entries.put(key,
+                                                  new Entry<>(value,
+                                                              currentTimeMillis(),
+                                                              valueWeight,
+                                                              valueVersion));
+            if (previous != null) {
+                weight -= previous.weight;
+            }
+            weight += valueWeight;
+            evict(key);
+        }
+    }
+
+    public synchronized void invalidateCache() {
+        entries.clear();
+        weight = 0;
+    }
+
+    public synchronized void invalidateCache(final K key) {
+        final Entry<V> entry = entries.remove(key);
+        if (entry != null) {
+            weight -= entry.weight;
+        }
+    }
+
+    /**
+     * A copy of the keys: the caller can read the entries while iterating on the keys
+     */
+    public synchronized Set<K> getKeys() {
+        return new LinkedHashSet<>(entries.keySet());
+    }
+
+    public synchronized Stats getStats() {
+        return new Stats(entries.size(),
+                         weight,
+                         hits,
+                         misses,
+                         evictions,
+                         expirations);
+    }
+
+    private void reweigh(final K key,
+                         final Entry<V> entry,
+                         final long valueVersion) {
+        final long valueWeight = weighEntry(entry.value);
+        synchronized (this) {
+            // the entry could have been replaced or removed while it was weighed
+            if (entries.get(key) != entry) {
+                return;
+            }
+            weight += valueWeight - entry.weight;
+            entry.weight = valueWeight;
+            entry.version = valueVersion;
+            evict(key);
+        }
+    }
+
+    private long weighEntry(final V value) {
+        try {
+            return Math.max(weigh(value),
+                            0);
+        } catch (RuntimeException e) {
+            // an entry that can't be measured mustn't break the cache
+            logger.warn("Unable to estimate the size of a cache entry: {}",
+                        e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Remove the least recently used entries over the limits, the entry just added is always kept
+     */
+    private void evict(final K added) {
+        final Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+        while (it.hasNext() && (entries.size() > maxEntries || (maxWeight > 0 && weight > maxWeight))) {
+            final Map.Entry<K, Entry<V>> eldest = it.next();
+            if (eldest.getKey().equals(added)) {
+                continue;
+            }
+            it.remove();
+            weight -= eldest.getValue().weight;
+            evictions++;
+            logger.debug("Evicted {} from {}, the cache weight is {} bytes",
+                         eldest.getKey(),
+                         getClass().getSimpleName(),
+                         weight);
+        }
+    }
+
+    private void expireIdleEntries() {
+        if (maxIdleMillis <= 0) {
+            return;
+        }
+        final long expiry = currentTimeMillis() - maxIdleMillis;
+        final Iterator<Entry<V>> it = entries.values().iterator();
+        while (it.hasNext()) {
+            final Entry<V> entry = it.next();
+            // access order: the next entries were read later
+            if (entry.lastAccess > expiry) {
+                return;
+            }
+            it.remove();
+            weight -= entry.weight;
+            expirations++;
+        }
+    }
+
+    protected static long validateLong(final String property,
+                                       final String value,
+                                       final String defaultValue) {
+        return Long.parseLong(validatePositiveNumber(property,
+                                                     value,
+                                                     defaultValue));
+    }
+
+    private static class Entry<V> {
+
+        private final V value;
+        private long weight;
+        private long version;
+        private long lastAccess;
+
+        Entry(final V value,
+              final long lastAccess,
+              final long weight,
+              final long version) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+            this.weight = weight;
+            this.version = version;
+        }
+    }
+
+    /**
+     * Snapshot of the usage of a cache
+     */
+    public static class Stats {
+
+        private final int size;
+        private final long weight;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long expirations;
+
+        Stats(final int size,
+              final long weight,
+              final long hits,
+              final long misses,
+              final long evictions,
+              final long expirations) {
+            this.size = size;
+            this.weight = weight;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.expirations = expirations;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public long getWeight() {
+            return weight;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public long getExpirations() {
+            return expirations;
+        }
+
+        @Override
+        public String toString() {
+            return "size=" + size +
+                    ", weight=" + weight +
+                    ", hits=" + hits +
+                    ", misses=" + misses +
+                    ", evictions=" + evictions +
+                    ", expirations=" + expirations;
+        }
+    }
+}
@@ -16,6 +16,8 @@
 
 package org.kie.workbench.common.services.backend.project;
 
+import java.util.ArrayList;
+import java.util.List;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -44,22 +46,38 @@ public class KieResourceResolver
         extends ResourceResolver<KieModule> {
 
     private KModuleService kModuleService;
+    private ModuleResolutionCache cache;
 
     public KieResourceResolver() {
 
     }
 
+    public KieResourceResolver(final IOService ioService,
+                               final POMService pomService,
+                               final CommentedOptionFactory commentedOptionFactory,
+                               final KModuleService kModuleService,
+                               final Instance<ModuleResourcePathResolver> resourcePathResolversInstance) {
+        this(ioService,
+             pomService,
+             commentedOptionFactory,
+             kModuleService,
+             resourcePathResolversInstance,
+             new ModuleResolutionCache());
+    }
+
     @Inject
     public KieResourceResolver(final @Named("ioStrategy") IOService ioService,
                                final POMService pomService,
                                final CommentedOptionFactory commentedOptionFactory,
                                final KModuleService kModuleService,
-                               final Instance<ModuleResourcePathResolver> resourcePathResolversInstance) {
+                               final Instance<ModuleResourcePathResolver> resourcePathResolversInstance,
+                               final ModuleResolutionCache cache) {
         super(ioService,
               pomService,
               commentedOptionFactory,
               resourcePathResolversInstance);
         this.kModuleService = kModuleService;
+        this.cache = cache;
     }
 
     @Override
@@ -73,11 +91,19 @@ public class KieResourceResolver
             //Check if resource is the module root
             org.uberfire.java.nio.file.Path path = Paths.convert(resource).normalize();
 
+            //The folders of the modules already resolved don't need to be walked again
+            final org.uberfire.java.nio.file.Path cachedRoot = cache.getModuleRoot(path);
+            if (cachedRoot != null) {
+                return loadPOM ? makeModule(cachedRoot) : simpleModuleInstance(cachedRoot);
+            }
+
             //A module root is the folder containing the pom.xml file. This will be the parent of the "src" folder
             if (Files.isRegularFile(path)) {
                 path = path.getParent();
             }
+            final List<org.uberfire.java.nio.file.Path> folders = new ArrayList<>();
             while (!hasPom(path)) {
+                folders.add(path);
                 path = path.getParent();
                 if (path == null) {
                     return null;
@@ -88,6 +114,10 @@ public class KieResourceResolver
                 return null;
             }
 
+            folders.add(path);
+            cache.setModuleRoot(folders,
+                                path);
+
             if (loadPOM) {
                 return makeModule(path);
             } else {
@@ -103,8 +133,8 @@ public class KieResourceResolver
         try {
 
             final KieModule module = simpleModuleInstance(nioModuleRootPath);
-            final POM pom = pomService.load(module.getPomXMLPath());
-            module.setPom(pom);
+            module.setPom(loadPom(nioModuleRootPath,
+                                  module.getPomXMLPath()));
 
             return module;
 
@@ -113,6 +143,22 @@ public class KieResourceResolver
         }
     }
 
+    /**
+     * The POM of a module root is parsed once, the cache drops it when the pom.xml changes.
+     */
+    private POM loadPom(final org.uberfire.java.nio.file.Path nioModuleRootPath,
+                        final Path pomXMLPath) {
+        POM pom = cache.getPom(nioModuleRootPath);
+        if (pom == null) {
+            pom = pomService.load(pomXMLPath);
+            if (pom != null) {
+                cache.setPom(nioModuleRootPath,
+                             pom);
+            }
+        }
+        return pom;
+    }
+
     @Override
     public org.guvnor.common.services.project.model.Package resolvePackage(final Path resource) {
         try {
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.project;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.guvnor.common.services.project.builder.events.InvalidateDMOModuleCacheEvent;
+import org.guvnor.common.services.project.model.Module;
+import org.guvnor.common.services.project.model.POM;
+import org.kie.soup.commons.validation.PortablePreconditions;
+import org.uberfire.backend.server.util.Paths;
+import org.uberfire.java.nio.file.Path;
+import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceBatchChangesEvent;
+import org.uberfire.workbench.events.ResourceChange;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceRenamed;
+import org.uberfire.workbench.events.ResourceRenamedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+import static org.guvnor.common.services.project.utils.ModuleResourcePaths.POM_PATH;
+import static org.kie.workbench.common.services.backend.util.CacheUtils.validatePositiveNumber;
+
+/**
+ * Cache of the module resolution of the KieResourceResolver: the module root of the folders already resolved and the
+ * POM of the module roots.
+ * Only the folders of complete modules (pom.xml and kmodule.xml) are kept, a folder outside of a module is resolved
+ * again at every call so that a module being created is found as soon as its files are written.
+ * The entries are removed by the resource change events touching the pom.xml and kmodule.xml files or deleting and
+ * renaming folders, and by the {@link InvalidateDMOModuleCacheEvent}. At most {@value #DEFAULT_CACHE_SIZE} folders
+ * are kept (property {@value #CACHE_SIZE}).
+ */
+@ApplicationScoped
+public class ModuleResolutionCache {
+
+    protected static final String CACHE_SIZE = "org.kie.module.resolution.cache.size";
+    protected static final String DEFAULT_CACHE_SIZE = "10000";
+    protected static final int MAX_ENTRIES = Integer.parseInt(validateCacheSize(System.getProperty(CACHE_SIZE,
+                                                                                                 DEFAULT_CACHE_SIZE)));
+
+    private static final String KMODULE_FILE_NAME = "kmodule.xml";
+    private static final String SEPARATOR = "/";
+
+    private final Map<String, Path> moduleRoots;
+    private final Map<String, POM> poms;
+
+    public ModuleResolutionCache() {
+        this(MAX_ENTRIES);
+    }
+
+    public ModuleResolutionCache(final int maxEntries) {
+        this.moduleRoots = newLRUMap(maxEntries);
+        this.poms = newLRUMap(maxEntries);
+    }
+
+    private static <V> Map<String, V> newLRUMap(final int maxEntries) {
+        return new LinkedHashMap<String, V>(16,
+                                            0.75f,
+                                            true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    protected static String validateCacheSize(final String value) {
+        return validatePositiveNumber(CACHE_SIZE,
+                                      value,
+                                      DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * The root of the module of a folder, or of the parent folder of a file, null if the folder isn't in the cache
+     */
+    public synchronized Path getModuleRoot(final Path path) {
+        final Path root = moduleRoots.get(key(path));
+        if (root != null || path.getParent() == null) {
+            return root;
+        }
+        return moduleRoots.get(key(path.getParent()));
+    }
+
+    /**
+     * Store the root of a complete module for the folders found between a resource and the root
+     */
+    public synchronized void setModuleRoot(final List<Path> folders,
+                                           final Path root) {
+        for (final Path folder : folders) {
+            moduleRoots.put(key(folder),
+                            root);
+        }
+    }
+
+    /**
+     * The POM of a module root, null if it isn't in the cache
+     */
+    public synchronized POM getPom(final Path moduleRoot) {
+        return poms.get(key(moduleRoot));
+    }
+
+    public synchronized void setPom(final Path moduleRoot,
+                                    final POM pom) {
+        poms.put(key(moduleRoot),
+                 pom);
+    }
+
+    public synchronized void invalidateAll() {
+        moduleRoots.clear();
+        poms.clear();
+    }
+
+    synchronized int size() {
+        return moduleRoots.size();
+    }
+
+    public void onResourceAdded(@Observes final ResourceAddedEvent event) {
+        invalidateModuleFiles(event.getPath());
+    }
+
+    public void onResourceDeleted(@Observes final ResourceDeletedEvent event) {
+        invalidateRemoved(event.getPath());
+    }
+
+    public void onResourceRenamed(@Observes final ResourceRenamedEvent event) {
+        invalidateRemoved(event.getPath());
+        invalidateModuleFiles(event.getDestinationPath());
+    }
+
+    public void onResourceUpdated(@Observes final ResourceUpdatedEvent event) {
+        invalidatePom(event.getPath());
+    }
+
+    public void onBatchResourceChanges(@Observes final ResourceBatchChangesEvent event) {
+        for (final Map.Entry<org.uberfire.backend.vfs.Path, Collection<ResourceChange>> entry : event.getBatch().entrySet()) {
+            for (final ResourceChange change : entry.getValue()) {
+                switch (change.getType()) {
+                    case ADD:
+                        invalidateModuleFiles(entry.getKey());
+                        break;
+                    case UPDATE:
+                        invalidatePom(entry.getKey());
+                        break;
+                    case DELETE:
+                        invalidateRemoved(entry.getKey());
+                        break;
+                    case RENAME:
+                        invalidateRemoved(entry.getKey());
+                        if (change instanceof ResourceRenamed) {
+                            invalidateModuleFiles(((ResourceRenamed) change).getDestinationPath());
+                        }
+                }
+            }
+        }
+    }
+
+    public void onInvalidateDMOModuleCache(@Observes final InvalidateDMOModuleCacheEvent event) {
+        PortablePreconditions.checkNotNull("event",
+                                           event);
+        final Module module = event.getModule();
+        if (module != null && module.getRootPath() != null) {
+            synchronized (this) {
+                poms.remove(key(Paths.convert(module.getRootPath())));
+            }
+        }
+    }
+
+    /**
+     * A deleted or renamed folder: the folders inside it and the modules inside it aren't valid anymore
+     */
+    private void invalidateRemoved(final org.uberfire.backend.vfs.Path path) {
+        if (path == null) {
+            return;
+        }
+        final String prefix = key(Paths.convert(path));
+        synchronized (this) {
+            final Iterator<Map.Entry<String, Path>> it = moduleRoots.entrySet().iterator();
+            while (it.hasNext()) {
+                final Map.Entry<String, Path> entry = it.next();
+                if (entry.getKey().startsWith(prefix) || key(entry.getValue()).startsWith(prefix)) {
+                    it.remove();
+                }
+            }
+            poms.keySet().removeIf(root -> root.startsWith(prefix));
+        }
+        invalidateModuleFiles(path);
+    }
+
+    /**
+     * A pom.xml or a kmodule.xml added or removed: the modules containing the file and the folders under the
+     * folder of the file can resolve to a different module
+     */
+    private void invalidateModuleFiles(final org.uberfire.backend.vfs.Path path) {
+        if (path == null || !isModuleFile(path)) {
+            return;
+        }
+        final Path nioPath = Paths.convert(path);
+        if (nioPath.getParent() == null) {
+            return;
+        }
+        final String file = nioPath.toUri().toString();
+        final String folder = key(nioPath.getParent());
+        synchronized (this) {
+            final Iterator<Map.Entry<String, Path>> it = moduleRoots.entrySet().iterator();
+            while (it.hasNext()) {
+                final Map.Entry<String, Path> entry = it.next();
+                if (entry.getKey().startsWith(folder) || file.startsWith(key(entry.getValue()))) {
+                    it.remove();
+                }
+            }
+        }
+        invalidatePom(path);
+    }
+
+    private void invalidatePom(final org.uberfire.backend.vfs.Path path) {
+        if (path == null || !POM_PATH.equals(path.getFileName())) {
+            return;
+        }
+        final Path nioPath = Paths.convert(path);
+        if (nioPath.getParent() != null) {
+            synchronized (this) {
+                poms.remove(key(nioPath.getParent()));
+            }
+        }
+    }
+
+    private static boolean isModuleFile(final org.uberfire.backend.vfs.Path path) {
+        return POM_PATH.equals(path.getFileName()) || KMODULE_FILE_NAME.equals(path.getFileName());
+    }
+
+    private static String key(final Path folder) {
+        final String uri = folder.toUri().toString();
+        return uri.endsWith(SEPARATOR) ? uri : uri + SEPARATOR;
+    }
+}
@@ -27,6 +27,7 @@ import java.util.Set;
 import java.util.function.Predicate;
 
 import com.google.common.io.Resources;
+import org.drools.compiler.kie.builder.impl.KieFileSystemImpl;
 import org.drools.core.rule.TypeMetaInfo;
 import org.guvnor.common.services.project.builder.model.BuildMessage;
 import org.guvnor.common.services.project.builder.model.BuildResults;
@@ -60,6 +61,7 @@ import org.uberfire.backend.vfs.Path;
 import org.uberfire.io.IOService;
 import org.uberfire.java.nio.fs.file.SimpleFileSystemProvider;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -136,6 +138,49 @@ public class BuilderTest
         assertNotNull(builder.getKieContainer());
     }
 
+    @Test
+    public void testBuilderIsWeighedAgainAfterBuild() throws Exception {
+        URL url = this.getClass().getResource("/GuvnorM2RepoDependencyExample1");
+        SimpleFileSystemProvider p = new SimpleFileSystemProvider();
+        org.uberfire.java.nio.file.Path path = p.getPath(url.toURI());
+
+        final Module module = moduleService.resolveModule(Paths.convert(path));
+
+        final Builder builder = new Builder(module,
+                                            ioService,
+                                            moduleService,
+                                            importsService,
+                                            new ArrayList<>(),
+                                            dependenciesClassLoaderCache,
+                                            pomModelCache,
+                                            getPackageNameAllowListService(),
+                                            alwaysTrue);
+        final WeightedLRUCache<Module, Builder> cache = new WeightedLRUCache<Module, Builder>(10,
+                                                                                            Long.MAX_VALUE,
+                                                                                            0) {
+            @Override
+            protected long weigh(final Builder value) {
+                return value.getEstimatedSize();
+            }
+
+            @Override
+            protected long version(final Builder value) {
+                return value.getBuildCount();
+            }
+        };
+        cache.setEntry(module,
+                       builder);
+        final long sourcesWeight = cache.getStats().getWeight();
+
+        builder.build();
+
+        assertEquals(builder,
+                     cache.getEntry(module));
+        assertTrue(cache.getStats().getWeight() > sourcesWeight);
+        assertEquals(builder.getEstimatedSize(),
+                     cache.getStats().getWeight());
+    }
+
     @Test
     public void testBuilderKModuleHasDependency() throws Exception {
         URL url = this.getClass().getResource("/GuvnorM2RepoDependencyExample2");
@@ -364,6 +409,38 @@ public class BuilderTest
                               new ArrayList<String>());
     }
 
+    @Test
+    public void testCloneSharesTheFilesOfTheOriginal() throws Exception {
+        final URL url = this.getClass().getResource("/GuvnorM2RepoDependencyExample1");
+        final SimpleFileSystemProvider p = new SimpleFileSystemProvider();
+        final org.uberfire.java.nio.file.Path path = p.getPath(url.toURI());
+
+        final Module module = moduleService.resolveModule(Paths.convert(path));
+
+        final Builder builder = new Builder(module,
+                                            ioService,
+                                            moduleService,
+                                            importsService,
+                                            new ArrayList<>(),
+                                            dependenciesClassLoaderCache,
+                                            pomModelCache,
+                                            getPackageNameAllowListService(),
+                                            alwaysTrue);
+        builder.build();
+
+        final Builder clone = builder.clone();
+        assertTrue(clone.isBuilt());
+
+        final KieFileSystemImpl original = (KieFileSystemImpl) builder.getKieFileSystem();
+        final KieFileSystemImpl cloned = (KieFileSystemImpl) clone.getKieFileSystem();
+        assertArrayEquals(original.read("src/main/resources/rule1.drl"),
+                   cloned.read("src/main/resources/rule1.drl"));
+
+        cloned.write("src/main/resources/rule3.drl",
+                     "package org.kie.test".getBytes());
+        assertNull(original.read("src/main/resources/rule3.drl"));
+    }
+
     @Test
     public void buildDetectsFilesWithSpecialCharacters() throws Exception {
         LRUPomModelCache pomModelCache = getReference(LRUPomModelCache.class);
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.builder.core;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.io.FileUtils;
+import org.guvnor.common.services.backend.file.DotFileFilter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.uberfire.io.IOService;
+import org.uberfire.java.nio.file.Files;
+import org.uberfire.java.nio.file.Path;
+import org.uberfire.java.nio.fs.file.SimpleFileSystemProvider;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ModuleResourceLoaderTest {
+
+    @Mock
+    private IOService ioService;
+
+    private ExecutorService executor;
+    private File tempDir;
+    private Path root;
+
+    @Before
+    public void setUp() throws Exception {
+        executor = Executors.newFixedThreadPool(2);
+        tempDir = java.nio.file.Files.createTempDirectory("module-loader").toFile();
+        root = new SimpleFileSystemProvider().getPath(tempDir.toURI());
+        write("pom.xml",
+              "<project/>");
+        write("src/main/resources/org/test/rule.drl",
+              "rule r end");
+        write("src/main/resources/org/test/other.drl",
+              "rule r end");
+        write("src/main/resources/org/test/.hidden",
+              "hidden");
+        when(ioService.readAllBytes(any(Path.class))).thenAnswer(invocation -> Files.readAllBytes((Path) invocation.getArguments()[0]));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+        FileUtils.deleteDirectory(tempDir);
+    }
+
+    private void write(final String path,
+                       final String content) throws Exception {
+        final File file = new File(tempDir,
+                                   path);
+        file.getParentFile().mkdirs();
+        FileUtils.writeStringToFile(file,
+                                    content,
+                                    StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void allFilesButDotFilesAreLoaded() {
+        final Map<Path, byte[]> loaded = new ModuleResourceLoader(ioService,
+                                                                  new DotFileFilter()).load(root);
+
+        assertEquals(3,
+                     loaded.size());
+        assertArrayEquals("<project/>".getBytes(StandardCharsets.UTF_8),
+                          loaded.get(root.resolve("pom.xml")));
+        assertFalse(loaded.containsKey(root.resolve("src/main/resources/org/test/.hidden")));
+    }
+
+    @Test
+    public void filesAreLoadedByTheExecutorInTheListingOrder() {
+        final Map<Path, byte[]> sequential = new ModuleResourceLoader(ioService,
+                                                                      new DotFileFilter()).load(root);
+        final Map<Path, byte[]> loaded = new ModuleResourceLoader(ioService,
+                                                                  new DotFileFilter(),
+                                                                  executor).load(root);
+
+        assertEquals(new ArrayList<>(sequential.keySet()),
+                     new ArrayList<>(loaded.keySet()));
+        for (Map.Entry<Path, byte[]> entry : sequential.entrySet()) {
+            assertArrayEquals(entry.getValue(),
+                              loaded.get(entry.getKey()));
+        }
+    }
+
+    @Test
+    public void sameContentIsShared() {
+        final Map<Path, byte[]> loaded = new ModuleResourceLoader(ioService,
+                                                                  new DotFileFilter()).load(root);
+        final Map<Path, byte[]> loadedAgain = new ModuleResourceLoader(ioService,
+                                                                       new DotFileFilter()).load(root);
+
+        final byte[] rule = loaded.get(root.resolve("src/main/resources/org/test/rule.drl"));
+        assertSame(rule,
+                   loaded.get(root.resolve("src/main/resources/org/test/other.drl")));
+        assertSame(rule,
+                   loadedAgain.get(root.resolve("src/main/resources/org/test/rule.drl")));
+        assertTrue(ModuleResourceLoader.internedContents() > 0);
+    }
+
+    @Test
+    public void filesAreLoadedWhenTheExecutorIsBusy() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService busy = Executors.newSingleThreadExecutor();
+        try {
+            busy.submit(() -> {
+                release.await();
+                return null;
+            });
+
+            final Map<Path, byte[]> loaded = new ModuleResourceLoader(ioService,
+                                                                      new DotFileFilter(),
+                                                                      busy).load(root);
+
+            assertEquals(3,
+                         loaded.size());
+        } finally {
+            release.countDown();
+            busy.shutdownNow();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void readErrorsAreRethrown() {
+        doThrow(new IllegalArgumentException("unreadable")).when(ioService).readAllBytes(any(Path.class));
+
+        new ModuleResourceLoader(ioService,
+                                 new DotFileFilter(),
+                                 executor).load(root);
+    }
+
+    @Test
+    public void illegalThreadsUseTheCores() {
+        assertEquals(Runtime.getRuntime().availableProcessors(),
+                     ModuleResourceLoader.getThreads("many"));
+        assertEquals(Runtime.getRuntime().availableProcessors(),
+                     ModuleResourceLoader.getThreads("0"));
+        assertEquals(4,
+                     ModuleResourceLoader.getThreads("4"));
+    }
+}
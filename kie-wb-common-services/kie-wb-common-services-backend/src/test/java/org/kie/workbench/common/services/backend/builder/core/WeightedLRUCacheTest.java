@@ -0,0 +1,217 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.builder.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class WeightedLRUCacheTest {
+
+    private long now = 0;
+    private int weighed = 0;
+
+    private WeightedLRUCache<String, String> newCache(final int maxEntries,
+                                                      final long maxWeight,
+                                                      final long maxIdleMillis) {
+        return new WeightedLRUCache<String, String>(maxEntries,
+                                                    maxWeight,
+                                                    maxIdleMillis) {
+            @Override
+            protected long weigh(final String value) {
+                weighed++;
+                return value.length();
+            }
+
+            @Override
+            protected long currentTimeMillis() {
+                return now;
+            }
+        };
+    }
+
+    @Test
+    public void leastRecentlyUsedEntryIsEvictedOverTheMaxEntries() {
+        final WeightedLRUCache<String, String> cache = newCache(2,
+                                                                0,
+                                                                0);
+        cache.setEntry("a",
+                       "a");
+        cache.setEntry("b",
+                       "b");
+        cache.getEntry("a");
+        cache.setEntry("c",
+                       "c");
+
+        assertEquals("a",
+                     cache.getEntry("a"));
+        assertNull(cache.getEntry("b"));
+        assertEquals(1,
+                     cache.getStats().getEvictions());
+    }
+
+    @Test
+    public void entriesAreEvictedOverTheMaxWeight() {
+        final WeightedLRUCache<String, String> cache = newCache(10,
+                                                                10,
+                                                                0);
+        cache.setEntry("a",
+                       "12345");
+        cache.setEntry("b",
+                       "1234");
+        cache.setEntry("c",
+                       "123");
+
+        assertNull(cache.getEntry("a"));
+        assertEquals(7,
+                     cache.getStats().getWeight());
+
+        // an entry heavier than the max weight is kept alone
+        cache.setEntry("d",
+                       "12345678901");
+        assertEquals(1,
+                     cache.getStats().getSize());
+        assertEquals("12345678901",
+                     cache.getEntry("d"));
+    }
+
+    @Test
+    public void idleEntriesExpire() {
+        final WeightedLRUCache<String, String> cache = newCache(10,
+                                                                0,
+                                                                100);
+        cache.setEntry("a",
+                       "a");
+        now = 50;
+        cache.setEntry("b",
+                       "b");
+        now = 120;
+
+        assertNull(cache.getEntry("a"));
+        assertEquals("b",
+                     cache.getEntry("b"));
+        assertEquals(1,
+                     cache.getStats().getExpirations());
+    }
+
+    @Test
+    public void statsCountHitsAndMisses() {
+        final WeightedLRUCache<String, String> cache = newCache(10,
+                                                                0,
+                                                                0);
+        cache.setEntry("a",
+                       "abc");
+        cache.getEntry("a");
+        cache.getEntry("b");
+        cache.invalidateCache("a");
+
+        final WeightedLRUCache.Stats stats = cache.getStats();
+        assertEquals(1,
+                     stats.getHits());
+        assertEquals(1,
+                     stats.getMisses());
+        assertEquals(0,
+                     stats.getWeight());
+        assertEquals(0,
+                     stats.getSize());
+    }
+
+    @Test
+    public void keysCanBeIteratedWhileReadingTheEntries() {
+        final WeightedLRUCache<String, String> cache = newCache(10,
+                                                                0,
+                                                                0);
+        cache.setEntry("a",
+                       "a");
+        cache.setEntry("b",
+                       "b");
+
+        for (String key : cache.getKeys()) {
+            assertTrue(cache.getEntry(key) != null);
+        }
+    }
+
+    @Test
+    public void onlyTheAddedEntryIsWeighed() {
+        final WeightedLRUCache<String, String> cache = newCache(10,
+                                                                100,
+                                                                0);
+        cache.setEntry("a",
+                       "123");
+        cache.setEntry("b",
+                       "12");
+        cache.setEntry("a",
+                       "1");
+
+        assertEquals(3,
+                     weighed);
+        assertEquals(3,
+                     cache.getStats().getWeight());
+    }
+
+    @Test
+    public void entriesAreNotWeighedWithoutMaxWeight() {
+        final WeightedLRUCache<String, String> cache = newCache(10,
+                                                                0,
+                                                                0);
+        cache.setEntry("a",
+                       "123");
+
+        assertEquals(0,
+                     weighed);
+        assertEquals(0,
+                     cache.getStats().getWeight());
+    }
+
+    @Test
+    public void entryIsWeighedAgainWhenItsVersionChanged() {
+        final WeightedLRUCache<String, StringBuilder> cache = new WeightedLRUCache<String, StringBuilder>(10,
+                                                                                                        10,
+                                                                                                        0) {
+            @Override
+            protected long weigh(final StringBuilder value) {
+                weighed++;
+                return value.length();
+            }
+
+            @Override
+            protected long version(final StringBuilder value) {
+                return value.length();
+            }
+        };
+        final StringBuilder a = new StringBuilder("12");
+        cache.setEntry("a",
+                       a);
+        cache.setEntry("b",
+                       new StringBuilder("123"));
+        cache.getEntry("a");
+        assertEquals(2,
+                     weighed);
+
+        a.append("123456");
+        cache.getEntry("a");
+
+        // "a" grew to 8, "b" is evicted to stay under the max weight
+        assertEquals(3,
+                     weighed);
+        assertEquals(8,
+                     cache.getStats().getWeight());
+        assertNull(cache.getEntry("b"));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.project;
+
+import java.util.Arrays;
+
+import org.guvnor.common.services.project.builder.events.InvalidateDMOModuleCacheEvent;
+import org.guvnor.common.services.project.model.Module;
+import org.guvnor.common.services.project.model.POM;
+import org.junit.Before;
+import org.junit.Test;
+import org.uberfire.backend.server.util.Paths;
+import org.uberfire.backend.vfs.PathFactory;
+import org.uberfire.java.nio.file.Path;
+import org.uberfire.rpc.SessionInfo;
+import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ModuleResolutionCacheTest {
+
+    private ModuleResolutionCache cache;
+    private Path root;
+    private Path resources;
+    private Path pkg;
+
+    @Before
+    public void setUp() {
+        cache = new ModuleResolutionCache(100);
+        root = nioPath("file:///repo/module");
+        resources = nioPath("file:///repo/module/src/main/resources");
+        pkg = nioPath("file:///repo/module/src/main/resources/org/test");
+        cache.setModuleRoot(Arrays.asList(pkg,
+                                          resources,
+                                          root),
+                            root);
+    }
+
+    private static Path nioPath(final String uri) {
+        return Paths.convert(PathFactory.newPath(uri.substring(uri.lastIndexOf('/') + 1),
+                                                 uri));
+    }
+
+    private static org.uberfire.backend.vfs.Path vfsPath(final String uri) {
+        return PathFactory.newPath(uri.substring(uri.lastIndexOf('/') + 1),
+                                   uri);
+    }
+
+    @Test
+    public void foldersAndFilesResolveToTheModuleRoot() {
+        assertThat(cache.getModuleRoot(pkg)).isEqualTo(root);
+        assertThat(cache.getModuleRoot(nioPath("file:///repo/module/src/main/resources/org/test/rule.drl"))).isEqualTo(root);
+        assertThat(cache.getModuleRoot(nioPath("file:///repo/other"))).isNull();
+    }
+
+    @Test
+    public void pomIsRemovedWhenTheModuleCacheIsInvalidated() {
+        final POM pom = new POM();
+        cache.setPom(root,
+                     pom);
+        assertThat(cache.getPom(root)).isSameAs(pom);
+
+        final Module module = mock(Module.class);
+        when(module.getRootPath()).thenReturn(vfsPath("file:///repo/module"));
+        cache.onInvalidateDMOModuleCache(new InvalidateDMOModuleCacheEvent(mock(SessionInfo.class),
+                                                                          module,
+                                                                          vfsPath("file:///repo/module/pom.xml")));
+
+        assertThat(cache.getPom(root)).isNull();
+        assertThat(cache.getModuleRoot(pkg)).isEqualTo(root);
+    }
+
+    @Test
+    public void newPomInAFolderInvalidatesTheFoldersUnderIt() {
+        cache.onResourceAdded(new ResourceAddedEvent(vfsPath("file:///repo/module/src/main/resources/org/test/pom.xml"),
+                                                     "",
+                                                     mock(SessionInfo.class)));
+
+        assertThat(cache.getModuleRoot(pkg)).isNull();
+    }
+
+    @Test
+    public void deletedKModuleInvalidatesTheModule() {
+        cache.onResourceDeleted(new ResourceDeletedEvent(vfsPath("file:///repo/module/src/main/resources/META-INF/kmodule.xml"),
+                                                         "",
+                                                         mock(SessionInfo.class)));
+
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void deletedFolderInvalidatesTheFoldersInside() {
+        cache.onResourceDeleted(new ResourceDeletedEvent(vfsPath("file:///repo/module/src/main/resources/org"),
+                                                         "",
+                                                         mock(SessionInfo.class)));
+
+        assertThat(cache.getModuleRoot(pkg)).isNull();
+        assertThat(cache.getModuleRoot(resources)).isEqualTo(root);
+    }
+
+    @Test
+    public void updatedResourcesKeepTheModules() {
+        final POM pom = new POM();
+        cache.setPom(root,
+                     pom);
+
+        cache.onResourceUpdated(new ResourceUpdatedEvent(vfsPath("file:///repo/module/src/main/resources/org/test/rule.drl"),
+                                                         "",
+                                                         mock(SessionInfo.class)));
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.getPom(root)).isSameAs(pom);
+
+        cache.onResourceUpdated(new ResourceUpdatedEvent(vfsPath("file:///repo/module/pom.xml"),
+                                                         "",
+                                                         mock(SessionInfo.class)));
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.getPom(root)).isNull();
+    }
+}
@@ -31,6 +31,7 @@ import org.kie.workbench.common.stunner.core.diagram.Metadata;
 import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.lookup.criteria.AbstractCriteriaLookupManager;
 import org.kie.workbench.common.stunner.core.lookup.diagram.DiagramLookupRequest;
+import org.kie.workbench.common.stunner.core.lookup.diagram.DiagramRepresentation;
 import org.kie.workbench.common.stunner.core.service.BaseDiagramService;
 import org.uberfire.backend.server.util.Paths;
 import org.uberfire.backend.vfs.Path;
@@ -40,7 +41,7 @@ import org.uberfire.backend.vfs.Path;
 public class DiagramLookupServiceImpl
         extends AbstractDiagramLookupService<Metadata, Diagram<Graph, Metadata>> {
 
-    private final VFSLookupManager<Diagram<Graph, Metadata>> vfsLookupManager;
+    private final VFSLookupManager<DiagramRepresentation> vfsLookupManager;
     private final DiagramServiceImpl diagramService;
 
     // CDI proxy.
@@ -50,7 +51,7 @@ public class DiagramLookupServiceImpl
     }
 
     @Inject
-    public DiagramLookupServiceImpl(final VFSLookupManager<Diagram<Graph, Metadata>> vfsLookupManager,
+    public DiagramLookupServiceImpl(final VFSLookupManager<DiagramRepresentation> vfsLookupManager,
                                     final DiagramServiceImpl diagramService) {
         this.vfsLookupManager = vfsLookupManager;
         this.diagramService = diagramService;
@@ -66,9 +67,14 @@ public class DiagramLookupServiceImpl
         return diagramService;
     }
 
+    @Override
+    protected DiagramRepresentation getDiagramRepresentationByPath(final Path path) {
+        return diagramService.getDiagramRepresentationByPath(path);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
-    protected List<Diagram<Graph, Metadata>> getItems(final DiagramLookupRequest request) {
+    protected List<DiagramRepresentation> getItems(final DiagramLookupRequest request) {
         final Path path = null != request.getPath() ?
                 request.getPath() :
                 Paths.convert(getServiceImpl().getDiagramsPath());
@@ -77,7 +83,7 @@ public class DiagramLookupServiceImpl
 
     @Override
     protected boolean matches(final String criteria,
-                              final Diagram<Graph, Metadata> item) {
+                              final DiagramRepresentation item) {
         final Map<String, String> criteriaMap = AbstractCriteriaLookupManager.parseCriteria(criteria);
         final String name = criteriaMap.get(DiagramLookupRequest.CRITERIA_NAME);
         if (null != name && name.trim().length() > 0) {
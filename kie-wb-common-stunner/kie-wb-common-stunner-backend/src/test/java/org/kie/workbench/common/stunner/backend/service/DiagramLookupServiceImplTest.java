@@ -20,13 +20,14 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.kie.workbench.common.stunner.core.backend.lookup.impl.VFSLookupManager;
-import org.kie.workbench.common.stunner.core.diagram.Diagram;
 import org.kie.workbench.common.stunner.core.diagram.Metadata;
-import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.lookup.diagram.DiagramLookupRequest;
+import org.kie.workbench.common.stunner.core.lookup.diagram.DiagramRepresentation;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
@@ -37,19 +38,25 @@ public class DiagramLookupServiceImplTest {
     private static final String NAME = "name1";
 
     @Mock
-    private VFSLookupManager<Diagram<Graph, Metadata>> vfsLookupManager;
+    private VFSLookupManager<DiagramRepresentation> vfsLookupManager;
 
     @Mock
     private DiagramServiceImpl diagramService;
 
     @Mock
-    private Diagram<Graph, Metadata> diagram;
+    private Metadata metadata;
+
+    @Mock
+    private Path path;
+
+    private DiagramRepresentation diagram;
 
     private DiagramLookupServiceImpl tested;
 
     @Before
     public void setup() {
-        when(diagram.getName()).thenReturn(NAME);
+        diagram = new DiagramRepresentation.DiagramRepresentationBuilder(NAME,
+                                                                         metadata).build();
         tested = new DiagramLookupServiceImpl(vfsLookupManager,
                                               diagramService);
     }
@@ -63,4 +70,12 @@ public class DiagramLookupServiceImplTest {
         assertFalse(tested.matches(criteria1, diagram));
         assertTrue(tested.matches(criteria2, diagram));
     }
+
+    @Test
+    public void testGetDiagramRepresentationByPath() {
+        when(diagramService.getDiagramRepresentationByPath(path)).thenReturn(diagram);
+
+        assertEquals(diagram,
+                     tested.getDiagramRepresentationByPath(path));
+    }
 }
@@ -69,6 +69,19 @@ public interface DiagramMarshaller<G extends Graph, M extends Metadata, D extend
         }
     }
 
+    /**
+     * Reads the diagram's metadata, such as the title or the canvas root, from the input stream, without the need
+     * of building the graph. Default implementation unmarshalls the whole graph, marshallers can provide a lighter one.
+     * @param metadata The diagram's metadata to update.
+     * @param input The input stream that contains the serialized graph.
+     * @throws IOException System I/O error.
+     */
+    default void readMetadata(final M metadata,
+                              final InputStream input) throws IOException {
+        unmarshall(metadata,
+                   input);
+    }
+
     /**
      * Serializes a diagram instance of type <code>D</code> as string.
      * @param diagram The diagram instance to serialize.
@@ -24,7 +24,6 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.kie.workbench.common.stunner.core.definition.adapter.binding.BindableAdapterUtils;
 
@@ -33,33 +32,27 @@ public class ReflectionAdapterUtils {
     @SuppressWarnings("unchecked")
     public static <T, A extends Annotation, V> V getAnnotatedFieldValue(final T object,
                                                                         final Class<A> annotationType) throws IllegalAccessException {
-        Class<?> c = object.getClass();
-        while (!(c.isAssignableFrom(Object.class))) {
-            V result = getAnnotatedFieldValue(object,
-                                              c,
-                                              annotationType);
+        for (Field field : ReflectionClassMetadata.of(object.getClass()).getFirstAnnotatedFields(annotationType)) {
+            V result = (V) field.get(object);
             if (null != result) {
                 return result;
             }
-            c = c.getSuperclass();
         }
         return null;
     }
 
+    @SuppressWarnings("unchecked")
     public static <T, V> Set<V> getFieldValues(final T object,
                                                final Collection<String> fieldNames) throws IllegalAccessException {
         Set<V> result = new LinkedHashSet<V>();
         if (null != fieldNames) {
+            final ReflectionClassMetadata metadata = ReflectionClassMetadata.of(object.getClass());
             for (String fieldName : fieldNames) {
-                Class<?> c = object.getClass();
-                while (!(c.isAssignableFrom(Object.class))) {
-                    V result1 = getFieldValue(object,
-                                              c,
-                                              fieldName);
+                for (Field field : metadata.getFields(fieldName)) {
+                    V result1 = (V) field.get(object);
                     if (null != result1) {
                         result.add(result1);
                     }
-                    c = c.getSuperclass();
                 }
             }
         }
@@ -78,17 +71,14 @@ public class ReflectionAdapterUtils {
         return (V) value;
     }
 
+    @SuppressWarnings("unchecked")
     public static <T, V> V getFieldValue(final T object,
                                          final String fieldName) throws IllegalAccessException {
-        Class<?> c = object.getClass();
-        while (!(c.isAssignableFrom(Object.class))) {
-            V result = getFieldValue(object,
-                                     c,
-                                     fieldName);
+        for (Field field : ReflectionClassMetadata.of(object.getClass()).getFields(fieldName)) {
+            V result = (V) field.get(object);
             if (null != result) {
                 return result;
             }
-            c = c.getSuperclass();
         }
         return null;
     }
@@ -97,62 +87,37 @@ public class ReflectionAdapterUtils {
     public static <T, A extends Annotation, V> V getAnnotatedFieldValue(final T object,
                                                                         final Class<?> sourceType,
                                                                         final Class<A> annotationType) throws IllegalAccessException {
-        V result = null;
-        Field[] fields = sourceType.getDeclaredFields();
-        for (Field field : fields) {
-            A annotation = field.getAnnotation(annotationType);
-            if (null != annotation) {
-                field.setAccessible(true);
-                result = (V) field.get(object);
-                break;
-            }
+        final List<Field> fields = ReflectionClassMetadata.of(sourceType).getFirstAnnotatedFields(annotationType);
+        if (!fields.isEmpty() && fields.get(0).getDeclaringClass() == sourceType) {
+            return (V) fields.get(0).get(object);
         }
-        return result;
+        return null;
     }
 
     @SuppressWarnings("unchecked")
     public static <T, V> V getFieldValue(final T object,
                                          final Class<?> sourceType,
                                          final String fieldName) throws IllegalAccessException {
-        V result = null;
-        Field[] fields = sourceType.getDeclaredFields();
-        for (Field field : fields) {
-            if (field.getName().equals(fieldName)) {
-                field.setAccessible(true);
-                result = (V) field.get(object);
-                break;
-            }
-        }
-        return result;
+        final Field field = getField(sourceType,
+                                     fieldName);
+        return null != field ? (V) field.get(object) : null;
     }
 
     public static <T> Field getField(final T object,
                                      final String fieldName) throws SecurityException {
-        Class<?> c = object.getClass();
-        while (!(c.isAssignableFrom(Object.class))) {
-            Field result = getField(c,
-                                    fieldName);
-            if (null != result) {
-                return result;
-            }
-            c = c.getSuperclass();
-        }
-        return null;
+        return ReflectionClassMetadata.of(object.getClass()).getField(fieldName);
     }
 
     public static Field getField(final Class<?> sourceType,
                                  final String fieldName) throws SecurityException {
-        Field[] fields = sourceType.getDeclaredFields();
-        for (Field field : fields) {
-            if (field.getName().equals(fieldName)) {
-                return field;
-            }
-        }
-        return null;
+        final Field field = ReflectionClassMetadata.of(sourceType).getField(fieldName);
+        return null != field && field.getDeclaringClass() == sourceType ? field : null;
     }
 
     public static List<Field> getFields(final Class<?> sourceType) throws SecurityException {
-        return Stream.of(sourceType.getDeclaredFields()).collect(Collectors.toList());
+        return ReflectionClassMetadata.of(sourceType).getFields().stream()
+                .filter(field -> field.getDeclaringClass() == sourceType)
+                .collect(Collectors.toList());
     }
 
     public static <T extends Annotation> T getClassAnnotation(final Class<?> type,
@@ -171,33 +136,7 @@ public class ReflectionAdapterUtils {
     public static <T extends Annotation> Collection<Field> getFieldAnnotations(final Class<?> type,
                                                                                final Class<T> annotationType) {
         if (null != type && null != annotationType) {
-            Collection<Field> result = new LinkedList<>();
-            Class<?> c = type;
-            while (!(c.isAssignableFrom(Object.class))) {
-                Collection<Field> fields = _getFieldAnnotations(c,
-                                                                annotationType);
-                if (null != fields && !fields.isEmpty()) {
-                    result.addAll(fields);
-                }
-                c = c.getSuperclass();
-            }
-            return result;
-        }
-        return null;
-    }
-
-    private static <T extends Annotation> Collection<Field> _getFieldAnnotations(final Class<?> type,
-                                                                                 final Class<T> annotationType) {
-        Field[] fields = type.getDeclaredFields();
-        if (null != fields) {
-            Collection<Field> result = new LinkedList<>();
-            for (Field field : fields) {
-                T annotation = field.getAnnotation(annotationType);
-                if (null != annotation) {
-                    result.add(field);
-                }
-            }
-            return result;
+            return new LinkedList<>(ReflectionClassMetadata.of(type).getAnnotatedFields(annotationType));
         }
         return null;
     }
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.backend.definition.adapter;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The fields of a class and of its super classes (but Object), looked up once per class, so that the reflection
+ * adapters don't walk the class hierarchy on each property access.
+ * The fields are in the hierarchy order: the fields declared by the class first, then the ones of its super classes.
+ * They are made accessible.
+ */
+public final class ReflectionClassMetadata {
+
+    private static final ClassValue<ReflectionClassMetadata> METADATA = new ClassValue<ReflectionClassMetadata>() {
+        @Override
+        protected ReflectionClassMetadata computeValue(final Class<?> type) {
+            return new ReflectionClassMetadata(type);
+        }
+    };
+
+    private final List<Field> fields;
+    private final Map<String, List<Field>> fieldsByName;
+    private final Map<Class<? extends Annotation>, AnnotatedFields> fieldsByAnnotation = new ConcurrentHashMap<>();
+
+    private ReflectionClassMetadata(final Class<?> type) {
+        final List<Field> fields = new ArrayList<>();
+        final Map<String, List<Field>> fieldsByName = new LinkedHashMap<>();
+        Class<?> c = type;
+        while (null != c && !(c.isAssignableFrom(Object.class))) {
+            for (Field field : c.getDeclaredFields()) {
+                setAccessible(field);
+                fields.add(field);
+                fieldsByName.computeIfAbsent(field.getName(),
+                                             name -> new ArrayList<>(1)).add(field);
+            }
+            c = c.getSuperclass();
+        }
+        this.fields = Collections.unmodifiableList(fields);
+        fieldsByName.replaceAll((name, list) -> Collections.unmodifiableList(list));
+        this.fieldsByName = fieldsByName;
+    }
+
+    public static ReflectionClassMetadata of(final Class<?> type) {
+        return METADATA.get(type);
+    }
+
+    public List<Field> getFields() {
+        return fields;
+    }
+
+    /**
+     * @return The first field with the given name, or null.
+     */
+    public Field getField(final String fieldName) {
+        final List<Field> result = fieldsByName.get(fieldName);
+        return null != result ? result.get(0) : null;
+    }
+
+    /**
+     * @return The fields with the given name, one per class that declares it.
+     */
+    public List<Field> getFields(final String fieldName) {
+        return fieldsByName.getOrDefault(fieldName,
+                                         Collections.emptyList());
+    }
+
+    /**
+     * @return The fields annotated with the given annotation.
+     */
+    public List<Field> getAnnotatedFields(final Class<? extends Annotation> annotationType) {
+        return getFieldsByAnnotation(annotationType).all;
+    }
+
+    /**
+     * @return The first field annotated with the given annotation of each class that declares one.
+     */
+    public List<Field> getFirstAnnotatedFields(final Class<? extends Annotation> annotationType) {
+        return getFieldsByAnnotation(annotationType).firstOfEachClass;
+    }
+
+    private AnnotatedFields getFieldsByAnnotation(final Class<? extends Annotation> annotationType) {
+        return fieldsByAnnotation.computeIfAbsent(annotationType,
+                                                  this::findAnnotatedFields);
+    }
+
+    private AnnotatedFields findAnnotatedFields(final Class<? extends Annotation> annotationType) {
+        final List<Field> all = new ArrayList<>();
+        final List<Field> firstOfEachClass = new ArrayList<>();
+        Class<?> declaringClass = null;
+        for (Field field : fields) {
+            if (null != field.getAnnotation(annotationType)) {
+                all.add(field);
+                if (field.getDeclaringClass() != declaringClass) {
+                    firstOfEachClass.add(field);
+                    declaringClass = field.getDeclaringClass();
+                }
+            }
+        }
+        return new AnnotatedFields(all,
+                                   firstOfEachClass);
+    }
+
+    private static void setAccessible(final Field field) {
+        try {
+            field.setAccessible(true);
+        } catch (RuntimeException e) {
+            // Left as is, accessing the field fails as if it was accessed directly.
+        }
+    }
+
+    private static class AnnotatedFields {
+
+        private final List<Field> all;
+        private final List<Field> firstOfEachClass;
+
+        private AnnotatedFields(final List<Field> all,
+                                final List<Field> firstOfEachClass) {
+            this.all = Collections.unmodifiableList(all);
+            this.firstOfEachClass = Collections.unmodifiableList(firstOfEachClass);
+        }
+    }
+}
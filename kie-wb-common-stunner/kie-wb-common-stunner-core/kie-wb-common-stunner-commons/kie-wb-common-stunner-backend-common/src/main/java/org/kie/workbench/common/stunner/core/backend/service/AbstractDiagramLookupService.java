@@ -26,21 +26,28 @@ import org.kie.workbench.common.stunner.core.lookup.diagram.DiagramLookupRequest
 import org.kie.workbench.common.stunner.core.lookup.diagram.DiagramRepresentation;
 import org.kie.workbench.common.stunner.core.service.BaseDiagramService;
 import org.kie.workbench.common.stunner.core.service.DiagramLookupService;
+import org.uberfire.backend.vfs.Path;
 
+/**
+ * Lists the diagrams from the representations built from their metadata, the diagrams are only unmarshalled once
+ * they are opened.
+ */
 public abstract class AbstractDiagramLookupService<M extends Metadata, D extends Diagram<Graph, M>>
-        extends AbstractLookupManager<D, DiagramRepresentation, DiagramLookupRequest>
+        extends AbstractLookupManager<DiagramRepresentation, DiagramRepresentation, DiagramLookupRequest>
         implements DiagramLookupManager,
                    DiagramLookupService {
 
-    public void initialize(final VFSLookupManager<D> vfsLookupManager) {
+    public void initialize(final VFSLookupManager<DiagramRepresentation> vfsLookupManager) {
         vfsLookupManager
                 .setPathAcceptor(getDiagramService()::accepts)
-                .setItemSupplier(getDiagramService()::getDiagramByPath);
+                .setItemSupplier(this::getDiagramRepresentationByPath);
     }
 
     protected abstract BaseDiagramService<M, D> getDiagramService();
 
-    protected DiagramRepresentation buildResult(final D item) {
-        return new DiagramRepresentation.DiagramRepresentationBuilder(item).build();
+    protected abstract DiagramRepresentation getDiagramRepresentationByPath(final Path path);
+
+    protected DiagramRepresentation buildResult(final DiagramRepresentation item) {
+        return item;
     }
 }
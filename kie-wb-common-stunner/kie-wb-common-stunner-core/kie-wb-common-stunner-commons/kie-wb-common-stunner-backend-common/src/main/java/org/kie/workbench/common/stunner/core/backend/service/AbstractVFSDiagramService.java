@@ -43,6 +43,7 @@ import org.kie.workbench.common.stunner.core.factory.diagram.DiagramFactory;
 import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.graph.content.definition.Definition;
 import org.kie.workbench.common.stunner.core.graph.content.definition.DefinitionSet;
+import org.kie.workbench.common.stunner.core.lookup.diagram.DiagramRepresentation;
 import org.kie.workbench.common.stunner.core.marshaller.MarshallingRequest;
 import org.kie.workbench.common.stunner.core.marshaller.MarshallingResponse;
 import org.kie.workbench.common.stunner.core.registry.BackendRegistryFactory;
@@ -134,7 +135,8 @@ public abstract class AbstractVFSDiagramService<M extends Metadata, D extends Di
     @Override
     public String getRawContent(D diagram) {
         try {
-            return serialize(diagram)[0];
+            // The metadata isn't part of the raw content, so it is not serialized.
+            return marshall(diagram);
         } catch (java.io.IOException e) {
             LOG.error("Error while getting raw content for diagram with UUID [" + diagram.getName() + "].",
                       e);
@@ -217,6 +219,50 @@ public abstract class AbstractVFSDiagramService<M extends Metadata, D extends Di
         throw new UnsupportedOperationException("Diagram format not supported [" + file + "]");
     }
 
+    /**
+     * Returns the metadata of the diagram (definition set, path, title and canvas root) without unmarshalling its
+     * graph, the marshaller only reads the header of the file.
+     * Use {@link #getDiagramByPath(Path)} to open the diagram.
+     */
+    @SuppressWarnings("unchecked")
+    public M getDiagramMetadataByPath(final org.uberfire.backend.vfs.Path file) {
+        if (accepts(file)) {
+            DefinitionSetService services = getServiceByPath(file);
+            if (null != services) {
+                final String defSetId = getDefinitionSetId(services);
+                final String name = parseFileName(file,
+                                                  services);
+
+                final M metadata = (M) buildMetadataInstance(file,
+                                                             defSetId,
+                                                             name);
+                metadata.setPath(file);
+                try (final InputStream is = getIoService().newInputStream(convertToNioPath(file))) {
+                    services.getDiagramMarshaller().readMetadata(metadata,
+                                                                 is);
+                } catch (Exception e) {
+                    LOG.error("Cannot read the metadata for diagram's path [" + file + "]", e);
+                    final String xml = getIoService().readAllString(convertToNioPath(file));
+                    throw new DiagramParsingException(metadata, xml);
+                }
+                return metadata;
+            }
+        }
+        throw new UnsupportedOperationException("Diagram format not supported [" + file + "]");
+    }
+
+    /**
+     * Returns the representation of the diagram listed by the lookup services, built from its metadata.
+     * See {@link #getDiagramMetadataByPath(Path)}.
+     */
+    public DiagramRepresentation getDiagramRepresentationByPath(final org.uberfire.backend.vfs.Path file) {
+        final M metadata = getDiagramMetadataByPath(file);
+        final String name = parseFileName(file,
+                                          getServiceByPath(file));
+        return new DiagramRepresentation.DiagramRepresentationBuilder(name,
+                                                                      metadata).build();
+    }
+
     protected String parseFileName(final org.uberfire.backend.vfs.Path file,
                                  final DefinitionSetService services) {
         final String n = file.getFileName();
@@ -302,18 +348,26 @@ public abstract class AbstractVFSDiagramService<M extends Metadata, D extends Di
         }
     }
 
-    @SuppressWarnings("unchecked")
     protected String[] serialize(final D diagram) throws java.io.IOException {
-        final String defSetId = diagram.getMetadata().getDefinitionSetId();
-        final DefinitionSetService services = getServiceById(defSetId);
-        // Serialize using the concrete marshalling service.
-        DiagramMarshaller<Graph, Metadata, Diagram<Graph, Metadata>> marshaller = services.getDiagramMarshaller();
-        final String rawData = marshaller.marshall((Diagram<Graph, Metadata>) diagram);
+        final String rawData = marshall(diagram);
         final Metadata metadata = diagram.getMetadata();
-        final String metadataRaw = marshaller.getMetadataMarshaller().marshall(metadata);
+        final String metadataRaw = getDiagramMarshaller(diagram).getMetadataMarshaller().marshall(metadata);
         return new String[]{rawData, metadataRaw};
     }
 
+    @SuppressWarnings("unchecked")
+    private String marshall(final D diagram) throws java.io.IOException {
+        // Serialize using the concrete marshalling service.
+        return getDiagramMarshaller(diagram).marshall((Diagram<Graph, Metadata>) diagram);
+    }
+
+    @SuppressWarnings("unchecked")
+    private DiagramMarshaller<Graph, Metadata, Diagram<Graph, Metadata>> getDiagramMarshaller(final D diagram) {
+        final String defSetId = diagram.getMetadata().getDefinitionSetId();
+        final DefinitionSetService services = getServiceById(defSetId);
+        return services.getDiagramMarshaller();
+    }
+
     public boolean contains(final D item) {
         return null != getDiagramByPath(item.getMetadata().getPath());
     }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.backend.definition.adapter;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import org.junit.Test;
+import org.kie.workbench.common.stunner.core.definition.annotation.definition.Category;
+import org.kie.workbench.common.stunner.core.definition.annotation.property.Value;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ReflectionClassMetadataTest {
+
+    @Test
+    public void testSameMetadataForTheSameClass() {
+        assertSame(ReflectionClassMetadata.of(FooTestBean.class),
+                   ReflectionClassMetadata.of(FooTestBean.class));
+    }
+
+    @Test
+    public void testFieldsOfTheHierarchy() {
+        final ReflectionClassMetadata metadata = ReflectionClassMetadata.of(FooTestBeanBaseParent.class);
+
+        assertEquals(1, metadata.getFields().size());
+        assertEquals(BaseFooTestBean2.class, metadata.getField("category").getDeclaringClass());
+        assertEquals(1, metadata.getAnnotatedFields(Category.class).size());
+        assertNull(metadata.getField("value"));
+        assertTrue(metadata.getFields("value").isEmpty());
+    }
+
+    @Test
+    public void testAnnotatedFields() throws Exception {
+        final List<Field> fields = ReflectionClassMetadata.of(FooProperty2TestBean.class).getAnnotatedFields(Value.class);
+
+        assertEquals(1, fields.size());
+        assertEquals("foo", fields.get(0).get(new FooProperty2TestBean("foo")));
+    }
+
+    @Test
+    public void testFieldValues() throws Exception {
+        final FooTestBean bean = new FooTestBean("value1",
+                                                 "value2");
+
+        assertEquals("value2", ReflectionAdapterUtils.getValue(bean, "fooProperty.value"));
+        assertEquals(FooTestBean.CATEGORY, ReflectionAdapterUtils.getAnnotatedFieldValue(bean, Category.class));
+        assertEquals(BaseFooTestBean2.category, ReflectionAdapterUtils.getAnnotatedFieldValue(new FooTestBeanBaseParent(), Category.class));
+        assertNull(ReflectionAdapterUtils.getAnnotatedFieldValue(new FooTestBeanBaseParent(), FooTestBeanBaseParent.class, Category.class));
+        assertNull(ReflectionAdapterUtils.getField(FooTestBeanBaseParent.class, "category"));
+        assertTrue(ReflectionAdapterUtils.getFields(FooTestBeanBaseParent.class).isEmpty());
+    }
+}
@@ -45,6 +45,7 @@ import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.content.definition.DefinitionSet;
+import org.kie.workbench.common.stunner.core.lookup.diagram.DiagramRepresentation;
 import org.kie.workbench.common.stunner.core.marshaller.MarshallingMessage;
 import org.kie.workbench.common.stunner.core.marshaller.MarshallingResponse;
 import org.kie.workbench.common.stunner.core.registry.BackendRegistryFactory;
@@ -70,9 +71,11 @@ import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyObject;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -108,6 +111,8 @@ public abstract class AbstractVFSDiagramServiceTest<M extends Metadata, D extend
 
     public static final String DIAGRAM_FILE_ID = "diagram-id";
 
+    public static final String DIAGRAM_TITLE = "Diagram title";
+
     @Mock
     protected DefinitionManager definitionManager;
 
@@ -287,10 +292,12 @@ public abstract class AbstractVFSDiagramServiceTest<M extends Metadata, D extend
     }
 
     @Test
-    public void testGetRawContent() {
+    public void testGetRawContent() throws IOException {
         String result = diagramService.getRawContent(diagram);
         assertEquals(DIAGRAM_MARSHALLED,
                      result);
+        verify(metadataMarshaller,
+               never()).marshall(any());
     }
 
     @Test
@@ -327,6 +334,51 @@ public abstract class AbstractVFSDiagramServiceTest<M extends Metadata, D extend
         }
     }
 
+    @Test
+    public void testGetDiagramMetadataByPath() throws IOException {
+        final Path path = mockGetDiagramMetadataByPathObjects();
+
+        final Metadata result = diagramService.getDiagramMetadataByPath(path);
+        assertEquals(DIAGRAM_TITLE,
+                     result.getTitle());
+        assertEquals(DIAGRAM_UUID,
+                     result.getCanvasRootUUID());
+        assertEquals(path,
+                     result.getPath());
+        verify(diagramMarshaller,
+               never()).unmarshallWithValidation(any());
+        verify(diagramMarshaller,
+               never()).unmarshall(any(),
+                                   any());
+    }
+
+    @Test
+    public void testGetDiagramRepresentationByPath() throws IOException {
+        final Path path = mockGetDiagramMetadataByPathObjects();
+
+        final DiagramRepresentation result = diagramService.getDiagramRepresentationByPath(path);
+        assertEquals(FILE_NAME,
+                     result.getName());
+        assertEquals(DIAGRAM_TITLE,
+                     result.getTitle());
+        assertEquals(path,
+                     result.getPath());
+        verify(diagramService,
+               never()).getDiagramByPath(any());
+    }
+
+    protected Path mockGetDiagramMetadataByPathObjects() throws IOException {
+        final Path path = mockGetDiagramByPathObjects();
+        doAnswer(invocation -> {
+            final Metadata metadata = invocation.getArgument(0);
+            metadata.setTitle(DIAGRAM_TITLE);
+            metadata.setCanvasRootUUID(DIAGRAM_UUID);
+            return null;
+        }).when(diagramMarshaller).readMetadata(any(),
+                                                any());
+        return path;
+    }
+
     protected Path mockGetDiagramByPathObjects() {
         final Path path = mock(Path.class);
         final String fileName = FILE_NAME + "." + RESOURCE_TYPE_SUFFIX;
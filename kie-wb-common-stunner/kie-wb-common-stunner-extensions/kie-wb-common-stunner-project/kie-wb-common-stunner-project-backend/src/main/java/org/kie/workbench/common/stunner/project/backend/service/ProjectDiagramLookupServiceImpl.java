@@ -26,11 +26,12 @@ import org.jboss.errai.bus.server.annotations.Service;
 import org.kie.workbench.common.stunner.core.backend.lookup.impl.VFSLookupManager;
 import org.kie.workbench.common.stunner.core.backend.service.AbstractDiagramLookupService;
 import org.kie.workbench.common.stunner.core.lookup.diagram.DiagramLookupRequest;
+import org.kie.workbench.common.stunner.core.lookup.diagram.DiagramRepresentation;
 import org.kie.workbench.common.stunner.core.service.BaseDiagramService;
 import org.kie.workbench.common.stunner.project.diagram.ProjectDiagram;
 import org.kie.workbench.common.stunner.project.diagram.ProjectMetadata;
 import org.kie.workbench.common.stunner.project.service.ProjectDiagramLookupService;
-import org.kie.workbench.common.stunner.project.service.ProjectDiagramService;
+import org.uberfire.backend.vfs.Path;
 
 @ApplicationScoped
 @Service
@@ -38,8 +39,8 @@ public class ProjectDiagramLookupServiceImpl
         extends AbstractDiagramLookupService<ProjectMetadata, ProjectDiagram>
         implements ProjectDiagramLookupService {
 
-    private final VFSLookupManager<ProjectDiagram> vfsLookupManager;
-    private final ProjectDiagramService diagramService;
+    private final VFSLookupManager<DiagramRepresentation> vfsLookupManager;
+    private final ProjectDiagramServiceImpl diagramService;
 
     protected ProjectDiagramLookupServiceImpl() {
         this(null,
@@ -47,8 +48,8 @@ public class ProjectDiagramLookupServiceImpl
     }
 
     @Inject
-    public ProjectDiagramLookupServiceImpl(final VFSLookupManager<ProjectDiagram> vfsLookupManager,
-                                           final ProjectDiagramService diagramService) {
+    public ProjectDiagramLookupServiceImpl(final VFSLookupManager<DiagramRepresentation> vfsLookupManager,
+                                           final ProjectDiagramServiceImpl diagramService) {
         this.vfsLookupManager = vfsLookupManager;
         this.diagramService = diagramService;
     }
@@ -63,15 +64,20 @@ public class ProjectDiagramLookupServiceImpl
         return diagramService;
     }
 
+    @Override
+    protected DiagramRepresentation getDiagramRepresentationByPath(final Path path) {
+        return diagramService.getDiagramRepresentationByPath(path);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
-    protected List<ProjectDiagram> getItems(final DiagramLookupRequest request) {
+    protected List<DiagramRepresentation> getItems(final DiagramLookupRequest request) {
         return vfsLookupManager.getItemsByPath(request.getPath());
     }
 
     @Override
     protected boolean matches(final String criteria,
-                              final ProjectDiagram item) {
+                              final DiagramRepresentation item) {
         return true;
     }
 }
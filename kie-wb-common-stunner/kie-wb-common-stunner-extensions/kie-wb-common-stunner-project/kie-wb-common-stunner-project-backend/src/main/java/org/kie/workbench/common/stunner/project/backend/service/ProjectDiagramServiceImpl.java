@@ -37,6 +37,7 @@ import org.kie.workbench.common.services.shared.project.KieModuleService;
 import org.kie.workbench.common.stunner.core.api.DefinitionManager;
 import org.kie.workbench.common.stunner.core.api.FactoryManager;
 import org.kie.workbench.common.stunner.core.definition.service.DefinitionSetService;
+import org.kie.workbench.common.stunner.core.lookup.diagram.DiagramRepresentation;
 import org.kie.workbench.common.stunner.core.registry.BackendRegistryFactory;
 import org.kie.workbench.common.stunner.core.util.XMLDisplayerData;
 import org.kie.workbench.common.stunner.project.diagram.ProjectDiagram;
@@ -117,6 +118,10 @@ public class ProjectDiagramServiceImpl extends KieService<ProjectDiagram>
         return controller.accepts(path);
     }
 
+    public DiagramRepresentation getDiagramRepresentationByPath(final Path path) {
+        return controller.getDiagramRepresentationByPath(path);
+    }
+
     @Override
     public Path create(final Path path,
                        final String name,
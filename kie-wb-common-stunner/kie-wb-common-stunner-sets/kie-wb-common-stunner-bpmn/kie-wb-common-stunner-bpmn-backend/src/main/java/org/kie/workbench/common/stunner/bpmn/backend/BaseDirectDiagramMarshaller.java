@@ -15,15 +15,18 @@
  */
 package org.kie.workbench.common.stunner.bpmn.backend;
 
-import java.io.BufferedInputStream;
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
 import bpsim.impl.BpsimFactoryImpl;
 import bpsim.impl.BpsimPackageImpl;
 import org.eclipse.bpmn2.Bpmn2Package;
@@ -81,6 +84,11 @@ import org.slf4j.LoggerFactory;
 public abstract class BaseDirectDiagramMarshaller implements DiagramMarshaller<Graph, Metadata, Diagram<Graph, Metadata>> {
 
     private static final Logger LOG = LoggerFactory.getLogger(BaseDirectDiagramMarshaller.class);
+    private static final String DEFINITIONS_ELEMENT = "definitions";
+    private static final String PROCESS_ELEMENT = "process";
+    private static final String ID_ATTRIBUTE = "id";
+    private static final String NAME_ATTRIBUTE = "name";
+    private static final XMLInputFactory XML_INPUT_FACTORY = newXMLInputFactory();
 
     private final XMLEncoderDiagramMetadataMarshaller diagramMetadataMarshaller;
     private final DefinitionManager definitionManager;
@@ -112,6 +120,32 @@ public abstract class BaseDirectDiagramMarshaller implements DiagramMarshaller<G
     @Override
     @SuppressWarnings("unchecked")
     public String marshall(final Diagram<Graph, Metadata> diagram) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            marshall(diagram, outputStream);
+        } finally {
+            outputStream.close();
+        }
+        String outputString = outputStream.toString("UTF-8");
+        LOG.trace(outputString);
+        return outputString;
+    }
+
+    /**
+     * Renders the BPMN2 XML of the diagram to the output stream, in UTF-8. The stream is not closed.
+     */
+    public void marshall(final Diagram<Graph, Metadata> diagram,
+                         final OutputStream outputStream) throws IOException {
+        Definitions definitions = marshallToBpmn2Definitions(diagram);
+        definitions.eResource().save(outputStream, new HashMap<>());
+    }
+
+    /**
+     * Converts the diagram to the BPMN2 model, without rendering it to XML.
+     * The {@link Definitions} are contained in a {@link Bpmn2Resource}.
+     */
+    @SuppressWarnings("unchecked")
+    public Definitions marshallToBpmn2Definitions(final Diagram<Graph, Metadata> diagram) throws IOException {
         LOG.debug("Starting diagram marshalling...");
 
         Bpmn2Resource resource = createBpmn2Resource();
@@ -128,26 +162,7 @@ public abstract class BaseDirectDiagramMarshaller implements DiagramMarshaller<G
         resource.getContents().add(definitions);
 
         LOG.debug("Diagram marshalling completed successfully.");
-        String outputString = renderToString(resource);
-        LOG.trace(outputString);
-        return outputString;
-    }
-
-    public Definitions marshallToBpmn2Definitions(final Diagram<Graph, Metadata> diagram) throws IOException {
-        String marshalled = marshall(diagram);
-        try (InputStream inputStream = new BufferedInputStream(new ByteArrayInputStream(marshalled.getBytes(StandardCharsets.UTF_8)))) {
-            return parseDefinitions(inputStream).getDefinitions();
-        }
-    }
-
-    private String renderToString(Bpmn2Resource resource) throws IOException {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        try {
-            resource.save(outputStream, new HashMap<>());
-        } finally {
-            outputStream.close();
-        }
-        return outputStream.toString("UTF-8");
+        return definitions;
     }
 
     @Override
@@ -190,8 +205,8 @@ public abstract class BaseDirectDiagramMarshaller implements DiagramMarshaller<G
 
             // the root node contains all of the information
             // needed to build the entire graph (including parent/child relationships)
-            // thus, we can now walk the graph to issue all the commands
-            // to draw it on our canvas
+            // thus, we can now walk the graph to load it directly:
+            // the conversions are trusted, no command nor rule evaluation is needed
             Diagram<Graph<DefinitionSet, Node>, Metadata> diagram =
                     typedFactoryManager.newDiagram(
                             definitionResolver.getDefinitions().getId(),
@@ -206,7 +221,7 @@ public abstract class BaseDirectDiagramMarshaller implements DiagramMarshaller<G
                             ruleManager,
                             commandFactory,
                             commandManager);
-            graphBuilder.render(diagramRoot);
+            graphBuilder.load(diagramRoot);
 
             LOG.debug("Diagram drawing completed successfully for:" + request);
             return MarshallingResponse.builder()
@@ -229,6 +244,49 @@ public abstract class BaseDirectDiagramMarshaller implements DiagramMarshaller<G
         }
     }
 
+    /**
+     * Reads the canvas root (the id of the definitions) and the title (the name of the process), the same values
+     * {@link #unmarshallWithValidation(MarshallingRequest)} sets, with a streaming parser that stops at the process
+     * element. Neither the BPMN2 model nor the graph are built.
+     */
+    @Override
+    public void readMetadata(final Metadata metadata,
+                             final InputStream inputStream) throws IOException {
+        try {
+            final XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT
+                            && Bpmn2Package.eNS_URI.equals(reader.getNamespaceURI())) {
+                        if (DEFINITIONS_ELEMENT.equals(reader.getLocalName())) {
+                            metadata.setCanvasRootUUID(reader.getAttributeValue(null,
+                                                                                ID_ATTRIBUTE));
+                        } else if (PROCESS_ELEMENT.equals(reader.getLocalName())) {
+                            metadata.setTitle(reader.getAttributeValue(null,
+                                                                       NAME_ATTRIBUTE));
+                            return;
+                        }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Error reading the diagram metadata.", e);
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    private static XMLInputFactory newXMLInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD,
+                            false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES,
+                            false);
+        return factory;
+    }
+
     private Bpmn2Resource createBpmn2Resource() {
         DroolsFactoryImpl.init();
         BpsimFactoryImpl.init();
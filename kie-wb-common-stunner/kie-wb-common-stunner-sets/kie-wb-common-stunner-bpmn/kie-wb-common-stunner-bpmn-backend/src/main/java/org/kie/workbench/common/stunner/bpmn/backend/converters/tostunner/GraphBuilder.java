@@ -22,6 +22,7 @@ import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.kie.workbench.common.stunner.bpmn.backend.converters.TypedFactoryManager;
 import org.kie.workbench.common.stunner.bpmn.backend.converters.VoidMatch;
@@ -42,13 +43,21 @@ import org.kie.workbench.common.stunner.core.graph.command.impl.GraphCommandFact
 import org.kie.workbench.common.stunner.core.graph.command.impl.UpdateElementPositionCommand;
 import org.kie.workbench.common.stunner.core.graph.content.Bounds;
 import org.kie.workbench.common.stunner.core.graph.content.definition.DefinitionSet;
+import org.kie.workbench.common.stunner.core.graph.content.relationship.Child;
+import org.kie.workbench.common.stunner.core.graph.content.relationship.Dock;
 import org.kie.workbench.common.stunner.core.graph.content.view.Connection;
 import org.kie.workbench.common.stunner.core.graph.content.view.ControlPoint;
 import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewConnector;
+import org.kie.workbench.common.stunner.core.graph.impl.EdgeImpl;
 import org.kie.workbench.common.stunner.core.graph.processing.index.map.MapIndexBuilder;
+import org.kie.workbench.common.stunner.core.graph.processing.traverse.tree.TreeWalkTraverseProcessorImpl;
+import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 import org.kie.workbench.common.stunner.core.rule.RuleManager;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
+import org.kie.workbench.common.stunner.core.util.UUID;
+import org.kie.workbench.common.stunner.core.validation.impl.GraphValidatorImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -72,6 +81,11 @@ import org.slf4j.LoggerFactory;
  * once all the conversions have took place: it traverses the entire directed graph described by the `BPMNNode`s
  * starting from the "root node", which represents the root of the diagram, and visiting
  * the parent/child relations in each BPMNNode and the `BPMNEdge` they may contain.
+ * <p>
+ * The same walk can load the graph directly {@link GraphBuilder#loadGraph(BpmnNode)}:
+ * the nodes and edges are linked without issuing any command, so neither the rules
+ * nor the graph index are involved. The rules can then be checked in a single pass
+ * over the loaded graph {@link GraphBuilder#validate(Consumer)}.
  */
 public class GraphBuilder {
 
@@ -81,6 +95,8 @@ public class GraphBuilder {
     private final GraphCommandFactory commandFactory;
     private final GraphCommandManager commandManager;
     private final Graph<DefinitionSet, Node> graph;
+    private final DefinitionManager definitionManager;
+    private final RuleManager ruleManager;
 
     public GraphBuilder(
             Graph<DefinitionSet, Node> graph,
@@ -96,6 +112,8 @@ public class GraphBuilder {
                 new MapIndexBuilder().build(graph));
         this.commandFactory = commandFactory;
         this.commandManager = commandManager;
+        this.definitionManager = definitionManager;
+        this.ruleManager = ruleManager;
     }
 
     /**
@@ -107,14 +125,62 @@ public class GraphBuilder {
         buildGraph(root);
     }
 
+    /**
+     * Clears the graph and then walks the graph root
+     * to load it directly into the graph
+     */
+    public void load(BpmnNode root) {
+        graph.clear();
+        loadGraph(root);
+    }
+
     /**
      * Starting from the given root node,
      * it walks the graph breadth-first and issues
      * all the required commands to draw it on the canvas
      */
     public void buildGraph(BpmnNode rootNode) {
-        this.addNode(rootNode.value());
-        rootNode.getEdges().forEach(this::addEdge);
+        walk(rootNode,
+             this::addNode,
+             this::addChildNode,
+             this::addEdge);
+    }
+
+    /**
+     * Starting from the given root node,
+     * it walks the graph breadth-first, as {@link #buildGraph(BpmnNode)} does,
+     * but it links the nodes and edges directly into the graph.
+     * <p>
+     * No command is executed: the rules are not evaluated and
+     * the graph index used by the commands is not updated,
+     * so it is meant for trusted input, such as the result of the conversions.
+     * Use {@link #validate(Consumer)} to check the rules afterwards.
+     */
+    public void loadGraph(BpmnNode rootNode) {
+        walk(rootNode,
+             graph::addNode,
+             this::loadChildNode,
+             this::loadEdge);
+    }
+
+    /**
+     * Evaluates the rules of the definition set against the whole graph,
+     * e.g. once it has been loaded by {@link #loadGraph(BpmnNode)}
+     */
+    public void validate(Consumer<Collection<RuleViolation>> callback) {
+        new GraphValidatorImpl(definitionManager,
+                               ruleManager,
+                               new TreeWalkTraverseProcessorImpl())
+                .validate(graph,
+                          callback);
+    }
+
+    private void walk(BpmnNode rootNode,
+                      Consumer<Node> rootConsumer,
+                      Consumer<BpmnNode> childConsumer,
+                      Consumer<BpmnEdge> edgeConsumer) {
+        rootConsumer.accept(rootNode.value());
+        rootNode.getEdges().forEach(edgeConsumer);
         List<BpmnNode> nodes = rootNode.getChildren();
 
         Deque<BpmnNode> workingSet =
@@ -135,8 +201,8 @@ public class GraphBuilder {
                          current.getParent().value().getUUID(),
                          current.value().getUUID());
 
-            this.addChildNode(current);
-            current.getEdges().forEach(this::addEdge);
+            childConsumer.accept(current);
+            current.getEdges().forEach(edgeConsumer);
         }
     }
 
@@ -200,12 +266,15 @@ public class GraphBuilder {
         logger.debug("Translating {} from {} with (deltaX,deltaY) ({},{})",
                      node.getUUID(), node.getContent().getBounds(), deltaX, deltaX);
 
+        updatePosition(node, translated(node, deltaX, deltaY));
+    }
+
+    private Point2D translated(Node<? extends View, ?> node, double deltaX, double deltaY) {
         Bounds childBounds = node.getContent().getBounds();
         double constrainedX = childBounds.getUpperLeft().getX() - deltaX;
         double constrainedY = childBounds.getUpperLeft().getY() - deltaY;
 
-        Point2D coords = Point2D.create(constrainedX, constrainedY);
-        updatePosition(node, coords);
+        return Point2D.create(constrainedX, constrainedY);
     }
 
     private void updatePosition(Node node, Point2D position) {
@@ -283,4 +352,92 @@ public class GraphBuilder {
                                       e.getTarget().value())
                 ).apply(edge);
     }
+
+    @SuppressWarnings("unchecked")
+    private void loadChildNode(BpmnNode current) {
+        Node parent = current.getParent().value();
+        Node<? extends View<?>, ?> child = current.value();
+        graph.addNode(child);
+        link(new Child(), parent, child);
+        if (!current.isDocked()) {
+            Point2D translationFactors = calculateTranslationFactors(current);
+            Point2D location = translated(child, translationFactors.getX(), translationFactors.getY());
+            child.getContent().setBounds(
+                    UpdateElementPositionCommand.computeCandidateBounds(child, location));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadDockedNode(Node parent, Node candidate) {
+        // as for the AddDockedNodeCommand, a node with incoming connections is not docked
+        if (GraphUtils.hasTargetConnections(candidate)) {
+            logger.warn("Node {} cannot be docked into {}, it has incoming connections",
+                        candidate.getUUID(), parent.getUUID());
+            graph.removeNode(candidate.getUUID());
+            return;
+        }
+        graph.addNode(candidate);
+        link(new Dock(), parent, candidate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void link(Object content, Node source, Node target) {
+        Edge edge = new EdgeImpl<>(UUID.uuid());
+        edge.setContent(content);
+        edge.setSourceNode(source);
+        edge.setTargetNode(target);
+        source.getOutEdges().add(edge);
+        target.getInEdges().add(edge);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadEdge(
+            Edge<? extends View<?>, Node> edge,
+            Node source,
+            Connection sourceConnection,
+            List<Point2D> controlPoints,
+            Node target,
+            Connection targetConnection) {
+        ViewConnector content = (ViewConnector) edge.getContent();
+        Node lastSource = edge.getSourceNode();
+        if (null != lastSource) {
+            lastSource.getOutEdges().remove(edge);
+        }
+        source.getOutEdges().add(edge);
+        edge.setSourceNode(source);
+        content.setSourceConnection(sourceConnection);
+
+        // as for the AddControlPointCommands, the points are added before the existing ones
+        ControlPoint[] existing = null != content.getControlPoints() ? content.getControlPoints() : new ControlPoint[0];
+        ControlPoint[] cps = new ControlPoint[controlPoints.size() + existing.length];
+        for (int i = 0; i < controlPoints.size(); i++) {
+            cps[i] = ControlPoint.build(controlPoints.get(i));
+        }
+        System.arraycopy(existing, 0, cps, controlPoints.size(), existing.length);
+        content.setControlPoints(cps);
+
+        Node lastTarget = edge.getTargetNode();
+        if (null != lastTarget) {
+            lastTarget.getInEdges().remove(edge);
+        }
+        target.getInEdges().add(edge);
+        edge.setTargetNode(target);
+        content.setTargetConnection(targetConnection);
+    }
+
+    private void loadEdge(BpmnEdge edge) {
+        VoidMatch.of(BpmnEdge.class)
+                .when(BpmnEdge.Simple.class, e ->
+                        loadEdge(e.getEdge(),
+                                 e.getSource().value(),
+                                 e.getSourceConnection(),
+                                 e.getControlPoints(),
+                                 e.getTarget().value(),
+                                 e.getTargetConnection())
+                )
+                .when(BpmnEdge.Docked.class, e ->
+                        loadDockedNode(e.getSource().value(),
+                                       e.getTarget().value())
+                ).apply(edge);
+    }
 }
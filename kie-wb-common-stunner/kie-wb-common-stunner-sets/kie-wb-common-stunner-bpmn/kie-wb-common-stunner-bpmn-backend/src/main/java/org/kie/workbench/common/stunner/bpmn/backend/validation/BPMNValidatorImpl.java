@@ -21,7 +21,9 @@ import java.io.StringReader;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -55,13 +57,32 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xml.sax.SAXException;
 
+import static org.kie.workbench.common.services.backend.util.CacheUtils.sha256;
+import static org.kie.workbench.common.services.backend.util.CacheUtils.validatePositiveNumber;
+
 @ApplicationScoped
 public class BPMNValidatorImpl implements BPMNValidator {
 
     private static final Logger LOG = LoggerFactory.getLogger(BPMNValidatorImpl.class);
+
+    protected static final String CACHE_SIZE = "org.kie.stunner.bpmn.validation.cache.size";
+    protected static final String DEFAULT_CACHE_SIZE = "100";
+    protected static final int MAX_ENTRIES = Integer.parseInt(validateCacheSize(System.getProperty(CACHE_SIZE,
+                                                                                                 DEFAULT_CACHE_SIZE)));
+
     private final DiagramService diagramService;
     private SemanticModules modules;
 
+    // The violations of the processes already validated, keyed by the hash of the process.
+    private final Map<String, Collection<BPMNViolation>> violations = new LinkedHashMap<String, Collection<BPMNViolation>>(16,
+                                                                                                                           0.75f,
+                                                                                                                           true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Collection<BPMNViolation>> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
     BPMNValidatorImpl() {
         this(null);
     }
@@ -89,30 +110,25 @@ public class BPMNValidatorImpl implements BPMNValidator {
         resultConsumer.accept(Collections.emptyList());
     }
 
+    /**
+     * Validates the process. An unchanged process isn't parsed and validated again: the violations found are kept,
+     * for at most {@value #DEFAULT_CACHE_SIZE} processes (property {@value #CACHE_SIZE}).
+     */
     protected Collection<BPMNViolation> validate(String serializedProcess, String processUUID) {
         try {
-            List<Process> processes = parseProcess(serializedProcess);
-            if (Objects.isNull(processes) || processes.size() == 0) {
-                return Collections.emptyList();
+            final String hash = sha256(serializedProcess);
+            synchronized (violations) {
+                final Collection<BPMNViolation> cached = violations.get(hash);
+                if (Objects.nonNull(cached)) {
+                    return cached;
+                }
             }
 
-            return processes.stream()
-                    .map(process -> RuleFlowProcessValidator.getInstance().validateProcess(process))
-                    .flatMap(processValidationErrors -> Stream.of(processValidationErrors))
-                    .filter(Objects::nonNull)
-                    .map(error -> Optional.of(error)
-                            .filter(ProcessNodeValidationErrorImpl.class::isInstance)
-                            .map(ProcessNodeValidationErrorImpl.class::cast)
-                            .map(ProcessNodeValidationErrorImpl::getNode)
-                            .map(Node::getMetaData)
-                            .map(m -> m.get("UniqueId"))
-                            .map(String::valueOf)
-                            .filter(StringUtils::nonEmpty)
-                            .map(uuid -> new BPMNViolation(((ProcessNodeValidationErrorImpl) error).getRawMessage(),
-                                                           Violation.Type.WARNING, uuid))
-                            .orElseGet(() -> new BPMNViolation(error.getMessage(), Violation.Type.WARNING,
-                                                               error.getProcess().getId())))
-                    .collect(Collectors.toSet());
+            final Collection<BPMNViolation> result = validateProcesses(parseProcess(serializedProcess));
+            synchronized (violations) {
+                violations.put(hash, result);
+            }
+            return result;
         } catch (SAXException | IOException e) {
             LOG.error("Error parsing process", e);
             return getBpmnViolationsFromException(() -> e.getMessage(), processUUID);
@@ -122,6 +138,30 @@ public class BPMNValidatorImpl implements BPMNValidator {
         }
     }
 
+    private Collection<BPMNViolation> validateProcesses(List<Process> processes) {
+        if (Objects.isNull(processes) || processes.size() == 0) {
+            return Collections.emptyList();
+        }
+
+        return Collections.unmodifiableSet(processes.stream()
+                .map(process -> RuleFlowProcessValidator.getInstance().validateProcess(process))
+                .flatMap(processValidationErrors -> Stream.of(processValidationErrors))
+                .filter(Objects::nonNull)
+                .map(error -> Optional.of(error)
+                        .filter(ProcessNodeValidationErrorImpl.class::isInstance)
+                        .map(ProcessNodeValidationErrorImpl.class::cast)
+                        .map(ProcessNodeValidationErrorImpl::getNode)
+                        .map(Node::getMetaData)
+                        .map(m -> m.get("UniqueId"))
+                        .map(String::valueOf)
+                        .filter(StringUtils::nonEmpty)
+                        .map(uuid -> new BPMNViolation(((ProcessNodeValidationErrorImpl) error).getRawMessage(),
+                                                       Violation.Type.WARNING, uuid))
+                        .orElseGet(() -> new BPMNViolation(error.getMessage(), Violation.Type.WARNING,
+                                                           error.getProcess().getId())))
+                .collect(Collectors.toSet()));
+    }
+
     private List<BPMNViolation> getBpmnViolationsFromException(Supplier<String> message, String uuid) {
         return Arrays.asList(new BPMNViolation(message.get(), Violation.Type.WARNING, uuid));
     }
@@ -130,6 +170,12 @@ public class BPMNValidatorImpl implements BPMNValidator {
         return new XmlProcessReader(modules, getClass().getClassLoader()).read(new StringReader(serializedProcess));
     }
 
+    protected static String validateCacheSize(final String value) {
+        return validatePositiveNumber(CACHE_SIZE,
+                                      value,
+                                      DEFAULT_CACHE_SIZE);
+    }
+
     @Override
     public String getDefinitionSetId() {
         return BindableAdapterUtils.getDefinitionSetId(BPMNDefinitionSet.class);
@@ -17,6 +17,8 @@
 package org.kie.workbench.common.stunner.bpmn.backend.workitem;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -35,6 +37,8 @@ import org.uberfire.backend.vfs.Path;
 import org.uberfire.io.IOService;
 import org.uberfire.java.nio.file.Files;
 
+import static org.kie.workbench.common.services.backend.util.CacheUtils.sha256;
+import static org.kie.workbench.common.services.backend.util.CacheUtils.validatePositiveNumber;
 import static org.uberfire.backend.server.util.Paths.convert;
 
 @ApplicationScoped
@@ -46,8 +50,23 @@ public class WorkItemDefinitionResources {
     public static final String PATH_GLOBAL = "global/";
     public static final String PATH_RESOURCES = "src/main/resources";
 
+    protected static final String ICONS_CACHE_SIZE = "org.kie.stunner.workitem.icons.cache.size";
+    protected static final String DEFAULT_ICONS_CACHE_SIZE = "200";
+    protected static final int MAX_ICONS = Integer.parseInt(validateCacheSize(System.getProperty(ICONS_CACHE_SIZE,
+                                                                                               DEFAULT_ICONS_CACHE_SIZE)));
+
     private final IOService ioService;
 
+    // The icon data URIs, keyed by the extension and the hash of the icon content.
+    private final Map<String, String> iconDataURIs = new LinkedHashMap<String, String>(16,
+                                                                                       0.75f,
+                                                                                       true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, String> eldest) {
+            return size() > MAX_ICONS;
+        }
+    };
+
     // CDI proxy.
     protected WorkItemDefinitionResources() {
         this(null);
@@ -101,16 +120,43 @@ public class WorkItemDefinitionResources {
                 .orElse(null);
     }
 
+    /**
+     * The data URI of the icon. The same icon content, used by several work item definitions or projects, is
+     * encoded once: at most {@value #DEFAULT_ICONS_CACHE_SIZE} icons are kept (property {@value #ICONS_CACHE_SIZE}).
+     */
     private String generateDataURI(final Path iconPath) {
         try {
-            return URLUtils.buildDataURIFromStream(iconPath.getFileName(),
-                                                   ioService.newInputStream(convert(iconPath)));
+            final String key = getExtension(iconPath.getFileName()) + ":" + sha256(ioService.readAllBytes(convert(iconPath)));
+            synchronized (iconDataURIs) {
+                final String cached = iconDataURIs.get(key);
+                if (null != cached) {
+                    return cached;
+                }
+            }
+            final String dataURI = URLUtils.buildDataURIFromStream(iconPath.getFileName(),
+                                                                   ioService.newInputStream(convert(iconPath)));
+            synchronized (iconDataURIs) {
+                iconDataURIs.put(key,
+                                 dataURI);
+            }
+            return dataURI;
         } catch (Exception e) {
             LOG.error("Error generating icon data uri for path [" + iconPath + "]", e);
             return null;
         }
     }
 
+    private static String getExtension(final String fileName) {
+        final int index = fileName.lastIndexOf('.');
+        return index >= 0 ? fileName.substring(index + 1) : "";
+    }
+
+    protected static String validateCacheSize(final String value) {
+        return validatePositiveNumber(ICONS_CACHE_SIZE,
+                                      value,
+                                      DEFAULT_ICONS_CACHE_SIZE);
+    }
+
     public org.uberfire.java.nio.file.Path resolveResourcePath(final Metadata metadata) {
         return ioService.get(metadata.getPath().toURI());
     }
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.bpmn.backend.workitem.service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.kie.workbench.common.stunner.bpmn.workitem.WorkItemDefinition;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceBatchChangesEvent;
+import org.uberfire.workbench.events.ResourceChange;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceRenamed;
+import org.uberfire.workbench.events.ResourceRenamedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+/**
+ * Cache of the work item definitions read by the {@link WorkItemDefinitionVFSLookupService}:
+ * - the work item definition files of each folder
+ * - the definitions parsed from each file for each project root they were read from, as the icons are resolved for
+ *   that root. A global file read from several projects keeps an entry per project.
+ * The entries are removed by the resource change events: a change in a folder drops its list of files, a change of a
+ * work item definition file or of one of its icons drops its definitions.
+ */
+@ApplicationScoped
+public class WorkItemDefinitionVFSCache {
+
+    private final Map<String, List<Path>> folders = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Definitions>> definitions = new ConcurrentHashMap<>();
+
+    public Optional<List<Path>> getFiles(final Path folder) {
+        final String key = folderKey(folder);
+        return key == null ? Optional.empty() : Optional.ofNullable(folders.get(key));
+    }
+
+    /**
+     * Keeps the work item definition files of the folder. Empty folders aren't kept, as the definitions may be
+     * deployed into them right after the look-up.
+     */
+    public void putFiles(final Path folder,
+                         final List<Path> files) {
+        final String key = folderKey(folder);
+        if (key != null && !files.isEmpty()) {
+            folders.put(key,
+                        Collections.unmodifiableList(files));
+        }
+    }
+
+    public Optional<Collection<WorkItemDefinition>> getDefinitions(final Path file,
+                                                                   final Path root) {
+        final String key = key(file);
+        final String rootKey = key(root);
+        if (key == null || rootKey == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(definitions.get(key))
+                .map(roots -> roots.get(rootKey))
+                .map(cached -> cached.items);
+    }
+
+    /**
+     * Keeps the definitions parsed from the file.
+     * @param icons The names of the icon files read to build the definitions.
+     */
+    public void putDefinitions(final Path file,
+                               final Path root,
+                               final Collection<WorkItemDefinition> items,
+                               final Set<String> icons) {
+        final String key = key(file);
+        final String rootKey = key(root);
+        if (key != null && rootKey != null) {
+            definitions.computeIfAbsent(key,
+                                        k -> new ConcurrentHashMap<>())
+                    .put(rootKey,
+                         new Definitions(items,
+                                         icons));
+        }
+    }
+
+    public void invalidate(final Path path) {
+        final String folder = folderKey(path);
+        if (folder != null) {
+            // a folder removes the entries inside it
+            final String parent = folder.substring(0, Math.max(0, folder.lastIndexOf('/')));
+            final String fileName = folder.substring(folder.lastIndexOf('/') + 1);
+            folders.keySet().removeIf(uri -> uri.equals(parent) || isInside(uri, folder));
+            definitions.entrySet().removeIf(entry -> isInside(entry.getKey(), folder));
+            definitions.values().forEach(roots -> roots.values().removeIf(cached -> cached.icons.contains(fileName)));
+        }
+    }
+
+    public void invalidateAll() {
+        folders.clear();
+        definitions.clear();
+    }
+
+    public void onResourceAdded(@Observes final ResourceAddedEvent event) {
+        invalidate(event.getPath());
+    }
+
+    public void onResourceUpdated(@Observes final ResourceUpdatedEvent event) {
+        invalidate(event.getPath());
+    }
+
+    public void onResourceDeleted(@Observes final ResourceDeletedEvent event) {
+        invalidate(event.getPath());
+    }
+
+    public void onResourceRenamed(@Observes final ResourceRenamedEvent event) {
+        invalidate(event.getPath());
+        invalidate(event.getDestinationPath());
+    }
+
+    public void onBatchResourceChanges(@Observes final ResourceBatchChangesEvent event) {
+        for (final Map.Entry<Path, Collection<ResourceChange>> entry : event.getBatch().entrySet()) {
+            invalidate(entry.getKey());
+            for (final ResourceChange change : entry.getValue()) {
+                if (change instanceof ResourceRenamed) {
+                    invalidate(((ResourceRenamed) change).getDestinationPath());
+                }
+            }
+        }
+    }
+
+    int size() {
+        return folders.size() + definitions.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private static boolean isInside(final String uri,
+                                    final String folder) {
+        return uri.equals(folder) || uri.startsWith(folder + "/");
+    }
+
+    private static String key(final Path path) {
+        return path == null ? null : path.toURI();
+    }
+
+    private static String folderKey(final Path path) {
+        final String key = key(path);
+        return key != null && key.endsWith("/") ? key.substring(0, key.length() - 1) : key;
+    }
+
+    private static class Definitions {
+
+        private final Collection<WorkItemDefinition> items;
+        private final Set<String> icons;
+
+        private Definitions(final Collection<WorkItemDefinition> items,
+                            final Set<String> icons) {
+            this.items = Collections.unmodifiableCollection(items);
+            this.icons = icons;
+        }
+    }
+}
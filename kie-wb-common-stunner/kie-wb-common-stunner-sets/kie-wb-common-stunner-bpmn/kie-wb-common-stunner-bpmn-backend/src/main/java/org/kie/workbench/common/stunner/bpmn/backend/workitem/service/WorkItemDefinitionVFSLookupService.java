@@ -18,6 +18,9 @@ package org.kie.workbench.common.stunner.bpmn.backend.workitem.service;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -25,6 +28,7 @@ import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
 import org.jboss.errai.bus.server.annotations.Service;
+import org.kie.workbench.common.stunner.bpmn.backend.workitem.WorkItemDefinitionParser;
 import org.kie.workbench.common.stunner.bpmn.backend.workitem.WorkItemDefinitionResources;
 import org.kie.workbench.common.stunner.bpmn.workitem.WorkItemDefinition;
 import org.kie.workbench.common.stunner.bpmn.workitem.service.WorkItemDefinitionService;
@@ -35,8 +39,6 @@ import org.uberfire.backend.vfs.DirectoryStream;
 import org.uberfire.backend.vfs.Path;
 import org.uberfire.backend.vfs.VFSService;
 
-import static org.kie.workbench.common.stunner.bpmn.backend.workitem.WorkItemDefinitionParser.parse;
-
 @ApplicationScoped
 @Service
 public class WorkItemDefinitionVFSLookupService
@@ -46,18 +48,22 @@ public class WorkItemDefinitionVFSLookupService
 
     private final VFSService vfsService;
     private final WorkItemDefinitionResources resources;
+    private final WorkItemDefinitionVFSCache cache;
 
     // CDI proxy.
     protected WorkItemDefinitionVFSLookupService() {
         this.vfsService = null;
         this.resources = null;
+        this.cache = null;
     }
 
     @Inject
     public WorkItemDefinitionVFSLookupService(final VFSService vfsService,
-                                              final WorkItemDefinitionResources resources) {
+                                              final WorkItemDefinitionResources resources,
+                                              final WorkItemDefinitionVFSCache cache) {
         this.vfsService = vfsService;
         this.resources = resources;
+        this.cache = cache;
     }
 
     @Override
@@ -74,25 +80,61 @@ public class WorkItemDefinitionVFSLookupService
 
     public Collection<WorkItemDefinition> search(final Metadata metadata,
                                                  final Path root) {
-        final DirectoryStream<Path> files =
-                vfsService.newDirectoryStream(root,
-                                              WorkItemDefinitionVFSLookupService::isWorkItemPathValid);
-        return StreamSupport.stream(files.spliterator(),
-                                    false)
+        return getFiles(root)
+                .stream()
                 .flatMap(resource -> get(metadata, resource).stream())
                 .collect(Collectors.toList());
     }
 
+    private List<Path> getFiles(final Path root) {
+        return cache.getFiles(root).orElseGet(() -> {
+            final DirectoryStream<Path> files =
+                    vfsService.newDirectoryStream(root,
+                                                  WorkItemDefinitionVFSLookupService::isWorkItemPathValid);
+            final List<Path> result = StreamSupport.stream(files.spliterator(),
+                                                           false)
+                    .collect(Collectors.toList());
+            cache.putFiles(root,
+                           result);
+            return result;
+        });
+    }
+
+    /**
+     * The definitions of the work item definition file, parsed once and kept until the file or one of its icons
+     * changes.
+     */
     public Collection<WorkItemDefinition> get(final Metadata metadata,
                                               final Path resource) {
+        return cache.getDefinitions(resource,
+                                    metadata.getRoot())
+                .orElseGet(() -> {
+                    final Set<String> icons = new HashSet<>();
+                    final Collection<WorkItemDefinition> definitions = parse(metadata,
+                                                                             resource,
+                                                                             icons);
+                    cache.putDefinitions(resource,
+                                         metadata.getRoot(),
+                                         definitions,
+                                         icons);
+                    return definitions;
+                });
+    }
+
+    private Collection<WorkItemDefinition> parse(final Metadata metadata,
+                                                 final Path resource,
+                                                 final Set<String> icons) {
         final String content = vfsService.readAllString(resource);
         try {
 
-            return parse(content,
-                         wid -> resource.toURI(),
-                         icon -> resources.generateIconDataURI(metadata,
-                                                               resource,
-                                                               icon));
+            return WorkItemDefinitionParser.parse(content,
+                                                  wid -> resource.toURI(),
+                                                  icon -> {
+                                                      icons.add(icon.substring(icon.lastIndexOf('/') + 1));
+                                                      return resources.generateIconDataURI(metadata,
+                                                                                           resource,
+                                                                                           icon);
+                                                  });
         } catch (Exception e) {
             LOG.error("Error parsing work item definitions for path [" + resource + "]", e);
             return Collections.emptyList();
@@ -16,6 +16,7 @@
 
 package org.kie.workbench.common.stunner.bpmn.backend.converters.tostunner;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -34,24 +35,34 @@ import org.kie.workbench.common.stunner.bpmn.backend.converters.tostunner.proper
 import org.kie.workbench.common.stunner.bpmn.definition.BPMNDiagramImpl;
 import org.kie.workbench.common.stunner.bpmn.definition.BPMNViewDefinition;
 import org.kie.workbench.common.stunner.bpmn.definition.EmbeddedSubprocess;
+import org.kie.workbench.common.stunner.bpmn.definition.IntermediateTimerEvent;
+import org.kie.workbench.common.stunner.bpmn.definition.UserTask;
 import org.kie.workbench.common.stunner.core.backend.StunnerTestingGraphBackendAPI;
 import org.kie.workbench.common.stunner.core.definition.adapter.binding.BindableAdapterUtils;
 import org.kie.workbench.common.stunner.core.diagram.Diagram;
 import org.kie.workbench.common.stunner.core.diagram.Metadata;
 import org.kie.workbench.common.stunner.core.diagram.MetadataImpl;
+import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.content.Bounds;
 import org.kie.workbench.common.stunner.core.graph.content.definition.DefinitionSet;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
 import org.kie.workbench.common.stunner.core.graph.content.view.ViewImpl;
+import org.kie.workbench.common.stunner.core.rule.RuleViolation;
+import org.kie.workbench.common.stunner.core.rule.violations.DockingRuleViolation;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.kie.workbench.common.stunner.bpmn.backend.converters.fromstunner.Factories.dc;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.Silent.class)
@@ -62,6 +73,14 @@ public class GraphBuilderTest {
     private static final String SUBPROCESS1_ID = "SUBPROCESS1_ID";
     private static final String SUBPROCESS2_ID = "SUBPROCESS2_ID";
     private static final String SUBPROCESS3_ID = "SUBPROCESS3_ID";
+    private static final double SUBPROCESS1_X = 10;
+    private static final double SUBPROCESS1_Y = 10;
+    private static final double SUBPROCESS2_X = 20;
+    private static final double SUBPROCESS2_Y = 20;
+    private static final double SUBPROCESS3_X = 30;
+    private static final double SUBPROCESS3_Y = 30;
+    private static final String TASK_ID = "TASK_ID";
+    private static final String DOCKED_ID = "DOCKED_ID";
 
     private DefinitionResolver definitionResolver;
 
@@ -81,6 +100,10 @@ public class GraphBuilderTest {
 
     private GraphBuilder graphBuilder;
 
+    private StunnerTestingGraphBackendAPI api;
+
+    private TypedFactoryManager typedFactoryManager;
+
     @Before
     @SuppressWarnings("unchecked")
     public void setUp() throws Exception {
@@ -92,9 +115,9 @@ public class GraphBuilderTest {
         when(definitions.getDiagrams()).thenReturn(diagrams);
         when(definitions.getRelationships()).thenReturn(Collections.emptyList());
         definitionResolver = new DefinitionResolver(definitions, Collections.emptyList());
-        StunnerTestingGraphBackendAPI api = StunnerTestingGraphBackendAPI.build(BPMNDefinitionSet.class,
-                                                                                new BPMNTestDefinitionFactory());
-        TypedFactoryManager typedFactoryManager = new TypedFactoryManager(api.getFactoryManager());
+        api = StunnerTestingGraphBackendAPI.build(BPMNDefinitionSet.class,
+                                                  new BPMNTestDefinitionFactory());
+        typedFactoryManager = new TypedFactoryManager(api.getFactoryManager());
         Metadata metadata =
                 new MetadataImpl.MetadataImplBuilder(
                         BindableAdapterUtils.getDefinitionSetId(BPMNDefinitionSet.class)).build();
@@ -114,47 +137,98 @@ public class GraphBuilderTest {
 
     @Test
     public void testBoundsCalculation() {
+        graphBuilder.buildGraph(mockSubprocesses());
+
+        //stunner model must have the relative coordinates
+        assertNodePosition(SUBPROCESS1_ID, SUBPROCESS1_X, SUBPROCESS1_Y);
+        assertNodePosition(SUBPROCESS2_ID, SUBPROCESS2_X, SUBPROCESS2_Y);
+        assertNodePosition(SUBPROCESS3_ID, SUBPROCESS3_X, SUBPROCESS3_Y);
+    }
+
+    @Test
+    public void testBoundsCalculationWhenLoaded() {
+        graphBuilder.loadGraph(mockSubprocesses());
+
+        //stunner model must have the relative coordinates
+        assertNodePosition(SUBPROCESS1_ID, SUBPROCESS1_X, SUBPROCESS1_Y);
+        assertNodePosition(SUBPROCESS2_ID, SUBPROCESS2_X, SUBPROCESS2_Y);
+        assertNodePosition(SUBPROCESS3_ID, SUBPROCESS3_X, SUBPROCESS3_Y);
+        verify(api.commandManager, never()).execute(any(), any());
+    }
+
+    @Test
+    public void testValidateReportsTheDockingViolations() {
+        //a task can't be docked on a task
+        graphBuilder.load(mockDockedNode(UserTask.class));
+
+        List<RuleViolation> violations = new ArrayList<>();
+        graphBuilder.validate(violations::addAll);
+
+        assertTrue(violations.stream().anyMatch(violation -> violation instanceof DockingRuleViolation));
+    }
+
+    @Test
+    public void testValidateAcceptsTheBoundaryEvents() {
+        graphBuilder.load(mockDockedNode(IntermediateTimerEvent.class));
+
+        List<RuleViolation> violations = new ArrayList<>();
+        graphBuilder.validate(violations::addAll);
+
+        assertFalse(violations.stream().anyMatch(violation -> violation instanceof DockingRuleViolation));
+    }
+
+    private BpmnNode mockDockedNode(Class<? extends BPMNViewDefinition> dockedType) {
+        BpmnNode rootNode = newBpmnNode(DIAGRAM_UUID, BPMNDiagramImpl.class, 0, 0, 1000, 1000);
+        BpmnNode taskNode = newBpmnNode(TASK_ID, UserTask.class, 100, 100, 150, 100);
+        BpmnNode dockedNode = newBpmnNode(DOCKED_ID, dockedType, 125, 175, 50, 50).docked();
+        taskNode.setParent(rootNode);
+        dockedNode.setParent(rootNode);
+        rootNode.addEdge(BpmnEdge.docked(taskNode, dockedNode));
+        return rootNode;
+    }
+
+    private BpmnNode newBpmnNode(String uuid, Class<? extends BPMNViewDefinition> type, double x, double y, double width, double height) {
+        Node<View<BPMNViewDefinition>, Edge> node = typedFactoryManager.newNode(uuid, type);
+        node.getContent().setBounds(Bounds.create(x, y, x + width, y + height));
+        return mockBpmnNode(node);
+    }
+
+    private BpmnNode mockSubprocesses() {
         //subprocess1
-        double subprocess1X = 10;
-        double subprocess1Y = 10;
         double subprocess1Width = 100;
         double subprocess1Height = 200;
         EmbeddedSubprocess subprocess1Definition = mock(EmbeddedSubprocess.class);
         Node<? extends View<? extends BPMNViewDefinition>, ?> subprocess1 = mockNode(subprocess1Definition,
-                                                                                     subprocess1X,
-                                                                                     subprocess1Y,
+                                                                                     SUBPROCESS1_X,
+                                                                                     SUBPROCESS1_Y,
                                                                                      subprocess1Width,
                                                                                      subprocess1Height);
         when(subprocess1.getUUID()).thenReturn(SUBPROCESS1_ID);
         BpmnNode subprocess1Node = mockBpmnNode(subprocess1);
 
         //subprocess2
-        double subprocess2X = 20;
-        double subprocess2Y = 20;
         double subprocess2Width = 70;
         double subprocess2Height = 170;
         EmbeddedSubprocess subprocess2Definition = mock(EmbeddedSubprocess.class);
         //subprocess1 -> subprocess2
         //absolute coordinates in eclipse model
         Node<? extends View<? extends BPMNViewDefinition>, ?> subprocess2 = mockNode(subprocess2Definition,
-                                                                                     subprocess1X + subprocess2X,
-                                                                                     subprocess1Y + subprocess2Y,
+                                                                                     SUBPROCESS1_X + SUBPROCESS2_X,
+                                                                                     SUBPROCESS1_Y + SUBPROCESS2_Y,
                                                                                      subprocess2Width,
                                                                                      subprocess2Height);
         when(subprocess2.getUUID()).thenReturn(SUBPROCESS2_ID);
         BpmnNode subprocess2Node = mockBpmnNode(subprocess2);
 
         //subprocess3
-        double subprocess3X = 30;
-        double subprocess3Y = 30;
         double subprocess3Width = 30;
         double subprocess3Height = 120;
         EmbeddedSubprocess subprocess3Definition = mock(EmbeddedSubprocess.class);
         //subprocess1 -> subprocess2 -> subprocess3
         //absolute coordinates in eclipse model
         Node<? extends View<? extends BPMNViewDefinition>, ?> subprocess3 = mockNode(subprocess3Definition,
-                                                                                     subprocess1X + subprocess2X + subprocess3X,
-                                                                                     subprocess1Y + subprocess2Y + subprocess3Y,
+                                                                                     SUBPROCESS1_X + SUBPROCESS2_X + SUBPROCESS3_X,
+                                                                                     SUBPROCESS1_Y + SUBPROCESS2_Y + SUBPROCESS3_Y,
                                                                                      subprocess3Width, subprocess3Height);
         when(subprocess3.getUUID()).thenReturn(SUBPROCESS3_ID);
         BpmnNode subprocess3Node = mockBpmnNode(subprocess3);
@@ -167,12 +241,7 @@ public class GraphBuilderTest {
         subprocess1Node.setParent(rootNode);
         subprocess2Node.setParent(subprocess1Node);
         subprocess3Node.setParent(subprocess2Node);
-        graphBuilder.buildGraph(rootNode);
-
-        //stunner model must have the relative coordinates
-        assertNodePosition(SUBPROCESS1_ID, subprocess1X, subprocess1Y);
-        assertNodePosition(SUBPROCESS2_ID, subprocess2X, subprocess2Y);
-        assertNodePosition(SUBPROCESS3_ID, subprocess3X, subprocess3Y);
+        return rootNode;
     }
 
     @SuppressWarnings("unchecked")
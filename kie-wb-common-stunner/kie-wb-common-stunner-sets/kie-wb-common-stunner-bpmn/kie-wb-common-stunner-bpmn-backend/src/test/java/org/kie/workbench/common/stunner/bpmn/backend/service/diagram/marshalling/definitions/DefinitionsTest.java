@@ -16,12 +16,17 @@
 
 package org.kie.workbench.common.stunner.bpmn.backend.service.diagram.marshalling.definitions;
 
+import java.io.ByteArrayOutputStream;
+
+import org.eclipse.bpmn2.Definitions;
 import org.junit.Test;
 import org.kie.workbench.common.stunner.bpmn.backend.service.diagram.marshalling.BPMNDiagramMarshallerBaseTest;
 import org.kie.workbench.common.stunner.core.diagram.Diagram;
 import org.kie.workbench.common.stunner.core.diagram.Metadata;
 import org.kie.workbench.common.stunner.core.graph.Graph;
 
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertNotNull;
 import static junit.framework.TestCase.assertTrue;
 
 public class DefinitionsTest extends BPMNDiagramMarshallerBaseTest {
@@ -45,4 +50,20 @@ public class DefinitionsTest extends BPMNDiagramMarshallerBaseTest {
         String marshall = marshaller.marshall(d);
         assertTrue(marshall.contains("schemaLocation"));
     }
+
+    @Test
+    public void definitionsShouldBeBuiltWithoutRendering() throws Exception {
+        Diagram<Graph, Metadata> d = unmarshall(marshaller, BPMN_BASIC_FILE_PATH);
+        Definitions definitions = marshaller.marshallToBpmn2Definitions(d);
+        assertNotNull(definitions.eResource());
+        assertFalse(definitions.getRootElements().isEmpty());
+    }
+
+    @Test
+    public void definitionsShouldBeRenderedToTheOutputStream() throws Exception {
+        Diagram<Graph, Metadata> d = unmarshall(marshaller, BPMN_BASIC_FILE_PATH);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        marshaller.marshall(d, outputStream);
+        assertTrue(outputStream.toString("UTF-8").contains("targetNamespace"));
+    }
 }
@@ -21,14 +21,20 @@ import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 import org.kie.workbench.common.stunner.bpmn.backend.service.diagram.marshalling.BPMNDiagramMarshallerBaseTest;
-import org.kie.workbench.common.stunner.core.command.Command;
-import org.kie.workbench.common.stunner.core.graph.command.impl.UpdateElementPositionCommand;
-import org.mockito.ArgumentCaptor;
+import org.kie.workbench.common.stunner.core.diagram.Diagram;
+import org.kie.workbench.common.stunner.core.diagram.Metadata;
+import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Graph;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.content.Bounds;
+import org.kie.workbench.common.stunner.core.graph.content.relationship.Child;
+import org.kie.workbench.common.stunner.core.graph.content.relationship.Dock;
+import org.kie.workbench.common.stunner.core.graph.content.view.View;
 
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 public class DockedEventsTest extends BPMNDiagramMarshallerBaseTest {
@@ -41,18 +47,32 @@ public class DockedEventsTest extends BPMNDiagramMarshallerBaseTest {
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     public void testDockedElementProcessingOrder() throws Exception {
-        final String TASK_ID = "_02DDF5FF-E1E4-4DA3-9971-70CFB158A08C";
-        final String DOCKED_NODE_ID = "_6A26F0A2-3368-4769-B9E9-A6290530ED8F";
-        unmarshall(marshaller, JBPM_7645);
-        ArgumentCaptor<Command> cmd = ArgumentCaptor.forClass(Command.class);
-        verify(api.commandManager, times(8)).execute(any(), cmd.capture());
-        List<Command> commands = cmd.getAllValues();
-        List<UpdateElementPositionCommand> posCmds = commands.stream()
-                .filter(UpdateElementPositionCommand.class::isInstance)
-                .map(UpdateElementPositionCommand.class::cast)
+        final String SUBPROCESS_ID = "_02DDF5FF-E1E4-4DA3-9971-70CFB158A08C";
+        final String TASK_ID = "_6A26F0A2-3368-4769-B9E9-A6290530ED8F";
+        final String DOCKED_NODE_ID = "_D37CB404-5190-4CF4-92A1-E5BDBFDD3276";
+        Diagram<Graph, Metadata> diagram = unmarshall(marshaller, JBPM_7645);
+        // the graph is loaded directly, without commands
+        verify(api.commandManager, never()).execute(any(), any());
+
+        Node<View, Edge> subprocess = diagram.getGraph().getNode(SUBPROCESS_ID);
+        List<String> children = subprocess.getOutEdges().stream()
+                .filter(e -> e.getContent() instanceof Child)
+                .map(e -> e.getTargetNode().getUUID())
+                .collect(toList());
+        assertThat(children).containsExactly(TASK_ID, DOCKED_NODE_ID);
+
+        Node<View, Edge> task = diagram.getGraph().getNode(TASK_ID);
+        List<String> docked = task.getOutEdges().stream()
+                .filter(e -> e.getContent() instanceof Dock)
+                .map(e -> e.getTargetNode().getUUID())
                 .collect(toList());
-        assertThat(posCmds.get(0).getNode().getUUID()).isEqualTo(TASK_ID);
-        assertThat(posCmds.get(1).getNode().getUUID()).isEqualTo(DOCKED_NODE_ID);
+        assertThat(docked).containsExactly(DOCKED_NODE_ID);
+
+        // relative to the subprocess
+        Bounds bounds = task.getContent().getBounds();
+        assertThat(bounds.getUpperLeft().getX()).isEqualTo(53d);
+        assertThat(bounds.getUpperLeft().getY()).isEqualTo(28d);
     }
 }
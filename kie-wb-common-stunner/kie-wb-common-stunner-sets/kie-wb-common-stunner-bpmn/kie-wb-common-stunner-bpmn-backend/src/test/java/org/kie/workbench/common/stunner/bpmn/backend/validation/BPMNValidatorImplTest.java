@@ -38,6 +38,8 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 
@@ -76,6 +78,15 @@ public class BPMNValidatorImplTest {
         assertTrue(violations.isEmpty());
     }
 
+    @Test
+    public void validateSerializedIsCached() {
+        final String process = getSerializedProcess(BPMN_VALIDATION_ISSUES);
+        final Collection<BPMNViolation> violations = bpmnValidador.validate(process, PROCESS_UUID);
+        assertEquals(10, violations.size());
+        assertSame(violations, bpmnValidador.validate(process, PROCESS_UUID));
+        assertNotSame(violations, bpmnValidador.validate(getSerializedProcess(BPMN_VALID), PROCESS_UUID));
+    }
+
     @Test
     public void validateWithExceptionsOnParsingXML() {
         final Collection<BPMNViolation> violations = bpmnValidador.validate("INVALID_XML", PROCESS_UUID);
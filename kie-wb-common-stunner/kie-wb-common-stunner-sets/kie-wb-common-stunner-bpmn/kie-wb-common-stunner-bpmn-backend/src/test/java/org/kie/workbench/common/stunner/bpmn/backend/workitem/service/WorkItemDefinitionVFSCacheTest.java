@@ -0,0 +1,127 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.bpmn.backend.workitem.service;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.stunner.bpmn.workitem.WorkItemDefinition;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.backend.vfs.PathFactory;
+import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class WorkItemDefinitionVFSCacheTest {
+
+    private WorkItemDefinitionVFSCache cache;
+
+    private Path root;
+
+    private Path folder;
+
+    private Path wid;
+
+    private WorkItemDefinition definition;
+
+    @Before
+    public void setup() {
+        cache = new WorkItemDefinitionVFSCache();
+        root = PathFactory.newPath("project", "default://master@repo/project");
+        folder = PathFactory.newPath("resources", "default://master@repo/project/src/main/resources");
+        wid = PathFactory.newPath("Email.wid", "default://master@repo/project/src/main/resources/Email.wid");
+        definition = new WorkItemDefinition().setName("Email");
+    }
+
+    @Test
+    public void testDefinitions() {
+        cache.putDefinitions(wid, root, singletonList(definition), singleton("email.png"));
+
+        assertEquals(singletonList(definition), cache.getDefinitions(wid, root).get());
+        assertFalse(cache.getDefinitions(wid, PathFactory.newPath("other", "default://master@repo/other")).isPresent());
+    }
+
+    @Test
+    public void testDefinitionsAreKeptForEachRoot() {
+        final Path otherRoot = PathFactory.newPath("other", "default://master@repo/other");
+        final WorkItemDefinition otherDefinition = new WorkItemDefinition().setName("Email");
+        cache.putDefinitions(wid, root, singletonList(definition), singleton("email.png"));
+        cache.putDefinitions(wid, otherRoot, singletonList(otherDefinition), singleton("email.png"));
+
+        assertEquals(singletonList(definition), cache.getDefinitions(wid, root).get());
+        assertEquals(singletonList(otherDefinition), cache.getDefinitions(wid, otherRoot).get());
+
+        cache.onResourceUpdated(new ResourceUpdatedEvent(wid, "message", null));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testEmptyFolderIsNotKept() {
+        cache.putFiles(folder, Collections.emptyList());
+
+        assertFalse(cache.getFiles(folder).isPresent());
+    }
+
+    @Test
+    public void testUpdatedWorkItemDefinitionIsRemoved() {
+        cache.putFiles(folder, singletonList(wid));
+        cache.putDefinitions(wid, root, singletonList(definition), singleton("email.png"));
+
+        cache.onResourceUpdated(new ResourceUpdatedEvent(wid, "message", null));
+
+        assertFalse(cache.getDefinitions(wid, root).isPresent());
+        assertTrue(cache.getFiles(folder).isPresent());
+    }
+
+    @Test
+    public void testAddedFileRemovesTheFilesOfItsFolder() {
+        cache.putFiles(folder, singletonList(wid));
+        cache.putDefinitions(wid, root, singletonList(definition), singleton("email.png"));
+
+        cache.onResourceAdded(new ResourceAddedEvent(PathFactory.newPath("Log.wid", "default://master@repo/project/src/main/resources/Log.wid"), "message", null));
+
+        assertFalse(cache.getFiles(folder).isPresent());
+        assertTrue(cache.getDefinitions(wid, root).isPresent());
+    }
+
+    @Test
+    public void testUpdatedIconRemovesTheDefinitions() {
+        cache.putDefinitions(wid, root, singletonList(definition), singleton("email.png"));
+
+        cache.onResourceUpdated(new ResourceUpdatedEvent(PathFactory.newPath("email.png", "default://master@repo/project/global/email.png"), "message", null));
+
+        assertFalse(cache.getDefinitions(wid, root).isPresent());
+    }
+
+    @Test
+    public void testDeletedFolderRemovesItsEntries() {
+        cache.putFiles(folder, singletonList(wid));
+        cache.putDefinitions(wid, root, singletonList(definition), singleton("email.png"));
+
+        cache.onResourceDeleted(new ResourceDeletedEvent(folder, "message", null));
+
+        assertEquals(0, cache.size());
+    }
+}
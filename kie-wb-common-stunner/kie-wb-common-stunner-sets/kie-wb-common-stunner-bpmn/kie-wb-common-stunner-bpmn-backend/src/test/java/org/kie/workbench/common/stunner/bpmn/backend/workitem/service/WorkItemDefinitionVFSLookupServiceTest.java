@@ -33,6 +33,7 @@ import org.uberfire.backend.vfs.DirectoryStream;
 import org.uberfire.backend.vfs.Path;
 import org.uberfire.backend.vfs.VFSService;
 import org.uberfire.backend.vfs.impl.DirectoryStreamImpl;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -76,7 +77,8 @@ public class WorkItemDefinitionVFSLookupServiceTest {
         when(resources.resolveResources(eq(metadata))).thenReturn(Collections.singleton(path));
 
         this.tested = new WorkItemDefinitionVFSLookupService(vfsService,
-                                                             resources);
+                                                             resources,
+                                                             new WorkItemDefinitionVFSCache());
     }
 
     @Test
@@ -114,4 +116,42 @@ public class WorkItemDefinitionVFSLookupServiceTest {
         WorkItemDefinition wid = result.iterator().next();
         assertEquals("Email", wid.getName());
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testExecuteIsCached() {
+        when(path.toURI()).thenReturn("default://master@repo/project/src/main/resources");
+        when(widPath.toURI()).thenReturn("default://master@repo/project/src/main/resources/Email.wid");
+
+        tested.execute(metadata);
+        Collection<WorkItemDefinition> result = tested.execute(metadata);
+
+        assertEquals(1, result.size());
+        assertEquals("Email", result.iterator().next().getName());
+        verify(vfsService, times(1))
+                .newDirectoryStream(eq(path),
+                                    any(DirectoryStream.Filter.class));
+        verify(vfsService, times(1)).readAllString(eq(widPath));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testExecuteWhenTheWorkItemDefinitionIsUpdated() {
+        when(path.toURI()).thenReturn("default://master@repo/project/src/main/resources");
+        when(widPath.toURI()).thenReturn("default://master@repo/project/src/main/resources/Email.wid");
+        final WorkItemDefinitionVFSCache cache = new WorkItemDefinitionVFSCache();
+        tested = new WorkItemDefinitionVFSLookupService(vfsService,
+                                                        resources,
+                                                        cache);
+
+        tested.execute(metadata);
+        cache.onResourceUpdated(new ResourceUpdatedEvent(widPath, "message", null));
+        Collection<WorkItemDefinition> result = tested.execute(metadata);
+
+        assertEquals(1, result.size());
+        verify(vfsService, times(2))
+                .newDirectoryStream(eq(path),
+                                    any(DirectoryStream.Filter.class));
+        verify(vfsService, times(2)).readAllString(eq(widPath));
+    }
 }